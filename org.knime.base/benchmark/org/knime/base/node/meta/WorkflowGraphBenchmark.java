@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.base.node.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.base.node.preproc.createtablestructure.CreateTableStructureNodeFactory;
+import org.knime.base.node.util.cache.CacheNodeFactory;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the graph traversals of a large workflow (successor lookups, breadth first order of all nodes)
+ * and of structural changes, which invalidate the cached traversal results. The workflow is a tree of pass-through
+ * nodes below a single source, each node connected to a (seeded) random predecessor. Lives next to org.knime.base
+ * as it needs node implementations, in a folder that is not part of the bundle build (JMH is no bundle
+ * dependency); compile and run it with JMH and org.knime.base (plus its dependencies) on the class path, e.g.
+ * <code>java -cp ... org.openjdk.jmh.Main WorkflowGraphBenchmark</code>.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class WorkflowGraphBenchmark {
+
+    /** Number of nodes in the workflow. */
+    @Param({"500", "5000"})
+    public int m_nrNodes;
+
+    private WorkflowManager m_wfm;
+
+    private NodeID m_source;
+
+    private final List<NodeID> m_nodes = new ArrayList<NodeID>();
+
+    /** Creates the source and the tree of nodes below it. */
+    @Setup(Level.Trial)
+    public void createWorkflow() {
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Workflow Graph Benchmark", new WorkflowCreationHelper());
+        m_source = m_wfm.createAndAddNode(new CreateTableStructureNodeFactory());
+        m_nodes.add(m_source);
+        Random random = new Random(42);
+        for (int i = 1; i < m_nrNodes; i++) {
+            NodeID node = m_wfm.createAndAddNode(new CacheNodeFactory());
+            m_wfm.addConnection(m_nodes.get(random.nextInt(m_nodes.size())), 1, node, 1);
+            m_nodes.add(node);
+        }
+    }
+
+    /** Removes the workflow. */
+    @TearDown(Level.Trial)
+    public void removeWorkflow() {
+        WorkflowManager.ROOT.removeProject(m_wfm.getID());
+    }
+
+    /** Successors of the source, i.e. the entire workflow (served from the reachability cache once computed). */
+    @Benchmark
+    public boolean canResetSource() {
+        return m_wfm.canResetNode(m_source);
+    }
+
+    /** Adds a new leaf node and removes it again, followed by a successor lookup of the source, which needs to
+     * re-evaluate the part of the graph upstream of the change. */
+    @Benchmark
+    public boolean addAndRemoveLeaf() {
+        NodeID leaf = m_wfm.createAndAddNode(new CacheNodeFactory());
+        m_wfm.addConnection(m_nodes.get(m_nodes.size() / 2), 1, leaf, 1);
+        boolean canReset = m_wfm.canResetNode(m_source);
+        m_wfm.removeNode(leaf);
+        return canReset;
+    }
+
+    /** Resets and configures all nodes in breadth first order (served from the topological index). */
+    @Benchmark
+    @Measurement(iterations = 5, time = 2)
+    public void resetAndConfigureAll() {
+        m_wfm.resetAndConfigureAll();
+    }
+}
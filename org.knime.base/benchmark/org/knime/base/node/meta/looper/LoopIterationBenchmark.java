@@ -0,0 +1,147 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knime.base.node.preproc.createtablestructure.CreateTableStructureNodeFactory;
+import org.knime.base.node.util.cache.CacheNodeFactory;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of a counting loop whose body is a chain of pass-through nodes, with and without
+ * {@link KNIMEConstants#PROPERTY_LOOP_FAST_ITERATION} (the property is read once per JVM, hence one fork per
+ * variant). Not part of the bundle build (JMH is no bundle dependency); compile and run it with JMH and the
+ * org.knime.base bundle (plus its dependencies) on the class path, e.g.
+ * <code>java -cp ... org.openjdk.jmh.Main LoopIterationBenchmark</code>.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class LoopIterationBenchmark {
+
+    /** Number of loop iterations. */
+    @Param({"100", "1000"})
+    public int m_iterations;
+
+    /** Number of nodes in the loop body. */
+    @Param({"1", "20"})
+    public int m_bodySize;
+
+    private WorkflowManager m_wfm;
+
+    /** Creates table source - loop start - body - loop end.
+     * @throws InvalidSettingsException not expected */
+    @Setup(Level.Trial)
+    public void createWorkflow() throws InvalidSettingsException {
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Loop Iteration Benchmark", new WorkflowCreationHelper());
+        NodeID source = m_wfm.createAndAddNode(new CreateTableStructureNodeFactory());
+        NodeID loopStart = m_wfm.createAndAddNode(new LoopStartCountNodeFactory());
+        NodeSettings settings = new NodeSettings("loop start");
+        m_wfm.saveNodeSettings(loopStart, settings);
+        settings.getNodeSettings("model").addInt("loops", m_iterations);
+        m_wfm.loadNodeSettings(loopStart, settings);
+        m_wfm.addConnection(source, 1, loopStart, 1);
+        NodeID previous = loopStart;
+        for (int i = 0; i < m_bodySize; i++) {
+            NodeID bodyNode = m_wfm.createAndAddNode(new CacheNodeFactory());
+            m_wfm.addConnection(previous, 1, bodyNode, 1);
+            previous = bodyNode;
+        }
+        NodeID loopEnd = m_wfm.createAndAddNode(new LoopEndNodeFactory());
+        m_wfm.addConnection(previous, 1, loopEnd, 1);
+    }
+
+    /** Resets the loop so that each invocation runs all iterations. */
+    @Setup(Level.Invocation)
+    public void reset() {
+        m_wfm.resetAndConfigureAll();
+    }
+
+    /** Removes the workflow. */
+    @TearDown(Level.Trial)
+    public void removeWorkflow() {
+        WorkflowManager.ROOT.removeProject(m_wfm.getID());
+    }
+
+    /** Body is reset and configured in each iteration (default). */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + KNIMEConstants.PROPERTY_LOOP_FAST_ITERATION + "=false")
+    public boolean executeLoop() {
+        return m_wfm.executeAllAndWaitUntilDone();
+    }
+
+    /** Body is only re-executed as long as the specs of the loop start do not change. */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + KNIMEConstants.PROPERTY_LOOP_FAST_ITERATION + "=true")
+    public boolean executeLoopFastIteration() {
+        return m_wfm.executeAllAndWaitUntilDone();
+    }
+}
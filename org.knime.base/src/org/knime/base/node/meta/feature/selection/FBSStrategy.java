@@ -49,6 +49,7 @@
 package org.knime.base.node.meta.feature.selection;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -81,13 +82,33 @@ public class FBSStrategy extends AbstractFeatureSelectionStrategy {
      */
     @Override
     protected List<Integer> getIncludedInThisIteration() {
+        return getIncludedFeaturesFor(getCurrentFeature());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Integer> getIncludedFeaturesFor(final Integer feature) {
         final List<Integer> tempIncl = new LinkedList<>(m_included);
-        if (!m_isFirstIteration) {
-            tempIncl.remove(getCurrentFeature());
+        // -1 stands for the first iteration which contains all columns
+        if (feature.intValue() >= 0) {
+            tempIncl.remove(feature);
         }
         return tempIncl;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Integer> getRemainingFeaturesOfRound() {
+        if (m_isFirstIteration) {
+            return Collections.singletonList(getCurrentFeature());
+        }
+        return new ArrayList<>(m_available.subList(m_featurePointer, m_available.size()));
+    }
+
     /**
      * {@inheritDoc}
      */
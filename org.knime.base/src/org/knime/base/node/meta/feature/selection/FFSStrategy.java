@@ -83,11 +83,27 @@ public class FFSStrategy extends AbstractFeatureSelectionStrategy {
      */
     @Override
     protected List<Integer> getIncludedInThisIteration() {
+        return getIncludedFeaturesFor(getCurrentFeature());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Integer> getIncludedFeaturesFor(final Integer feature) {
         final List<Integer> tempIncl = new ArrayList<>(m_includedColumns);
-        tempIncl.add(getCurrentFeature());
+        tempIncl.add(feature);
         return tempIncl;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Integer> getRemainingFeaturesOfRound() {
+        return new ArrayList<>(m_availableColumns.subList(m_featurePointer, m_availableColumns.size()));
+    }
+
     /**
      * {@inheritDoc}
      */
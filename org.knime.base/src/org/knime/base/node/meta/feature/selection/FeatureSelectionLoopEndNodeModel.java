@@ -50,8 +50,11 @@ package org.knime.base.node.meta.feature.selection;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import org.knime.base.node.meta.looper.ParallelLoopIterations;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -66,13 +69,15 @@ import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
 import org.knime.core.node.workflow.FlowVariable;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContent;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  *
  * @author Adrian Nembach, KNIME.com
  */
-public class FeatureSelectionLoopEndNodeModel extends NodeModel implements LoopEndNode {
+public class FeatureSelectionLoopEndNodeModel extends NodeModel implements LoopEndParallelizeNode {
 
     private FeatureSelector m_featureSelector;
 
@@ -82,6 +87,9 @@ public class FeatureSelectionLoopEndNodeModel extends NodeModel implements LoopE
 
     private BufferedDataContainer m_resultTable;
 
+    // candidates of the current search round that are evaluated in parallel, if any
+    private final ParallelLoopIterations m_parallelIterations = new ParallelLoopIterations();
+
     /**
      * Constructor
      */
@@ -145,10 +153,22 @@ public class FeatureSelectionLoopEndNodeModel extends NodeModel implements LoopE
             m_featureSelector.setResultTableContainer(m_resultTable);
         }
 
-        m_featureSelector.addScore(score);
-
+        if (m_parallelIterations.isActive()) {
+            // the other candidates of this search round were evaluated in parallel, add all scores in candidate order
+            final List<ParallelizedChunkContent> chunks = m_parallelIterations.awaitChunks(exec);
+            final List<Double> scores = new ArrayList<>(chunks.size() + 1);
+            scores.add(score);
+            for (ParallelizedChunkContent chunk : chunks) {
+                scores.add(getScore(chunk.getOutFlowVariables()));
+            }
+            m_parallelIterations.setChunkMaster(null);
+            m_featureSelector.addScores(scores);
+            m_iteration += scores.size();
+        } else {
+            m_featureSelector.addScore(score);
+            m_iteration++;
+        }
 
-        m_iteration++;
         if (m_featureSelector.continueLoop()) {
             continueLoop();
             return null;
@@ -157,6 +177,31 @@ public class FeatureSelectionLoopEndNodeModel extends NodeModel implements LoopE
         return new PortObject[]{m_resultTable.getTable(), m_featureSelector.getFeatureSelectionModel()};
     }
 
+    private double getScore(final Map<String, FlowVariable> flowVariables) {
+        final FlowVariable scoreVariable = flowVariables.get(m_settings.getScoreVariableName());
+        if (scoreVariable == null || scoreVariable.getType() != FlowVariable.Type.DOUBLE) {
+            throw new IllegalStateException("The score variable \"" + m_settings.getScoreVariableName()
+                + "\" of type Double is not available at the end of a parallel iteration.");
+        }
+        return scoreVariable.getDoubleValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelIterations.setChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelIterations.statusChanged();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -207,6 +252,7 @@ public class FeatureSelectionLoopEndNodeModel extends NodeModel implements LoopE
         m_iteration = 0;
         m_resultTable = null;
         m_featureSelector = null;
+        m_parallelIterations.setChunkMaster(null);
     }
 
 }
@@ -86,6 +86,8 @@ public class FeatureSelectionLoopStartNodeDialogPane extends NodeDialogPane {
 
     private final JCheckBox m_useNrFeaturesThresholdCheckBox;
 
+    private final JSpinner m_parallelCandidatesSpinner;
+
     /**
      *
      */
@@ -110,6 +112,9 @@ public class FeatureSelectionLoopStartNodeDialogPane extends NodeDialogPane {
             }
         });
         m_useNrFeaturesThresholdCheckBox.doClick();
+        m_parallelCandidatesSpinner = new JSpinner(new SpinnerNumberModel(1, 1, Integer.MAX_VALUE, 1));
+        m_parallelCandidatesSpinner.setToolTipText("Number of feature subsets of a search step that are evaluated at "
+            + "the same time. Only use values > 1 if the loop body doesn't depend on previous iterations.");
         layout();
     }
 
@@ -151,6 +156,13 @@ public class FeatureSelectionLoopStartNodeDialogPane extends NodeDialogPane {
         gbc.fill = GridBagConstraints.NONE;
         panel.add(m_nrFeaturesThresholdSpinner, gbc);
 
+        gbc.gridy += 1;
+        gbc.gridx = 0;
+        panel.add(new JLabel("Number of candidates evaluated in parallel"), gbc);
+        gbc.gridx = 1;
+        gbc.fill = GridBagConstraints.NONE;
+        panel.add(m_parallelCandidatesSpinner, gbc);
+
         addTab("Options", panel);
     }
 
@@ -170,6 +182,7 @@ public class FeatureSelectionLoopStartNodeDialogPane extends NodeDialogPane {
         } else {
             cfg.setNrFeaturesThreshold((int)m_nrFeaturesThresholdSpinner.getValue());
         }
+        cfg.setParallelCandidates((int)m_parallelCandidatesSpinner.getValue());
         cfg.save(settings);
     }
 
@@ -190,6 +203,7 @@ public class FeatureSelectionLoopStartNodeDialogPane extends NodeDialogPane {
             m_nrFeaturesThresholdSpinner.setValue(cfg.getNrFeaturesThreshold());
         }
         m_selectionStrategySelectionComboBox.setSelectedItem(cfg.getSelectionStrategy());
+        m_parallelCandidatesSpinner.setValue(cfg.getParallelCandidates());
     }
 
 }
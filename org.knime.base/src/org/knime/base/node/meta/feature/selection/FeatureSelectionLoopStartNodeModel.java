@@ -51,9 +51,12 @@ package org.knime.base.node.meta.feature.selection;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -63,14 +66,19 @@ import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * Node Model of the start of a feature selection loop.
  *
  * @author Adrian Nembach, KNIME.com
  */
-public class FeatureSelectionLoopStartNodeModel extends NodeModel implements LoopStartNodeTerminator {
+public class FeatureSelectionLoopStartNodeModel extends NodeModel
+    implements LoopStartNodeTerminator, LoopStartParallelizeNode, BufferedDataTableHolder {
 
     private FeatureSelectionLoopStartSettings m_settings = new FeatureSelectionLoopStartSettings();
 
@@ -80,6 +88,15 @@ public class FeatureSelectionLoopStartNodeModel extends NodeModel implements Loo
 
     private int m_maxIterations;
 
+    // parallel mode: tables of the remaining candidates of the current round, evaluated as parallel chunks
+    private BufferedDataTable[][] m_remoteCandidateTables = new BufferedDataTable[0][];
+
+    private List<String> m_remoteFeatureNames = Collections.emptyList();
+
+    private int m_firstRemoteIteration;
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
     /**
      * @param nrPorts the number of in ports
     *
@@ -159,11 +176,103 @@ public class FeatureSelectionLoopStartNodeModel extends NodeModel implements Loo
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableString("currentFeature", m_featureSelector.getCurrentFeatureName());
 
+        if (isParallelizationEnabled()) {
+            // the chunks of the previous round are no longer needed
+            cleanupChunks();
+            // the first candidate of this round is evaluated by this loop, the others are run as parallel chunks
+            final BufferedDataTable[][] roundTables = m_featureSelector.getTablesOfRound(exec, inData);
+            final List<String> featureNames = m_featureSelector.getFeatureNamesOfRound();
+            m_remoteCandidateTables = Arrays.copyOfRange(roundTables, 1, roundTables.length);
+            m_remoteFeatureNames = featureNames.subList(1, featureNames.size());
+            m_firstRemoteIteration = m_iteration + 1;
+            m_iteration += roundTables.length;
+            return roundTables[0];
+        }
+
         m_iteration++;
 
         return m_featureSelector.getNextTables(exec, inData);
     }
 
+    private void cleanupChunks() {
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
+        m_remoteCandidateTables = new BufferedDataTable[0][];
+        m_remoteFeatureNames = Collections.emptyList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isParallelizationEnabled() {
+        return m_settings.getParallelCandidates() > 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxConcurrentChunks() {
+        // this loop evaluates one of the candidates itself
+        return m_settings.getParallelCandidates() - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_remoteCandidateTables.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        // chunk i is the candidate i + 1 of this round, candidate 0 is evaluated by this loop
+        return new VirtualParallelizedChunkNodeInput(m_remoteCandidateTables[chunkIndex], Arrays.asList(
+            new FlowVariable("maxIterations", m_maxIterations),
+            new FlowVariable("currentIteration", m_firstRemoteIteration + chunkIndex),
+            new FlowVariable("currentFeature", m_remoteFeatureNames.get(chunkIndex))), chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_chunkMaster = pccm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BufferedDataTable[] getInternalTables() {
+        final int nrPorts = getNrInPorts();
+        final BufferedDataTable[] tables = new BufferedDataTable[m_remoteCandidateTables.length * nrPorts];
+        for (int i = 0; i < m_remoteCandidateTables.length; i++) {
+            System.arraycopy(m_remoteCandidateTables[i], 0, tables, i * nrPorts, nrPorts);
+        }
+        return tables;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInternalTables(final BufferedDataTable[] tables) {
+        final int nrPorts = getNrInPorts();
+        m_remoteCandidateTables = new BufferedDataTable[tables.length / nrPorts][];
+        for (int i = 0; i < m_remoteCandidateTables.length; i++) {
+            m_remoteCandidateTables[i] = Arrays.copyOfRange(tables, i * nrPorts, (i + 1) * nrPorts);
+        }
+    }
+
 
 
     FeatureSelector getFeatureSelector() {
@@ -226,6 +335,7 @@ public class FeatureSelectionLoopStartNodeModel extends NodeModel implements Loo
     @Override
     protected void reset() {
         m_iteration = 0;
+        cleanupChunks();
     }
 
 }
@@ -66,17 +66,24 @@ public class FeatureSelectionLoopStartSettings {
 
     private static final String CFG_NR_FEATURES_THRESHOLD = "nrFeatureThreshold";
 
+    private static final String CFG_PARALLEL_CANDIDATES = "parallelCandidates";
+
     private static final Strategy DEF_SELECTION_STRATEGY = Strategy.ForwardFeatureSelection;
 
     // -1 stands for no threshold!
     private static final int DEF_NR_FEATURES_THRESHOLD = -1;
 
+    // 1 stands for sequential evaluation of the candidates
+    private static final int DEF_PARALLEL_CANDIDATES = 1;
+
     //    private String[] m_constantColumns;
 
     private Strategy m_selectionStrategy = DEF_SELECTION_STRATEGY;
 
     private int m_nrFeaturesThreshold = DEF_NR_FEATURES_THRESHOLD;
 
+    private int m_parallelCandidates = DEF_PARALLEL_CANDIDATES;
+
     private DataColumnSpecFilterConfiguration m_constantColumnsFilterConfig = new DataColumnSpecFilterConfiguration(
         CFG_CONSTANT_COLUMNS_FILTER_CONFIG, new DataTypeColumnFilter(DataValue.class));
 
@@ -105,6 +112,23 @@ public class FeatureSelectionLoopStartSettings {
     }
 
 
+    /**
+     * @return the number of candidate subsets of a search round that are evaluated at the same time (1 for sequential
+     *         evaluation)
+     * @since 3.5
+     */
+    public int getParallelCandidates() {
+        return m_parallelCandidates;
+    }
+
+    /**
+     * @param parallelCandidates the number of candidate subsets of a search round that are evaluated at the same time
+     * @since 3.5
+     */
+    public void setParallelCandidates(final int parallelCandidates) {
+        m_parallelCandidates = parallelCandidates;
+    }
+
     /**
      * @return the {@link DataColumnSpecFilterConfiguration} for the static column filter
      */
@@ -137,6 +161,7 @@ public class FeatureSelectionLoopStartSettings {
 //        settings.addStringArray(CFG_CONSTANT_COLUMNS, m_constantColumns);
         m_constantColumnsFilterConfig.saveConfiguration(settings);
         settings.addInt(CFG_NR_FEATURES_THRESHOLD, m_nrFeaturesThreshold);
+        settings.addInt(CFG_PARALLEL_CANDIDATES, m_parallelCandidates);
     }
 
     /**
@@ -154,6 +179,7 @@ public class FeatureSelectionLoopStartSettings {
 //        m_constantColumns = settings.getStringArray(CFG_CONSTANT_COLUMNS, DEF_CONSTANT_COLUMNS);
         m_constantColumnsFilterConfig.loadConfigurationInDialog(settings, spec);
         m_nrFeaturesThreshold = settings.getInt(CFG_NR_FEATURES_THRESHOLD, DEF_NR_FEATURES_THRESHOLD);
+        m_parallelCandidates = settings.getInt(CFG_PARALLEL_CANDIDATES, DEF_PARALLEL_CANDIDATES);
     }
 
     /**
@@ -171,5 +197,10 @@ public class FeatureSelectionLoopStartSettings {
 //        m_constantColumns = settings.getStringArray(CFG_CONSTANT_COLUMNS);
         m_constantColumnsFilterConfig.loadConfigurationInModel(settings);
         m_nrFeaturesThreshold = settings.getInt(CFG_NR_FEATURES_THRESHOLD);
+        // added in 3.5
+        m_parallelCandidates = settings.getInt(CFG_PARALLEL_CANDIDATES, DEF_PARALLEL_CANDIDATES);
+        if (m_parallelCandidates < 1) {
+            throw new InvalidSettingsException("The number of parallel candidates must be at least 1.");
+        }
     }
 }
@@ -123,4 +123,23 @@ public interface FeatureSelectionStrategy {
      */
     public Integer getCurrentFeature();
 
+    /**
+     * Returns the features that are investigated in the remaining iterations of the current search round, starting
+     * with the {@link #getCurrentFeature() current feature}. Does not change the state of the strategy.
+     *
+     * @return the remaining features of the current search round
+     * @since 3.5
+     */
+    public List<Integer> getRemainingFeaturesOfRound();
+
+    /**
+     * Returns the features that are included in the iteration that investigates the given feature of the current
+     * search round (see {@link #getRemainingFeaturesOfRound()}).
+     *
+     * @param feature the investigated feature
+     * @return the features that are included
+     * @since 3.5
+     */
+    public List<Integer> getIncludedFeaturesFor(final Integer feature);
+
 }
@@ -48,8 +48,10 @@
  */
 package org.knime.base.node.meta.feature.selection;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -124,6 +126,19 @@ public class FeatureSelector {
         }
     }
 
+    /**
+     * Adds the scores of several consecutive iterations, e.g. of the candidates of a search round that were evaluated
+     * in parallel. Equivalent to calling {@link #addScore(double)} for each score in the given order.
+     *
+     * @param scores the scores in iteration order
+     * @since 3.5
+     */
+    public void addScores(final List<Double> scores) {
+        for (Double score : scores) {
+            addScore(score.doubleValue());
+        }
+    }
+
     /**
      * @return the feature selection model.
      */
@@ -216,6 +231,42 @@ public class FeatureSelector {
         return m_colHandler.getTables(exec, inTables, m_strategy.getIncludedFeatures(), ALWAYS_INCLUDE);
     }
 
+    /**
+     * Returns the tables for all remaining iterations of the current search round, starting with the current one
+     * (which is identical to {@link #getNextTables(ExecutionContext, BufferedDataTable[])}). Used to evaluate the
+     * candidates of a round in parallel. The state of the search is not changed.
+     *
+     * @param exec {@link ExecutionContext} of the loop start node.
+     * @param inTables The input tables of the loop start node.
+     * @return for each remaining iteration of the round the tables containing its feature and constant columns
+     * @throws CanceledExecutionException Thrown if the execution is canceled.
+     * @since 3.5
+     */
+    public BufferedDataTable[][] getTablesOfRound(final ExecutionContext exec, final BufferedDataTable[] inTables)
+        throws CanceledExecutionException {
+        final List<Integer> features = m_strategy.getRemainingFeaturesOfRound();
+        final BufferedDataTable[][] tables = new BufferedDataTable[features.size()][];
+        for (int i = 0; i < tables.length; i++) {
+            exec.checkCanceled();
+            tables[i] = m_colHandler.getTables(exec.createSubExecutionContext(1.0 / tables.length), inTables,
+                m_strategy.getIncludedFeaturesFor(features.get(i)), ALWAYS_INCLUDE);
+        }
+        return tables;
+    }
+
+    /**
+     * @return the names of the features investigated in the remaining iterations of the current search round,
+     *         starting with the {@link #getCurrentFeatureName() current feature}.
+     * @since 3.5
+     */
+    public List<String> getFeatureNamesOfRound() {
+        final List<String> names = new ArrayList<>();
+        for (Integer feature : m_strategy.getRemainingFeaturesOfRound()) {
+            names.add(getFeatureName(feature));
+        }
+        return names;
+    }
+
     /**
      * @return The maximal number of iterations the current search has.
      */
@@ -227,12 +278,15 @@ public class FeatureSelector {
      * @return the name of the feature that is currently investigated.
      */
     public String getCurrentFeatureName() {
-        final Integer feature = m_strategy.getCurrentFeature();
+        return getFeatureName(m_strategy.getCurrentFeature());
+    }
+
+    private String getFeatureName(final Integer feature) {
         // in case of backward elimination the first loop contains all columns
         if (feature.intValue() < 0) {
             return "";
         }
-        return m_colHandler.getColumnNameFor(m_strategy.getCurrentFeature());
+        return m_colHandler.getColumnNameFor(feature);
     }
 
 }
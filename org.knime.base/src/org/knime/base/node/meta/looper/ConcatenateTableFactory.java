@@ -83,11 +83,21 @@ import org.knime.core.util.DuplicateKeyException;
  */
 class ConcatenateTableFactory {
 
-    /** Maximum number of tables to be kept. If this threshold is exceeded the so far created
+    /** Maximum number of tables to be kept. If this threshold is exceeded the so far created (or taken over)
      * tables are copied into an entire new one.*/
     private static final int MAX_NUM_TABLES = 50;
 
-    private ArrayList<BufferedDataContainer> m_tables;
+    /** closed containers and tables taken over from the loop body, in iteration order */
+    private ArrayList<BufferedDataTable> m_tables;
+
+    /** container rows are currently added to (follows the tables in m_tables), can be null */
+    private BufferedDataContainer m_openContainer;
+
+    /** tables in m_tables that were taken over from the loop body (and not copied), released once copied */
+    private final ArrayList<BufferedDataTable> m_takenOverTables = new ArrayList<BufferedDataTable>();
+
+    /** set when the final table has been created, no more tables can be added then */
+    private boolean m_isCreated;
 
     private BufferedDataContainer m_emptyTable;
 
@@ -124,7 +134,7 @@ class ConcatenateTableFactory {
         m_addIterationColumn = addIterationColumn;
         m_tolerateChangingSpecs = tolerateChangingSpecs;
 
-        m_tables = new ArrayList<BufferedDataContainer>();
+        m_tables = new ArrayList<BufferedDataTable>();
         if (rowKeyCreator.isPresent()) {
             m_rowKeyCreator = rowKeyCreator.get();
         }
@@ -146,6 +156,44 @@ class ConcatenateTableFactory {
      */
     void addTable(final BufferedDataTable table, final ExecutionContext exec)
         throws InterruptedException, DuplicateKeyException, IOException, CanceledExecutionException {
+        addTable(table, exec, false);
+    }
+
+    /**
+     * Table is added, see {@link #addTable(BufferedDataTable, ExecutionContext)}. If <code>mayTakeOver</code> is set
+     * and the rows don't need to be modified (no new row keys, no iteration column), the table itself is made part
+     * of the result rather than copying its rows (see {@link ExecutionContext#takeOverLoopIterationTable(
+     * BufferedDataTable)}).
+     *
+     * @param table the table to be added
+     * @param exec the execution context to possibly create a new data container
+     * @param mayTakeOver true if the table is no longer referenced by the loop body after this iteration, i.e. it is
+     *            not the last iteration
+     * @throws InterruptedException
+     * @throws IOException
+     * @throws DuplicateKeyException
+     * @throws CanceledExecutionException
+     * @since 3.5
+     */
+    void addTable(final BufferedDataTable table, final ExecutionContext exec, final boolean mayTakeOver)
+        throws InterruptedException, DuplicateKeyException, IOException, CanceledExecutionException {
+        if (mayTakeOver && m_rowKeyCreator == null && !m_addIterationColumn && !m_isCreated && table.size() > 0) {
+            checkSpec(table.getDataTableSpec(), false);
+            if (exec.takeOverLoopIterationTable(table)) {
+                closeOpenContainer();
+                if (m_tables.size() > MAX_NUM_TABLES) {
+                    copyTablesIntoOneTable(exec);
+                }
+                for (DataRow row : table) {
+                    exec.checkCanceled();
+                    m_duplicateChecker.addKey(row.getKey().toString());
+                }
+                m_tables.add(table);
+                m_takenOverTables.add(table);
+                m_iterationCount++;
+                return;
+            }
+        }
         DataTableRowInput rowInput = new DataTableRowInput(table);
         addTable(rowInput, exec);
         rowInput.close();
@@ -165,22 +213,20 @@ class ConcatenateTableFactory {
      */
     void addTable(final RowInput table, final ExecutionContext exec) throws InterruptedException, DuplicateKeyException, IOException, CanceledExecutionException {
 
-        //check if last container has been closed (i.e. createTable was called)
-        if (m_tables.size() > 0) {
-            if (m_tables.get(m_tables.size() - 1).isClosed()) {
-                throw new IllegalStateException(
-                    "No more tables can be added! ConcatenateTable has already been created.");
-            }
+        //check if createTable was called
+        if (m_isCreated) {
+            throw new IllegalStateException(
+                "No more tables can be added! ConcatenateTable has already been created.");
         }
 
         //poll first row in order to check whether the incoming table is empty
         DataRow row = table.poll();
         if(row == null) {
             //table is empty
-            if(m_ignoreEmptyTables && m_tables.size() > 0) {
+            if(m_ignoreEmptyTables && hasTables()) {
                 m_iterationCount++;
                 return;
-            } else if(m_tables.size() == 0){
+            } else if(!hasTables()){
                 //if this is the first table we receive and its empty, create an empty one and keep it
                 m_emptyTable = exec.createDataContainer(createSpec(table.getDataTableSpec(), m_addIterationColumn, false));
                 m_iterationCount++;
@@ -188,23 +234,7 @@ class ConcatenateTableFactory {
             }
         }
 
-        //compare spec of the current table with the spec of the first table if changing specs are not tolerated
-        if (!m_tolerateChangingSpecs && (m_tables.size() > 0 || m_emptyTable != null)) {
-            if (!(m_ignoreEmptyTables && (row == null || m_emptyTable !=null))) {//don't fail if table is empty and to be ignored
-                //create spec for comparision -> set the most common column type for both table spec, if altered column types
-                //are to be tolerated
-                DataTableSpec tmpSpec1;
-                if(m_tables.size() == 0 && m_emptyTable!=null) {
-                    tmpSpec1 = createSpec(m_emptyTable.getTableSpec(), false, m_tolerateColumnTypes);
-                } else {
-                    tmpSpec1 = createSpec(m_tables.get(0).getTableSpec(), false, m_tolerateColumnTypes);
-                }
-                DataTableSpec tmpSpec2 =
-                    createSpec(table.getDataTableSpec(), m_addIterationColumn, m_tolerateColumnTypes);
-                //fail if specs has been changed
-                compareSpecsAndFail(tmpSpec1, tmpSpec2);
-            }
-        }
+        checkSpec(table.getDataTableSpec(), row == null);
 
         //if table is empty and they are not to be ignored, nothing else to do -> return now
         if(row == null) {
@@ -219,19 +249,14 @@ class ConcatenateTableFactory {
 
         //create a new data container except the previously added has the same data table spec -> problem: if in each iteration a new row is added we
         //end up with quite many data containers
-        BufferedDataContainer con;
         DataTableSpec newTableSpec = createSpec(table.getDataTableSpec(), m_addIterationColumn, false);
-        if (m_tables.size() == 0) {
-            con = exec.createDataContainer(newTableSpec);
-            m_tables.add(con);
-        } else if (m_tables.size() > 0 && !newTableSpec.equalStructure(m_tables.get(m_tables.size() - 1).getTableSpec())) {
-            con = m_tables.get(m_tables.size() - 1);
-            con.close();
-            con = exec.createDataContainer(newTableSpec);
-            m_tables.add(con);
-        } else {
-            con = m_tables.get(m_tables.size() - 1);
+        if (m_openContainer != null && !newTableSpec.equalStructure(m_openContainer.getTableSpec())) {
+            closeOpenContainer();
         }
+        if (m_openContainer == null) {
+            m_openContainer = exec.createDataContainer(newTableSpec);
+        }
+        BufferedDataContainer con = m_openContainer;
 
         //add rows of the table to the newly created data container
         do {
@@ -265,6 +290,10 @@ class ConcatenateTableFactory {
      */
     BufferedDataTable createTable(final ExecutionContext exec) throws CanceledExecutionException, DuplicateKeyException, IOException {
 
+        //close last used table
+        closeOpenContainer();
+        m_isCreated = true;
+
     	//return at least the empty table if thats the only one that is available
         if(m_tables.size() == 0 && m_emptyTable != null) {
             m_emptyTable.close();
@@ -273,12 +302,7 @@ class ConcatenateTableFactory {
 
         m_duplicateChecker.checkForDuplicates();
 
-        //close last used table
-        m_tables.get(m_tables.size() - 1).close();
-        BufferedDataTable[] res = new BufferedDataTable[m_tables.size()];
-        for (int i = 0; i < res.length; i++) {
-            res[i] = m_tables.get(i).getTable();
-        }
+        BufferedDataTable[] res = m_tables.toArray(new BufferedDataTable[m_tables.size()]);
         //don't check for duplicates since this already has been done
         return exec.createConcatenateTable(exec, Optional.empty(), false, res);
     }
@@ -319,6 +343,42 @@ class ConcatenateTableFactory {
         }
     }
 
+    /** @return true if any (non-empty) table has been added so far */
+    private boolean hasTables() {
+        return !m_tables.isEmpty() || m_openContainer != null;
+    }
+
+    /** Closes the container rows are currently added to (if any) and adds its table to the result tables. */
+    private void closeOpenContainer() {
+        if (m_openContainer != null) {
+            m_openContainer.close();
+            m_tables.add(m_openContainer.getTable());
+            m_openContainer = null;
+        }
+    }
+
+    /** Compares the spec of a new table with the spec of the first table if changing specs are not tolerated, fails
+     * with an IllegalArgumentException if they differ. */
+    private void checkSpec(final DataTableSpec newSpec, final boolean isEmptyTable) {
+        if (!m_tolerateChangingSpecs && (hasTables() || m_emptyTable != null)) {
+            if (!(m_ignoreEmptyTables && (isEmptyTable || m_emptyTable !=null))) {//don't fail if table is empty and to be ignored
+                //create spec for comparision -> set the most common column type for both table spec, if altered column types
+                //are to be tolerated
+                DataTableSpec tmpSpec1;
+                if(!hasTables() && m_emptyTable!=null) {
+                    tmpSpec1 = createSpec(m_emptyTable.getTableSpec(), false, m_tolerateColumnTypes);
+                } else if (!m_tables.isEmpty()) {
+                    tmpSpec1 = createSpec(m_tables.get(0).getDataTableSpec(), false, m_tolerateColumnTypes);
+                } else {
+                    tmpSpec1 = createSpec(m_openContainer.getTableSpec(), false, m_tolerateColumnTypes);
+                }
+                DataTableSpec tmpSpec2 = createSpec(newSpec, m_addIterationColumn, m_tolerateColumnTypes);
+                //fail if specs has been changed
+                compareSpecsAndFail(tmpSpec1, tmpSpec2);
+            }
+        }
+    }
+
     /** Compares the given specs and fails with an IllegalArgException if not equal*/
     private void compareSpecsAndFail(final DataTableSpec firstIterSpec, final DataTableSpec newTableSpec) {
         if (!newTableSpec.equalStructure(firstIterSpec)) {
@@ -343,12 +403,9 @@ class ConcatenateTableFactory {
         }
     }
 
-    /** Copies all tables, except the last still not-closed table, into an entire new table */
+    /** Copies all closed tables (not the still open container) into an entire new table */
     private void copyTablesIntoOneTable(final ExecutionContext exec) throws CanceledExecutionException {
-        BufferedDataTable[] tables = new BufferedDataTable[m_tables.size()-1];
-        for (int i = 0; i < tables.length; i++) {
-            tables[i] = m_tables.get(i).getTable();
-        }
+        BufferedDataTable[] tables = m_tables.toArray(new BufferedDataTable[m_tables.size()]);
         AppendedRowsTable wrapper = new AppendedRowsTable(org.knime.core.data.append.AppendedRowsTable.DuplicatePolicy.Fail, null, tables);
         BufferedDataContainer con = exec.createDataContainer(wrapper.getDataTableSpec());
         RowIterator rowIt = wrapper.iterator();
@@ -358,10 +415,13 @@ class ConcatenateTableFactory {
             con.addRowToTable(rowIt.next());
         }
         con.close();
-        BufferedDataContainer last = m_tables.get(m_tables.size()-1);
         m_tables.clear();
-        m_tables.add(con);
-        m_tables.add(last);
+        m_tables.add(con.getTable());
+        //tables taken over from the loop body are not referenced anymore, delete them now rather than on reset
+        for (BufferedDataTable t : m_takenOverTables) {
+            exec.releaseLoopIterationTable(t);
+        }
+        m_takenOverTables.clear();
         exec.setProgress("Tables copied into one.");
     }
 }
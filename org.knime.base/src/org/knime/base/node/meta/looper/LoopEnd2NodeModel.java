@@ -60,14 +60,15 @@ import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
+public class LoopEnd2NodeModel extends NodeModel implements LoopEndParallelizeNode {
 
     /* Overall row count port 1 */
     private int m_count1 = 0;
@@ -82,6 +83,9 @@ public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
 
     private final LoopEnd2NodeSettings m_settings = new LoopEnd2NodeSettings();
 
+    /* Iterations run in parallel by the loop start node, if any. */
+    private final ParallelLoopIterations m_parallelIterations = new ParallelLoopIterations();
+
     /** Creates a new model. */
     public LoopEnd2NodeModel() {
         super(2, 2);
@@ -150,12 +154,22 @@ public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
                     m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs2(), rowKeyFunc2);
         }
 
-        //add tables to factories
-        m_tableFactories[0].addTable(inData[0], exec);
-        m_tableFactories[1].addTable(inData[1], exec);
-
         final boolean terminateLoop =
             ((LoopStartNodeTerminator)this.getLoopStartNode()).terminateLoop();
+        //add tables to factories -- unless this is the last iteration the tables are not needed by the loop body
+        //anymore, no need to copy them
+        m_tableFactories[0].addTable(inData[0], exec, !terminateLoop);
+        m_tableFactories[1].addTable(inData[1], exec, !terminateLoop);
+        if (m_parallelIterations.isActive()) {
+            // the remaining iterations were run in parallel, append their results in iteration order
+            for (BufferedDataTable[] iterationResult : m_parallelIterations.awaitResults(exec)) {
+                m_iteration++;
+                m_tableFactories[0].addTable(iterationResult[0], exec);
+                m_tableFactories[1].addTable(iterationResult[1], exec);
+            }
+            m_parallelIterations.setChunkMaster(null);
+        }
+
         if (terminateLoop) {
             m_iteration = 0;
             m_count1 = 0;
@@ -200,6 +214,23 @@ public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
         m_count2 = 0;
         m_iteration = 0;
         Arrays.fill(m_tableFactories, null);
+        m_parallelIterations.setChunkMaster(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelIterations.setChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelIterations.statusChanged();
     }
 
     /**
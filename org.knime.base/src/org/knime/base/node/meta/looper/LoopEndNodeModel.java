@@ -59,19 +59,22 @@ import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.IterationIndependentConfigureNodeModel;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  * This model is the tail node of a for loop.
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
+public class LoopEndNodeModel extends NodeModel
+    implements LoopEndParallelizeNode, IterationIndependentConfigureNodeModel {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(LoopEndNodeModel.class);
 
@@ -89,6 +92,9 @@ public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
 
     private final LoopEndNodeSettings m_settings = new LoopEndNodeSettings();
 
+    /* Iterations run in parallel by the loop start node, if any. */
+    private final ParallelLoopIterations m_parallelIterations = new ParallelLoopIterations();
+
 
     /** Creates a new model. */
     public LoopEndNodeModel() {
@@ -139,9 +145,18 @@ public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
             m_startTime = System.currentTimeMillis();
         }
 
-        m_tableFactory.addTable(inData[0], exec);
-
         boolean terminateLoop = ((LoopStartNodeTerminator)this.getLoopStartNode()).terminateLoop();
+        // unless this is the last iteration the table is not needed by the loop body anymore, no need to copy it
+        m_tableFactory.addTable(inData[0], exec, !terminateLoop);
+        if (m_parallelIterations.isActive()) {
+            // the remaining iterations were run in parallel, append their results in iteration order
+            for (BufferedDataTable[] iterationResult : m_parallelIterations.awaitResults(exec)) {
+                m_iteration++;
+                m_tableFactory.addTable(iterationResult[0], exec);
+            }
+            m_parallelIterations.setChunkMaster(null);
+        }
+
         if (terminateLoop) {
             LOGGER.debug("Total loop execution time: " + (System.currentTimeMillis() - m_startTime) + "ms");
             m_startTime = 0;
@@ -184,6 +199,23 @@ public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
         m_tableFactory = null;
         m_count = 0;
         m_iteration = 0;
+        m_parallelIterations.setChunkMaster(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelIterations.setChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelIterations.statusChanged();
     }
 
     /**
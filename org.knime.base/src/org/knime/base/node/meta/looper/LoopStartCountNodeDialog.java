@@ -69,6 +69,9 @@ public class LoopStartCountNodeDialog extends NodeDialogPane {
     private final JSpinner m_loops = new JSpinner(new SpinnerNumberModel(10, 1,
             Integer.MAX_VALUE, 1));
 
+    private final JSpinner m_parallelIterations = new JSpinner(new SpinnerNumberModel(1, 1,
+            Integer.MAX_VALUE, 1));
+
     private final LoopStartCountSettings m_settings = new LoopStartCountSettings();
 
     /**
@@ -85,6 +88,14 @@ public class LoopStartCountNodeDialog extends NodeDialogPane {
         c.gridx = 1;
         p.add(m_loops, c);
 
+        c.gridx = 0;
+        c.gridy++;
+        p.add(new JLabel("Parallel iterations   "), c);
+        c.gridx = 1;
+        m_parallelIterations.setToolTipText("Number of iterations executed at the same time. Only use values > 1 "
+            + "if the iterations don't depend on each other; runs in parallel with a Loop End or Loop End (2 ports) node.");
+        p.add(m_parallelIterations, c);
+
         addTab("Standard settings", p);
     }
 
@@ -96,6 +107,7 @@ public class LoopStartCountNodeDialog extends NodeDialogPane {
             final DataTableSpec[] specs) throws NotConfigurableException {
         m_settings.loadSettingsFrom(settings);
         m_loops.setValue(m_settings.loops());
+        m_parallelIterations.setValue(m_settings.parallelIterations());
     }
 
     /**
@@ -105,6 +117,7 @@ public class LoopStartCountNodeDialog extends NodeDialogPane {
     protected void saveSettingsTo(final NodeSettingsWO settings)
             throws InvalidSettingsException {
         m_settings.loops((Integer)m_loops.getValue());
+        m_settings.parallelIterations((Integer)m_parallelIterations.getValue());
         m_settings.saveSettingsTo(settings);
     }
 }
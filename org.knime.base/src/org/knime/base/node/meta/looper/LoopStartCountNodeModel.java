@@ -49,6 +49,7 @@ package org.knime.base.node.meta.looper;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -61,7 +62,11 @@ import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * This model is the head node of a for loop.
@@ -69,10 +74,16 @@ import org.knime.core.node.workflow.LoopStartNodeTerminator;
  * @author Thorsten Meinl, University of Konstanz
  */
 public class LoopStartCountNodeModel extends NodeModel
-implements LoopStartNodeTerminator {
+implements LoopStartNodeTerminator, LoopStartParallelizeNode {
 
     private int m_iteration;
 
+    /* input of the current execution, handed to the parallel iterations */
+    private PortObject[] m_parallelInput;
+
+    /* master of the iterations run in parallel (if enabled), for cleanup on reset */
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
     private final LoopStartCountSettings m_settings = new LoopStartCountSettings();
 
     /**
@@ -92,6 +103,9 @@ implements LoopStartNodeTerminator {
         if (m_settings.loops() < 1) {
             throw new InvalidSettingsException("Cannot loop fewer than once");
         }
+        if (m_settings.parallelIterations() < 1) {
+            throw new InvalidSettingsException("Number of parallel iterations must be at least 1");
+        }
         assert m_iteration == 0;
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableInt("maxIterations", m_settings.loops());
@@ -117,6 +131,8 @@ implements LoopStartNodeTerminator {
         // let's also put the counts on the stack for someone else:
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableInt("maxIterations", m_settings.loops());
+        // remaining iterations are run in parallel (see getVirtualNodeInput)
+        m_parallelInput = m_iteration == 0 && m_settings.parallelIterations() > 1 ? inData : null;
         // increment counter for next iteration
         m_iteration++;
         return inData;
@@ -127,7 +143,62 @@ implements LoopStartNodeTerminator {
      */
     @Override
     public boolean terminateLoop() {
-        return m_iteration >= m_settings.loops();
+        // in parallel mode this node only executes the first iteration, the others are run as parallel chunks;
+        // without chunk master (loop could not be parallelized) the iterations are run sequentially
+        return m_chunkMaster != null || m_iteration >= m_settings.loops();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isParallelizationEnabled() {
+        // only after the first iteration
+        return m_parallelInput != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSequentialFallbackSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxConcurrentChunks() {
+        // this node runs one of the iterations itself
+        return m_settings.parallelIterations() - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_settings.loops() - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        // chunk i is iteration i + 1, iteration 0 is run by this node
+        return new VirtualParallelizedChunkNodeInput(m_parallelInput, Arrays.asList(
+            new FlowVariable("currentIteration", chunkIndex + 1),
+            new FlowVariable("maxIterations", m_settings.loops())), chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_chunkMaster = pccm;
     }
 
     /**
@@ -155,6 +226,11 @@ implements LoopStartNodeTerminator {
     @Override
     protected void reset() {
         m_iteration = 0;
+        m_parallelInput = null;
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
     }
 
     /**
@@ -56,6 +56,8 @@ import org.knime.core.node.NodeSettingsWO;
 public class LoopStartCountSettings {
     private int m_loops = 10;
 
+    private int m_parallelIterations = 1;
+
     /**
      * Sets the number of times the inner workflow should be executed.
      * @param loops the number loops, which must be &gt; 0
@@ -72,6 +74,24 @@ public class LoopStartCountSettings {
         return m_loops;
     }
 
+    /**
+     * Sets the number of iterations that are executed at the same time. Values &gt; 1 require the iterations to be
+     * independent of each other.
+     * @param parallelIterations the number of concurrent iterations, 1 for sequential execution
+     * @since 3.5
+     */
+    public void parallelIterations(final int parallelIterations) {
+        m_parallelIterations = parallelIterations;
+    }
+
+    /**
+     * Returns the number of iterations that are executed at the same time.
+     * @return the number of concurrent iterations, 1 for sequential execution
+     * @since 3.5
+     */
+    public int parallelIterations() {
+        return m_parallelIterations;
+    }
 
     /**
      * Loads the settings from the node settings object.
@@ -80,6 +100,8 @@ public class LoopStartCountSettings {
      */
     public void loadSettingsFrom(final NodeSettingsRO settings) {
         m_loops = settings.getInt("loops", 10);
+        // added in 3.5
+        m_parallelIterations = settings.getInt("parallelIterations", 1);
     }
 
 
@@ -90,5 +112,6 @@ public class LoopStartCountSettings {
      */
     public void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addInt("loops", m_loops);
+        settings.addInt("parallelIterations", m_parallelIterations);
     }
 }
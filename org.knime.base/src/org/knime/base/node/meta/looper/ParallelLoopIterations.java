@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContent;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+
+/**
+ * Used by the loop end nodes to collect the results of loop iterations that were run in parallel (as chunks, see
+ * {@link org.knime.core.node.workflow.LoopStartParallelizeNode}) by the loop start node.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ * @since 3.5
+ */
+public final class ParallelLoopIterations {
+
+    private final Object m_statusLock = new Object();
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /** @param chunkMaster the master of the parallel iterations, null to clear */
+    public void setChunkMaster(final ParallelizedChunkContentMaster chunkMaster) {
+        m_chunkMaster = chunkMaster;
+    }
+
+    /** @return true if the iterations of the current loop are run in parallel. */
+    public boolean isActive() {
+        return m_chunkMaster != null;
+    }
+
+    /** Wakes up a thread waiting in {@link #awaitResults(ExecutionContext)}. */
+    public void statusChanged() {
+        synchronized (m_statusLock) {
+            m_statusLock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits for all parallel iterations to finish and returns their results in iteration order.
+     *
+     * @param exec for cancelation and progress
+     * @return the output tables of each remote iteration, in iteration order
+     * @throws CanceledExecutionException if canceled (the parallel iterations are canceled, too)
+     * @throws IllegalStateException if any of the iterations failed
+     */
+    public List<BufferedDataTable[]> awaitResults(final ExecutionContext exec) throws CanceledExecutionException {
+        List<ParallelizedChunkContent> chunks = awaitChunks(exec);
+        List<BufferedDataTable[]> result = new ArrayList<BufferedDataTable[]>(chunks.size());
+        for (ParallelizedChunkContent chunk : chunks) {
+            PortObject[] outs = chunk.getOutportContent();
+            BufferedDataTable[] tables = new BufferedDataTable[outs.length];
+            for (int p = 0; p < outs.length; p++) {
+                tables[p] = (BufferedDataTable)outs[p];
+            }
+            result.add(tables);
+        }
+        return result;
+    }
+
+    /**
+     * Waits for all parallel iterations to finish and returns the executed chunks in iteration order. Used by loop
+     * ends that need more than the tables at the end of the iteration, e.g. its flow variables.
+     *
+     * @param exec for cancelation and progress
+     * @return the chunks of each remote iteration, in iteration order
+     * @throws CanceledExecutionException if canceled (the parallel iterations are canceled, too)
+     * @throws IllegalStateException if any of the iterations failed
+     */
+    public List<ParallelizedChunkContent> awaitChunks(final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final ParallelizedChunkContentMaster master = m_chunkMaster;
+        final int nrChunks = master.nrChunks();
+        synchronized (m_statusLock) {
+            while (master.nrExecutingChunks() > 0
+                || (master.nrPendingChunks() > 0 && master.nrFailedChunks() == 0)) {
+                try {
+                    exec.checkCanceled();
+                } catch (CanceledExecutionException cee) {
+                    master.cancelChunkExecution();
+                    throw cee;
+                }
+                exec.setProgress(master.nrExecutedChunks() / (double)Math.max(1, nrChunks),
+                    "Waiting for parallel iterations (" + master.nrExecutedChunks() + "/" + nrChunks + ")");
+                try {
+                    // status changes wake us up; timeout only to check for cancelation
+                    m_statusLock.wait(500);
+                } catch (InterruptedException ie) {
+                    master.cancelChunkExecution();
+                    Thread.currentThread().interrupt();
+                    throw new CanceledExecutionException("Interrupted while waiting for parallel iterations");
+                }
+            }
+        }
+        final int nrFailed = master.nrFailedChunks() + master.nrPendingChunks();
+        if (nrFailed > 0) {
+            throw new IllegalStateException(nrFailed + " of " + nrChunks + " parallel loop iterations failed");
+        }
+        List<ParallelizedChunkContent> result = new ArrayList<ParallelizedChunkContent>(nrChunks);
+        for (int i = 0; i < nrChunks; i++) {
+            result.add(master.getChunk(i));
+        }
+        return result;
+    }
+}
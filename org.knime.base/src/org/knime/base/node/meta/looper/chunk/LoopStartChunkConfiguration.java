@@ -68,6 +68,7 @@ final class LoopStartChunkConfiguration {
     private Mode m_mode = Mode.RowsPerChunk;
     private int m_nrRowsPerChunk = 1;
     private int m_nrOfChunks = 1;
+    private int m_parallelIterations = 1;
 
     /** @return the mode */
     Mode getMode() {
@@ -108,6 +109,19 @@ final class LoopStartChunkConfiguration {
         }
         m_nrOfChunks = nrOfChunks;
     }
+    /** @return the number of iterations (chunks) processed at the same time, 1 for sequential processing */
+    int getParallelIterations() {
+        return m_parallelIterations;
+    }
+    /** @param parallelIterations the number of iterations processed at the same time
+     * @throws InvalidSettingsException If argument &lt; 1 */
+    void setParallelIterations(final int parallelIterations) throws InvalidSettingsException {
+        if (parallelIterations < 1) {
+            throw new InvalidSettingsException("No of parallel iterations must "
+                    + "be at least 1: " + parallelIterations);
+        }
+        m_parallelIterations = parallelIterations;
+    }
 
     /** Saves current settings to argument.
      * @param settings To save to. */
@@ -115,6 +129,7 @@ final class LoopStartChunkConfiguration {
         settings.addString("mode", m_mode.name());
         settings.addInt("nrRowsPerChunk", m_nrRowsPerChunk);
         settings.addInt("nrOfChunks", m_nrOfChunks);
+        settings.addInt("parallelIterations", m_parallelIterations);
     }
 
     /** Load settings in model, fails if incomplete.
@@ -134,6 +149,8 @@ final class LoopStartChunkConfiguration {
         }
         setNrRowsPerChunk(settings.getInt("nrRowsPerChunk"));
         setNrOfChunks(settings.getInt("nrOfChunks"));
+        // added in 3.5
+        setParallelIterations(settings.getInt("parallelIterations", 1));
     }
 
     /** Load settings in dialog, use default if invalid.
@@ -159,6 +176,11 @@ final class LoopStartChunkConfiguration {
         } catch (InvalidSettingsException e) {
             // use default;
         }
+        try {
+            setParallelIterations(settings.getInt("parallelIterations", 1));
+        } catch (InvalidSettingsException e) {
+            // use default;
+        }
     }
 
     /** {@inheritDoc} */
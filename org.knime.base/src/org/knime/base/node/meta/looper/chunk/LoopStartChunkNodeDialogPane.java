@@ -54,6 +54,7 @@ import java.awt.event.ActionListener;
 
 import javax.swing.ButtonGroup;
 import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
 import javax.swing.JSpinner;
@@ -77,6 +78,7 @@ public class LoopStartChunkNodeDialogPane extends NodeDialogPane {
     private final JRadioButton m_chunkCountButton;
     private final JSpinner m_rowsPerChunkSpinner;
     private final JSpinner m_chunkCountSpinner;
+    private final JSpinner m_parallelIterationsSpinner;
 
     /**
      *
@@ -100,6 +102,10 @@ public class LoopStartChunkNodeDialogPane extends NodeDialogPane {
                 10, 1, Integer.MAX_VALUE, 5));
         m_rowsPerChunkSpinner = new JSpinner(new SpinnerNumberModel(
                 10, 1, Integer.MAX_VALUE, 10));
+        m_parallelIterationsSpinner = new JSpinner(new SpinnerNumberModel(
+                1, 1, Integer.MAX_VALUE, 1));
+        m_parallelIterationsSpinner.setToolTipText("Number of chunks processed at the same time. Only use values > 1 "
+            + "if the iterations don't depend on each other; runs in parallel with a Loop End or Loop End (2 ports) node.");
         m_rowsPerChunkButton.doClick();
         initLayout();
     }
@@ -113,6 +119,8 @@ public class LoopStartChunkNodeDialogPane extends NodeDialogPane {
         panel.add(getInFlowLayout(m_rowsPerChunkSpinner));
         panel.add(getInFlowLayout(m_chunkCountButton));
         panel.add(getInFlowLayout(m_chunkCountSpinner));
+        panel.add(getInFlowLayout(new JLabel("Parallel iterations")));
+        panel.add(getInFlowLayout(m_parallelIterationsSpinner));
         addTab("Configuration", panel);
     }
 
@@ -145,6 +153,7 @@ public class LoopStartChunkNodeDialogPane extends NodeDialogPane {
         config.loadSettingsInDialog(settings);
         m_chunkCountSpinner.setValue(config.getNrOfChunks());
         m_rowsPerChunkSpinner.setValue(config.getNrRowsPerChunk());
+        m_parallelIterationsSpinner.setValue(config.getParallelIterations());
         switch (config.getMode()) {
         case RowsPerChunk:
             m_rowsPerChunkButton.doClick();
@@ -161,6 +170,7 @@ public class LoopStartChunkNodeDialogPane extends NodeDialogPane {
         LoopStartChunkConfiguration config = new LoopStartChunkConfiguration();
         config.setNrOfChunks((Integer)m_chunkCountSpinner.getValue());
         config.setNrRowsPerChunk((Integer)m_rowsPerChunkSpinner.getValue());
+        config.setParallelIterations((Integer)m_parallelIterationsSpinner.getValue());
         if (m_rowsPerChunkButton.isSelected()) {
             config.setMode(Mode.RowsPerChunk);
         } else {
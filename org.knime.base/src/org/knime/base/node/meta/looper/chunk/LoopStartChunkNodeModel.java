@@ -49,11 +49,14 @@ package org.knime.base.node.meta.looper.chunk;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -61,7 +64,11 @@ import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * Loop start node that outputs a set of rows at a time. Used to implement
@@ -71,7 +78,7 @@ import org.knime.core.node.workflow.LoopStartNodeTerminator;
  * @author Bernd Wiswedel, KNIME.com, Zurich, Switzerland
  */
 public class LoopStartChunkNodeModel extends NodeModel implements
-        LoopStartNodeTerminator {
+        LoopStartNodeTerminator, LoopStartParallelizeNode, BufferedDataTableHolder {
 
     private LoopStartChunkConfiguration m_config;
 
@@ -82,6 +89,11 @@ public class LoopStartChunkNodeModel extends NodeModel implements
     // loop variants
     private int m_iteration;
 
+    // parallel mode: chunks 1..n-1, processed as parallel chunks
+    private BufferedDataTable[] m_remoteChunks = new BufferedDataTable[0];
+    private int m_totalChunkCount;
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
     /**
      * Creates a new model.
      */
@@ -131,6 +143,20 @@ public class LoopStartChunkNodeModel extends NodeModel implements
             throw new Exception("Unsupported mode: " + m_config.getMode());
         }
 
+        if (m_iteration > 0 && m_remoteChunks.length > 0) {
+            // chunks were split off for parallel iterations but the loop could not be parallelized
+            // (see terminateLoop) - process them one after the other
+            BufferedDataTable chunk = m_remoteChunks[m_iteration - 1];
+            BufferedDataContainer cont = exec.createDataContainer(chunk.getDataTableSpec());
+            for (DataRow row : chunk) {
+                cont.addRowToTable(row);
+            }
+            cont.close();
+            pushFlowVariableInt("currentIteration", m_iteration);
+            pushFlowVariableInt("maxIterations", m_totalChunkCount);
+            m_iteration++;
+            return new BufferedDataTable[] {cont.getTable()};
+        }
         if (m_iteration == 0) {
             assert getLoopEndNode() == null : "1st iteration but end node set";
             m_table = table;
@@ -145,6 +171,21 @@ public class LoopStartChunkNodeModel extends NodeModel implements
             cont.addRowToTable(m_iterator.next());
         }
         cont.close();
+        if (m_iteration == 0 && m_config.getParallelIterations() > 1) {
+            // split off the remaining chunks now, they are run in parallel (see getVirtualNodeInput)
+            m_totalChunkCount = totalChunkCount;
+            m_remoteChunks = new BufferedDataTable[Math.max(0, totalChunkCount - 1)];
+            for (int c = 0; c < m_remoteChunks.length; c++) {
+                exec.checkCanceled();
+                exec.setProgress(c / (double)m_remoteChunks.length, "Creating chunk " + (c + 2));
+                BufferedDataContainer chunkCont = exec.createDataContainer(table.getSpec());
+                for (int i = 0; i < nrRowsPerIteration && m_iterator.hasNext(); i++) {
+                    chunkCont.addRowToTable(m_iterator.next());
+                }
+                chunkCont.close();
+                m_remoteChunks[c] = chunkCont.getTable();
+            }
+        }
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableInt("maxIterations", totalChunkCount);
         m_iteration++;
@@ -162,15 +203,82 @@ public class LoopStartChunkNodeModel extends NodeModel implements
         }
         m_iterator = null;
         m_table = null;
+        m_remoteChunks = new BufferedDataTable[0];
+        m_totalChunkCount = 0;
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean terminateLoop() {
+        if (m_chunkMaster != null) {
+            // this node only processes the first chunk, the others are run as parallel chunks
+            return true;
+        }
+        if (m_remoteChunks.length > 0) {
+            // loop could not be parallelized, the split off chunks are processed sequentially
+            return m_iteration > m_remoteChunks.length;
+        }
         boolean continueLoop = m_iterator == null || m_iterator.hasNext();
         return !continueLoop;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isParallelizationEnabled() {
+        // only after the first iteration, which splits off the remaining chunks
+        return m_iteration == 1 && m_config != null && m_config.getParallelIterations() > 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSequentialFallbackSupported() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxConcurrentChunks() {
+        // this node processes one of the chunks itself
+        return m_config.getParallelIterations() - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_remoteChunks.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        // chunk i is iteration i + 1, iteration 0 is processed by this node
+        return new VirtualParallelizedChunkNodeInput(new BufferedDataTable[] {m_remoteChunks[chunkIndex]},
+            Arrays.asList(new FlowVariable("currentIteration", chunkIndex + 1),
+                new FlowVariable("maxIterations", m_totalChunkCount)), chunkIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_chunkMaster = pccm;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BufferedDataTable[] getInternalTables() {
+        return m_remoteChunks;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setInternalTables(final BufferedDataTable[] tables) {
+        m_remoteChunks = tables;
+    }
+
     /**
      * {@inheritDoc}
      */
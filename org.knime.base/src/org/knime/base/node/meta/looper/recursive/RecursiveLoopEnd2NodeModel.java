@@ -45,9 +45,8 @@
  */
 package org.knime.base.node.meta.looper.recursive;
 
-import org.knime.core.data.DataRow;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 
 /**
@@ -105,20 +104,18 @@ public class RecursiveLoopEnd2NodeModel extends RecursiveLoopEndNodeModel {
                     + " to matching/corresponding Recursive Loop Start (2 ports) node.");
         }
 
-        // in port 2: is fed back to loop start node
-        BufferedDataContainer loopData = exec.createDataContainer(inData[resultingIn2].getDataTableSpec());
-
-        ExecutionContext exec1 = exec.createSubExecutionContext(0.3);
+        // in port 2: is fed back to loop start node (kept in keepInDataForNextIteration if the loop continues)
+        m_inData2 = inData[resultingIn2];
+        return super.execute(inData, exec);
+    }
 
-        int count = 0;
-        for (DataRow row : inData[resultingIn2]) {
-            exec1.checkCanceled();
-            exec1.setProgress(1.0 * count / loopData.size(), "Copy input table 2");
-            loopData.addRowToTable(createNewRow(row, row.getKey()));
-        }
-        loopData.close();
-        m_inData2  = loopData.getTable();
-        return super.execute(inData, exec.createSubExecutionContext(0.7));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void keepInDataForNextIteration(final ExecutionContext exec) throws CanceledExecutionException {
+        m_inData2 = keepTableForNextIteration(m_inData2, exec, "Copy input table 2");
+        super.keepInDataForNextIteration(exec);
     }
 
     /**Call to get the in data table of the previous iteration.
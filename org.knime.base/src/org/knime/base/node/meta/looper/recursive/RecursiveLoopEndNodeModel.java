@@ -47,6 +47,8 @@ package org.knime.base.node.meta.looper.recursive;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.knime.base.data.append.column.AppendedColumnRow;
 import org.knime.core.data.DataCell;
@@ -85,6 +87,13 @@ public class RecursiveLoopEndNodeModel extends NodeModel implements LoopEndNode
     private BufferedDataTable m_inData;
     private int m_iterationnr = 0;
 
+    /** Tables kept for the next iteration (fed back to the loop start) in this and in the previous iteration. */
+    private List<BufferedDataTable> m_keptTables = new ArrayList<BufferedDataTable>();
+    private List<BufferedDataTable> m_previouslyKeptTables = new ArrayList<BufferedDataTable>();
+
+    /** Kept tables that were taken over from the loop body (not copied) and haven't been released yet. */
+    private final List<BufferedDataTable> m_takenOverTables = new ArrayList<BufferedDataTable>();
+
     private SettingsModelIntegerBounded m_maxIterations = RecursiveLoopEndNodeDialog.createIterationsModel();
     private SettingsModelInteger m_minNumberOfRows = RecursiveLoopEndNodeDialog.createNumOfRowsModel();
     private SettingsModelBoolean m_onlyLastResult = RecursiveLoopEndNodeDialog.createOnlyLastModel();
@@ -134,18 +143,19 @@ public class RecursiveLoopEndNodeModel extends NodeModel implements LoopEndNode
 
         // in port 0: collects the data provided at the output port
         // in port 1: is fed back to loop start node
-        BufferedDataContainer loopData = exec.createDataContainer(inData[resultingIn].getDataTableSpec());
-        for (DataRow row : inData[resultingIn]) {
-            exec.checkCanceled();
-            exec.setMessage("Copy input table 1");
-            loopData.addRowToTable(createNewRow(row, row.getKey()));
-        }
-        loopData.close();
-        m_inData  = loopData.getTable();
+        m_inData = inData[resultingIn];
 
         boolean endLoop = checkDataTableSize(m_minNumberOfRows.getIntValue())
                 || (m_iterationnr + 1) >= m_maxIterations.getIntValue()
                 || m_endLoop.getStringValue().equalsIgnoreCase("true");
+        if (!endLoop) {
+            // the table(s) fed back must survive the reset of the loop body
+            List<BufferedDataTable> outdatedTables = m_previouslyKeptTables;
+            m_previouslyKeptTables = m_keptTables;
+            m_keptTables = new ArrayList<BufferedDataTable>();
+            keepInDataForNextIteration(exec);
+            releaseOutdatedTables(outdatedTables, exec);
+        }
 
         if (m_onlyLastResult.getBooleanValue()) {
             if (endLoop) {
@@ -187,6 +197,61 @@ public class RecursiveLoopEndNodeModel extends NodeModel implements LoopEndNode
         return new BufferedDataTable[1];
     }
 
+    /**
+     * Called if the loop continues: makes sure the table(s) fed back to the loop start are not cleared when the loop
+     * body is reset.
+     *
+     * @param exec for table creation and cancelation
+     * @throws CanceledExecutionException if canceled
+     * @since 3.5
+     */
+    protected void keepInDataForNextIteration(final ExecutionContext exec) throws CanceledExecutionException {
+        m_inData = keepTableForNextIteration(m_inData, exec, "Copy input table 1");
+    }
+
+    /**
+     * Takes over the argument table from the loop body (see
+     * {@link ExecutionContext#takeOverLoopIterationTable(BufferedDataTable)}) or, if that's not possible, copies it.
+     *
+     * @param table a table created in the loop body
+     * @param exec for table creation and cancelation
+     * @param message progress message shown while copying
+     * @return the table itself or a copy owned by this node
+     * @throws CanceledExecutionException if canceled
+     * @since 3.5
+     */
+    protected BufferedDataTable keepTableForNextIteration(final BufferedDataTable table, final ExecutionContext exec,
+        final String message) throws CanceledExecutionException {
+        if (exec.takeOverLoopIterationTable(table)) {
+            // a table kept in the previous iteration may be passed through the loop body unmodified
+            if (!m_previouslyKeptTables.contains(table) && !m_keptTables.contains(table)) {
+                m_takenOverTables.add(table);
+            }
+            m_keptTables.add(table);
+            return table;
+        }
+        BufferedDataContainer loopData = exec.createDataContainer(table.getDataTableSpec());
+        for (DataRow row : table) {
+            exec.checkCanceled();
+            exec.setMessage(message);
+            loopData.addRowToTable(createNewRow(row, row.getKey()));
+        }
+        loopData.close();
+        m_keptTables.add(loopData.getTable());
+        return loopData.getTable();
+    }
+
+    /** Releases the tables taken over two iterations ago: the loop start has moved on to the ones kept in the
+     * previous iteration and the loop body that may have referenced them has been reset since. Without this they
+     * would accumulate until the loop end is reset. */
+    private void releaseOutdatedTables(final List<BufferedDataTable> outdatedTables, final ExecutionContext exec) {
+        for (BufferedDataTable t : outdatedTables) {
+            if (!m_previouslyKeptTables.contains(t) && !m_keptTables.contains(t) && m_takenOverTables.remove(t)) {
+                exec.releaseLoopIterationTable(t);
+            }
+        }
+    }
+
     /**Creates a new row, with the cells as in row and the rowkey newkey.
      *
      * @param row previous data cells
@@ -208,6 +273,10 @@ public class RecursiveLoopEndNodeModel extends NodeModel implements LoopEndNode
     protected void reset() {
         m_iterationnr = 0;
         m_outcontainer = null;
+        // taken over tables are cleared by the framework (temporary tables of this node)
+        m_keptTables = new ArrayList<BufferedDataTable>();
+        m_previouslyKeptTables = new ArrayList<BufferedDataTable>();
+        m_takenOverTables.clear();
     }
 
     /**
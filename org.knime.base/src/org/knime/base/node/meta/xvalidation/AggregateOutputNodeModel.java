@@ -55,6 +55,7 @@ import java.util.NoSuchElementException;
 
 import org.knime.base.data.append.column.AppendedColumnRow;
 import org.knime.base.data.append.column.AppendedColumnTable;
+import org.knime.base.node.meta.looper.ParallelLoopIterations;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -76,7 +77,8 @@ import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  * This models aggregates the result from each of the cross validation loops. It
@@ -85,7 +87,8 @@ import org.knime.core.node.workflow.LoopEndNode;
  * @author Bernd Wiswedel, University of Konstanz
  * @author Thorsten Meinl, University of Konstanz
  */
-public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
+public class AggregateOutputNodeModel extends NodeModel implements
+        LoopEndParallelizeNode {
     private static final DataTableSpec NOMINAL_STATISTICS_SPEC =
             new DataTableSpec(new DataColumnSpecCreator("Error in %",
                     DoubleCell.TYPE).createSpec(), new DataColumnSpecCreator(
@@ -110,6 +113,10 @@ public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
 
     private DataTableSpec m_firstIterationSpec;
 
+    /* folds run in parallel by the partitioner, if any */
+    private final ParallelLoopIterations m_parallelIterations =
+            new ParallelLoopIterations();
+
     /**
      * Create a new model for the aggregation node.
      */
@@ -223,7 +230,6 @@ public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
                     + " and max count is " + maxCount);
         }
         final BufferedDataTable in = inData[0];
-        final DataTableSpec inSpec = in.getDataTableSpec();
         if (count == 0) {
             m_firstIterationSpec = in.getDataTableSpec();
             m_predictionTable =
@@ -233,32 +239,82 @@ public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
             throw new Exception(
                     "Loop Head claims this is NOT the first iteration"
                             + " but the tail believes it is?!");
+        }
+
+        final boolean lastIteration =
+                m_parallelIterations.isActive() || count == maxCount - 1;
+        aggregateFold(in, exec.createSubProgress(lastIteration ? 0.9 : 1));
+        if (m_parallelIterations.isActive()) {
+            // the remaining folds were run in parallel, aggregate their
+            // results in fold order
+            for (BufferedDataTable[] foldResult : m_parallelIterations
+                    .awaitResults(exec)) {
+                aggregateFold(foldResult[0], exec.createSubProgress(0.0));
+            }
+            m_parallelIterations.setChunkMaster(null);
+        }
+
+        if (!lastIteration) {
+            continueLoop();
+            return new BufferedDataTable[2];
         } else {
-            if (!inSpec.equalStructure(m_firstIterationSpec)) {
-                StringBuilder error =
-                        new StringBuilder(
-                                "Input table's structure differs from reference "
-                                        + "(first iteration) table: ");
-                if (inSpec.getNumColumns() != m_firstIterationSpec
-                        .getNumColumns()) {
-                    error.append("different column counts ");
-                    error.append(inSpec.getNumColumns());
-                    error.append(" vs. ").append(
-                            m_firstIterationSpec.getNumColumns());
-                } else {
-                    for (int i = 0; i < inSpec.getNumColumns(); i++) {
-                        DataColumnSpec inCol = inSpec.getColumnSpec(i);
-                        DataColumnSpec predCol =
-                                m_firstIterationSpec.getColumnSpec(i);
-                        if (!inCol.equalStructure(predCol)) {
-                            error.append("Column ").append(i).append(" [");
-                            error.append(inCol).append("] vs. [");
-                            error.append(predCol).append("]");
-                        }
+            final boolean numericMode = isNumericMode(m_firstIterationSpec);
+            BufferedDataContainer cont =
+                    exec.createDataContainer(numericMode ? NUMERIC_STATISTICS_SPEC
+                            : NOMINAL_STATISTICS_SPEC);
+            for (DataRow row : m_foldStatistics) {
+                cont.addRowToTable(row);
+            }
+            cont.close();
+
+            m_predictionTable.close();
+            return new BufferedDataTable[]{m_predictionTable.getTable(),
+                    cont.getTable()};
+        }
+    }
+
+    private boolean isNumericMode(final DataTableSpec spec) {
+        final int predictColIndex =
+                spec.findColumnIndex(m_settings.predictionColumn());
+        return spec.getColumnSpec(predictColIndex).getType()
+                .isCompatible(DoubleValue.class);
+    }
+
+    /**
+     * Adds the predictions of one fold to the prediction table and computes
+     * the fold's statistics.
+     *
+     * @param in the table of the fold (as received at the input port)
+     * @param subExec for progress and cancelation
+     * @throws CanceledExecutionException if canceled
+     */
+    private void aggregateFold(final BufferedDataTable in,
+            final ExecutionMonitor subExec) throws CanceledExecutionException {
+        final DataTableSpec inSpec = in.getDataTableSpec();
+        if (!inSpec.equalStructure(m_firstIterationSpec)) {
+            StringBuilder error =
+                    new StringBuilder(
+                            "Input table's structure differs from reference "
+                                    + "(first iteration) table: ");
+            if (inSpec.getNumColumns() != m_firstIterationSpec
+                    .getNumColumns()) {
+                error.append("different column counts ");
+                error.append(inSpec.getNumColumns());
+                error.append(" vs. ").append(
+                        m_firstIterationSpec.getNumColumns());
+            } else {
+                for (int i = 0; i < inSpec.getNumColumns(); i++) {
+                    DataColumnSpec inCol = inSpec.getColumnSpec(i);
+                    DataColumnSpec predCol =
+                            m_firstIterationSpec.getColumnSpec(i);
+                    if (!inCol.equalStructure(predCol)) {
+                        error.append("Column ").append(i).append(" [");
+                        error.append(inCol).append("] vs. [");
+                        error.append(predCol).append("]");
                     }
                 }
-                throw new IllegalArgumentException(error.toString());
             }
+            throw new IllegalArgumentException(error.toString());
         }
 
         final int rowCount = in.getRowCount();
@@ -269,12 +325,8 @@ public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
                 in.getDataTableSpec().findColumnIndex(
                         m_settings.predictionColumn());
 
-        final boolean numericMode =
-                in.getDataTableSpec().getColumnSpec(predictColIndex).getType()
-                        .isCompatible(DoubleValue.class);
+        final boolean numericMode = isNumericMode(inSpec);
 
-        ExecutionMonitor subExec =
-                exec.createSubProgress(count == maxCount - 1 ? 0.9 : 1);
         final DataCell foldNumber = new IntCell(m_foldStatistics.size());
         if (numericMode) {
             double errorSum = 0;
@@ -334,23 +386,6 @@ public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
                             new IntCell(rowCount), new IntCell(incorrect));
             m_foldStatistics.add(stats);
         }
-
-        if (count < maxCount - 1) {
-            continueLoop();
-            return new BufferedDataTable[2];
-        } else {
-            BufferedDataContainer cont =
-                    exec.createDataContainer(numericMode ? NUMERIC_STATISTICS_SPEC
-                            : NOMINAL_STATISTICS_SPEC);
-            for (DataRow row : m_foldStatistics) {
-                cont.addRowToTable(row);
-            }
-            cont.close();
-
-            m_predictionTable.close();
-            return new BufferedDataTable[]{m_predictionTable.getTable(),
-                    cont.getTable()};
-        }
     }
 
     /**
@@ -378,6 +413,24 @@ public class AggregateOutputNodeModel extends NodeModel implements LoopEndNode {
     protected void reset() {
         m_foldStatistics.clear();
         m_predictionTable = null;
+        m_parallelIterations.setChunkMaster(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParallelChunkMaster(
+            final ParallelizedChunkContentMaster pcm) {
+        m_parallelIterations.setChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelIterations.statusChanged();
     }
 
     /**
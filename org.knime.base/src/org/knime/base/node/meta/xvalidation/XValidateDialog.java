@@ -98,6 +98,9 @@ public class XValidateDialog extends NodeDialogPane {
 
     private final JTextField m_randomSeed = new JTextField(10);
 
+    private final JSpinner m_parallelFolds =
+            new JSpinner(new SpinnerNumberModel(1, 1, 100, 1));
+
     /**
      * Creates a new dialog for the cross validation settings.
      */
@@ -184,10 +187,22 @@ public class XValidateDialog extends NodeDialogPane {
             @Override
             public void stateChanged(final ChangeEvent e) {
                 m_validations.setEnabled(!m_leaveOneOut.isSelected());
+                m_parallelFolds.setEnabled(!m_leaveOneOut.isSelected());
             }
         });
         m_leaveOneOut.doClick(); // enablement in sync
 
+        c.gridy++;
+        c.gridx = 0;
+        p.add(new JLabel("Parallel folds   "), c);
+        c.gridx = 1;
+        m_parallelFolds.setToolTipText("Number of folds executed at the same "
+                + "time. Only use values > 1 if the folds don't depend on each "
+                + "other (e.g. no loop end or flow variables fed back). The "
+                + "tables of all folds are then created up front, which needs "
+                + "about #folds times the input size of disk space.");
+        p.add(m_parallelFolds, c);
+
         ButtonGroup bg = new ButtonGroup();
         bg.add(m_linearSampling);
         bg.add(m_randomSampling);
@@ -213,11 +228,13 @@ public class XValidateDialog extends NodeDialogPane {
         } else if (m_settings.leaveOneOut()) {
             m_leaveOneOut.setSelected(true);
             m_validations.setEnabled(false);
+            m_parallelFolds.setEnabled(false);
         } else {
             m_linearSampling.setSelected(true);
         }
         m_useRandomSeed.setSelected(m_settings.useRandomSeed());
         m_randomSeed.setText(Long.toString(m_settings.randomSeed()));
+        m_parallelFolds.setValue(m_settings.parallelFolds());
 
         m_classColumn.update(specs[0], m_settings.classColumn());
     }
@@ -236,6 +253,8 @@ public class XValidateDialog extends NodeDialogPane {
         m_settings.classColumn(m_classColumn.getSelectedColumn());
         m_settings.useRandomSeed(m_useRandomSeed.isSelected());
         m_settings.randomSeed(Long.parseLong(m_randomSeed.getText()));
+        m_settings.parallelFolds(((Number)m_parallelFolds.getValue())
+                .intValue());
         m_settings.saveSettingsTo(settings);
     }
 }
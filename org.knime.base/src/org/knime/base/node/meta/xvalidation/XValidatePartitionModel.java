@@ -48,6 +48,7 @@ package org.knime.base.node.meta.xvalidation;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -60,6 +61,7 @@ import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -67,7 +69,11 @@ import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * This is the cross validation partitioning node model that divides the input
@@ -77,7 +83,8 @@ import org.knime.core.node.workflow.LoopStartNodeTerminator;
  * @author Thorsten Meinl, University of Konstanz
  */
 public class XValidatePartitionModel extends NodeModel implements
-        LoopStartNodeTerminator {
+        LoopStartNodeTerminator, LoopStartParallelizeNode,
+        BufferedDataTableHolder {
     private final XValidateSettings m_settings = new XValidateSettings();
 
     private short[] m_partNumbers;
@@ -86,6 +93,12 @@ public class XValidatePartitionModel extends NodeModel implements
 
     private int m_currIteration;
 
+    /* parallel mode: training and test table of folds 1..k-1 (alternating),
+     * processed as parallel chunks */
+    private BufferedDataTable[] m_remoteFolds = new BufferedDataTable[0];
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
     /**
      * Creates a new model for the internal partitioner node.
      */
@@ -181,6 +194,18 @@ public class XValidatePartitionModel extends NodeModel implements
             }
         }
 
+        if (isParallelizationEnabled()) {
+            // all folds are created at once, fold 0 is processed by this
+            // node, the others are run as parallel chunks
+            BufferedDataTable[] folds = createAllFolds(inData[0], exec);
+            m_remoteFolds = Arrays.copyOfRange(folds, 2, folds.length);
+            // we need to put the counts on the stack for the loop's tail to see:
+            pushFlowVariableInt("currentIteration", m_currIteration);
+            pushFlowVariableInt("maxIterations", m_nrIterations);
+            m_currIteration++;
+            return new BufferedDataTable[]{folds[0], folds[1]};
+        }
+
         BufferedDataContainer test =
                 exec.createDataContainer(inData[0].getDataTableSpec());
 
@@ -222,6 +247,60 @@ public class XValidatePartitionModel extends NodeModel implements
         m_currIteration = 0;
         m_nrIterations = -1;
         m_partNumbers = null;
+        m_remoteFolds = new BufferedDataTable[0];
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
+    }
+
+    /**
+     * Creates the training and test tables of all folds in a single pass over
+     * the input table. As each row is part of the training table of all but
+     * one fold this writes roughly <code>k</code> times the input table to
+     * disk (<code>k</code> being the number of folds) and keeps it until the
+     * node is reset, whereas the sequential mode only holds the tables of the
+     * current fold. That's why parallel folds need to be enabled explicitly
+     * (see {@link XValidateSettings#parallelFolds()}).
+     *
+     * @return training and test table of each fold (alternating)
+     */
+    private BufferedDataTable[] createAllFolds(final BufferedDataTable table,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        BufferedDataContainer[] train =
+                new BufferedDataContainer[m_nrIterations];
+        BufferedDataContainer[] test =
+                new BufferedDataContainer[m_nrIterations];
+        for (int f = 0; f < m_nrIterations; f++) {
+            train[f] = exec.createDataContainer(spec);
+            test[f] = exec.createDataContainer(spec);
+        }
+
+        int count = 0;
+        final double max = table.getRowCount();
+        for (DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress(count / max);
+            final int part = m_partNumbers[count];
+            for (int f = 0; f < m_nrIterations; f++) {
+                if (f == part) {
+                    test[f].addRowToTable(row);
+                } else {
+                    train[f].addRowToTable(row);
+                }
+            }
+            count++;
+        }
+
+        BufferedDataTable[] folds = new BufferedDataTable[2 * m_nrIterations];
+        for (int f = 0; f < m_nrIterations; f++) {
+            train[f].close();
+            test[f].close();
+            folds[2 * f] = train[f].getTable();
+            folds[2 * f + 1] = test[f].getTable();
+        }
+        return folds;
     }
 
     /**
@@ -229,9 +308,81 @@ public class XValidatePartitionModel extends NodeModel implements
      */
     @Override
     public boolean terminateLoop() {
+        if (isParallelizationEnabled()) {
+            // this node only processes the first fold, the others are run as
+            // parallel chunks
+            return true;
+        }
         return m_currIteration >= m_nrIterations;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isParallelizationEnabled() {
+        // leave-one-out would need one copy of the loop body per row
+        return m_settings.parallelFolds() > 1 && !m_settings.leaveOneOut();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxConcurrentChunks() {
+        // this node processes one of the folds itself; no more than there
+        // are remote folds
+        return Math.max(1, Math.min(m_settings.parallelFolds() - 1,
+                getNrRemoteChunks()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_remoteFolds.length / 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(
+            final int chunkIndex) {
+        // chunk i is fold i + 1, fold 0 is processed by this node
+        return new VirtualParallelizedChunkNodeInput(new BufferedDataTable[]{
+                m_remoteFolds[2 * chunkIndex],
+                m_remoteFolds[2 * chunkIndex + 1]}, Arrays.asList(
+                new FlowVariable("currentIteration", chunkIndex + 1),
+                new FlowVariable("maxIterations", m_nrIterations)),
+                chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_chunkMaster = pccm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BufferedDataTable[] getInternalTables() {
+        return m_remoteFolds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInternalTables(final BufferedDataTable[] tables) {
+        m_remoteFolds = tables;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -251,6 +402,10 @@ public class XValidatePartitionModel extends NodeModel implements
                         + "' does not exist in input table");
             }
         }
+        if (m_settings.parallelFolds() < 1) {
+            throw new InvalidSettingsException("Number of parallel folds must "
+                    + "be at least 1");
+        }
 
         // we need to put the counts on the stack for the loop's tail to see:
         pushFlowVariableInt("currentIteration", m_currIteration);
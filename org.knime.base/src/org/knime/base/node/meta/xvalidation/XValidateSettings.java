@@ -69,6 +69,8 @@ public class XValidateSettings {
 
     private boolean m_useRandomSeed;
 
+    private int m_parallelFolds = 1;
+
     /**
      * Returns if leave-one-out cross validation should be performed.
      *
@@ -102,6 +104,7 @@ public class XValidateSettings {
         settings.addString("classColumn", m_classColumn);
         settings.addBoolean("useRandomSeed", m_useRandomSeed);
         settings.addLong("randomSeed", m_randomSeed);
+        settings.addInt("parallelFolds", m_parallelFolds);
     }
 
     /**
@@ -124,6 +127,9 @@ public class XValidateSettings {
         m_useRandomSeed = settings.getBoolean("useRandomSeed", false);
         m_randomSeed =
                 settings.getLong("randomSeed", System.currentTimeMillis());
+
+        // added in 3.5
+        m_parallelFolds = settings.getInt("parallelFolds", 1);
     }
 
     /**
@@ -142,6 +148,7 @@ public class XValidateSettings {
         m_useRandomSeed = settings.getBoolean("useRandomSeed", false);
         m_randomSeed =
                 settings.getLong("randomSeed", System.currentTimeMillis());
+        m_parallelFolds = settings.getInt("parallelFolds", 1);
     }
 
     /**
@@ -262,4 +269,30 @@ public class XValidateSettings {
     public void randomSeed(final long value) {
         m_randomSeed = value;
     }
+
+    /**
+     * Returns the number of folds that are trained and evaluated at the same
+     * time. Not used for leave-one-out. Defaults to 1 (sequential); values
+     * &gt; 1 create the tables of all folds up front, which takes about
+     * <code>k</code> times the size of the input table on disk.
+     *
+     * @return the number of concurrent folds, 1 for sequential execution
+     * @since 3.5
+     */
+    public int parallelFolds() {
+        return m_parallelFolds;
+    }
+
+    /**
+     * Sets the number of folds that are trained and evaluated at the same
+     * time. Values &gt; 1 require the loop body to not depend on previous
+     * folds.
+     *
+     * @param parallelFolds the number of concurrent folds, 1 for sequential
+     *            execution
+     * @since 3.5
+     */
+    public void parallelFolds(final int parallelFolds) {
+        m_parallelFolds = parallelFolds;
+    }
 }
@@ -51,6 +51,7 @@ import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DeterministicNodeModel;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
@@ -74,7 +75,7 @@ import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
  * @author Thomas Gabriel, KNIME.com AG, Zurich
  * @since 2.8
  */
-public class DataColumnSpecFilterNodeModel extends NodeModel {
+public class DataColumnSpecFilterNodeModel extends NodeModel implements DeterministicNodeModel {
 
     private DataColumnSpecFilterConfiguration m_conf;
 
@@ -50,7 +50,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -160,8 +160,7 @@ public class Pivot2NodeModel extends GroupByNodeModel {
                     return new DataTableSpec[] {null, groupRowsSpec, null};
                 }
             }
-            final DataTableSpec outSpec = createOutSpec(groupSpec, combPivots,
-                /* ignored */ new HashMap<String, Integer>(), null);
+            final DataTableSpec outSpec = createOutSpec(groupSpec, combPivots, null);
             if (m_totalAggregation.getBooleanValue()) {
                 @SuppressWarnings("unchecked")
                 final
@@ -347,13 +346,11 @@ public class Pivot2NodeModel extends GroupByNodeModel {
             fillExec.checkCanceled();
         }
 
-        final Map<String, Integer> pivotStarts =
-            new LinkedHashMap<String, Integer>();
         final DataTableSpec outSpec = createOutSpec(groupSpec, combPivots,
-                pivotStarts, orderPivotColumnName);
+                orderPivotColumnName);
         exec.setProgress("Filling pivot table");
         BufferedDataTable pivotTable = fillPivotTable(
-                groupTable, outSpec, pivotStarts,
+                groupTable, outSpec, combPivots,
                 groupAndPivotExec.createSubExecutionContext(
                         progMainTableFillPivots / progMainTotal),
                         orderPivotColumnName);
@@ -428,7 +425,7 @@ public class Pivot2NodeModel extends GroupByNodeModel {
                     pivotExec.createSubExecutionContext(
                             progPivotFillMissing / progPivotTotal));
         BufferedDataTable pivotRowsTable = fillPivotTable(groupedRowTable,
-                outSpec, pivotStarts, pivotExec.createSubExecutionContext(
+                outSpec, combPivots, pivotExec.createSubExecutionContext(
                         progPivotFillPivots / progPivotTotal), null);
         if (orderPivotColumnName != null) {
             final ColumnRearranger colre2 = new ColumnRearranger(
@@ -493,7 +490,6 @@ public class Pivot2NodeModel extends GroupByNodeModel {
 
     private DataTableSpec createOutSpec(final DataTableSpec groupSpec,
             final Set<String>[] combPivots,
-            final Map<String, Integer> pivotStarts,
             final String orderPivotColumnName) {
         final List<String> groupCols = getGroupByColumns();
         final List<String> groupAndPivotCols = createAllColumns();
@@ -506,20 +502,23 @@ public class Pivot2NodeModel extends GroupByNodeModel {
             }
         }
 
+        // aggregation columns, determined once as there might be thousands of pivots
+        final Set<String> groupAndPivotColSet = new HashSet<String>(groupAndPivotCols);
+        final List<DataColumnSpec> aggrSpecs = new ArrayList<DataColumnSpec>();
+        for (final DataColumnSpec cspec : groupSpec) {
+            final String name = cspec.getName();
+            if (!name.equals(orderPivotColumnName) && !groupAndPivotColSet.contains(name)) {
+                aggrSpecs.add(cspec);
+            }
+        }
+
         // all pivots combined with agg. methods
         for (final String p : pivots) {
-            pivotStarts.put(p, cspecs.size());
-            for (final DataColumnSpec cspec : groupSpec) {
-                if (cspec.getName().equals(orderPivotColumnName)) {
-                    continue;
-                }
-                final String name = cspec.getName();
-                if (!groupAndPivotCols.contains(name)) {
-                    final DataColumnSpec pivotCSpec = new DataColumnSpecCreator(
-                            p + PIVOT_AGGREGATION_DELIMITER + name,
-                            cspec.getType()).createSpec();
-                    cspecs.add(pivotCSpec);
-                }
+            for (final DataColumnSpec cspec : aggrSpecs) {
+                final DataColumnSpec pivotCSpec = new DataColumnSpecCreator(
+                        p + PIVOT_AGGREGATION_DELIMITER + cspec.getName(),
+                        cspec.getType()).createSpec();
+                cspecs.add(pivotCSpec);
             }
         }
 
@@ -530,9 +529,14 @@ public class Pivot2NodeModel extends GroupByNodeModel {
         return new DataTableSpec(cspecs.toArray(new DataColumnSpec[0]));
     }
 
+    /**
+     * Creates the pivot table from the argument group table, which is sorted by the group and pivot columns. The
+     * table is processed in a single pass, each group is written as soon as the next group starts, i.e. only the cells
+     * of a single output row are kept in memory.
+     */
     private BufferedDataTable fillPivotTable(final BufferedDataTable groupTable,
             final DataTableSpec pivotSpec,
-            final Map<String, Integer> pivotStarts,
+            final Set<String>[] combPivots,
             final ExecutionContext exec,
             final String orderPivotColumnName)
         throws CanceledExecutionException {
@@ -545,12 +549,36 @@ public class Pivot2NodeModel extends GroupByNodeModel {
         final int groupCount = groupCols.size();
         final DataTableSpec groupSpec = groupTable.getSpec();
         final int colCount = groupSpec.getNumColumns();
+        final int orderColIdx = orderPivotColumnName == null ? -1
+            : groupSpec.findColumnIndex(orderPivotColumnName);
+        final int aggrCount = colCount - groupCount - pivotCount
+            - (orderColIdx < 0 ? 0 : 1);
+        // the start of a pivot in the output is computed from the indices of
+        // its values, see createPivotColumns for the order of the pivots
+        @SuppressWarnings("unchecked")
+        final Map<String, Integer>[] pivotValueIdxs = new Map[pivotCount];
+        final int[] pivotStrides = new int[pivotCount];
+        int stride = aggrCount;
+        for (int p = 0; p < pivotCount; p++) {
+            pivotValueIdxs[p] = new HashMap<String, Integer>();
+            // the pivots are not determined if the group table is empty
+            if (combPivots[p] != null) {
+                for (final String value : combPivots[p]) {
+                    pivotValueIdxs[p].put(value, pivotValueIdxs[p].size());
+                }
+            }
+            pivotStrides[p] = stride;
+            stride *= pivotValueIdxs[p].size();
+        }
+        final int retainIndex = pivotSpec.getNumColumns() - 1;
+        final DataValueComparator retainComp = orderColIdx < 0 ? null
+            : pivotSpec.getColumnSpec(retainIndex).getType().getComparator();
         final DataCell[] outcells = new DataCell[pivotSpec.getNumColumns()];
         final long totalRowCount = groupTable.size();
         long rowIndex = 0;
         for (final DataRow row : groupTable) {
             final RowKey origRowKey = row.getKey();
-            String pivotColumn = null;
+            int pivotStart = groupCount;
             for (int i = 0; i < colCount; i++) {
                 final DataCell cell = row.getCell(i);
                 // is a group column
@@ -559,8 +587,7 @@ public class Pivot2NodeModel extends GroupByNodeModel {
                     if (outcells[i] != null && !cell.equals(outcells[i])) {
                         // write row to out table
                         write(buf, outcells);
-                        // reset pivot column name and out data row
-                        pivotColumn = null;
+                        // reset out data row
                         for (int j = i + 1; j < outcells.length; j++) {
                             outcells[j] = null;
                         }
@@ -576,34 +603,23 @@ public class Pivot2NodeModel extends GroupByNodeModel {
                         }
                         break;
                     }
-                    // create pivot column
-                    if (pivotColumn == null) {
-                        pivotColumn = cell.toString();
-                    } else {
-                        pivotColumn += PIVOT_COLUMN_DELIMITER + cell.toString();
+                    final int p = i - groupCount;
+                    final Integer valueIdx = pivotValueIdxs[p].get(cell.toString());
+                    if (valueIdx == null) {
+                        throw new IllegalStateException("Unknown value \"" + cell
+                            + "\" in pivot column \"" + pivotCols.get(p) + "\"");
+                    }
+                    pivotStart += valueIdx * pivotStrides[p];
+                // is the temp retain column (type:IntCell)
+                } else if (i == orderColIdx) {
+                    if (outcells[retainIndex] == null
+                            || retainComp.compare(outcells[retainIndex], cell) > 0) {
+                        outcells[retainIndex] = cell;
                     }
                 // is a aggregation column
                 } else {
-                    final int idx = pivotStarts.get(pivotColumn);
                     final int pivotIndex = i - pivotCount - groupCount;
-                    final int pivotCellIndex = idx + pivotIndex;
-                    if (orderPivotColumnName == null // if retain order is off
-                            || !groupSpec.getColumnSpec(i).getName().equals(
-                                    orderPivotColumnName)) {
-                        outcells[pivotCellIndex] = cell;
-                    } else { // temp retain column (type:IntCell)
-                        final int retainIndex = outcells.length - 1;
-                        if (outcells[retainIndex] == null) {
-                            outcells[retainIndex] = cell;
-                        } else {
-                            final DataValueComparator comp =
-                                pivotSpec.getColumnSpec(
-                                    retainIndex).getType().getComparator();
-                            if (comp.compare(outcells[retainIndex], cell) > 0) {
-                                outcells[retainIndex] = cell;
-                            }
-                        }
-                    }
+                    outcells[pivotStart + pivotIndex] = cell;
                 }
             }
             exec.setProgress(rowIndex++ / (double)totalRowCount,
@@ -56,6 +56,7 @@ import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.sort.BufferedDataTableSorter;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DeterministicNodeModel;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
@@ -78,7 +79,7 @@ import org.knime.core.node.util.ConvenienceMethods;
  *      java.util.Comparator)
  * @author Nicolas Cebron, University of Konstanz
  */
-public class SorterNodeModel extends NodeModel {
+public class SorterNodeModel extends NodeModel implements DeterministicNodeModel {
     /**
      * The input port used here.
      */
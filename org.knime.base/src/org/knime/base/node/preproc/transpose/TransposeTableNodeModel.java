@@ -48,8 +48,6 @@ package org.knime.base.node.preproc.transpose;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -61,6 +59,7 @@ import org.knime.core.data.def.DefaultRow;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DeterministicNodeModel;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
@@ -77,11 +76,14 @@ import org.knime.core.node.util.CheckUtils;
  *
  * @author Thomas Gabriel, University of Konstanz
  */
-final class TransposeTableNodeModel extends NodeModel {
+final class TransposeTableNodeModel extends NodeModel implements DeterministicNodeModel {
 
     /** Output hilite handler for new data generated during execute. */
     private final HiLiteHandler m_outHiLite;
 
+    /** Max number of temporary tables written at the same time (each keeps a file open). */
+    private static final int MAX_BLOCK_TABLES = 64;
+
     /** Chunk size model. */
     private final SettingsModelIntegerBounded m_chunkSize
         = TransposeTableNodeDialogPane.createChunkSizeModel();
@@ -172,6 +174,25 @@ final class TransposeTableNodeModel extends NodeModel {
         // new number of columns = number of rows
         CheckUtils.checkState(inData[0].size() <= Integer.MAX_VALUE, "Transpose operation can't handle more rows than " + Integer.MAX_VALUE);
         final int newNrCols = (int)inData[0].size();
+        // new number of rows
+        final int newNrRows = spec.getNumColumns();
+        final int chunkSize = m_chunkSize.getIntValue();
+        // the input is read once and split into blocks of columns, each block is written to a temporary
+        // table and transposed in memory afterwards, chunk size columns at a time. A block holds several
+        // chunks if there are more chunks than temporary tables that can be open at the same time.
+        final int nrChunks = (int)Math.ceil((double)newNrRows / chunkSize);
+        final int blockWidth = (int)Math.ceil((double)nrChunks / MAX_BLOCK_TABLES) * chunkSize;
+        final int nrBlocks = (int)Math.ceil((double)newNrRows / blockWidth);
+        final BufferedDataContainer[] blockConts = new BufferedDataContainer[nrBlocks];
+        for (int b = 0; b < nrBlocks; b++) {
+            final int firstCol = b * blockWidth;
+            final DataColumnSpec[] blockSpecs = new DataColumnSpec[Math.min(newNrRows, firstCol + blockWidth) - firstCol];
+            for (int c = 0; c < blockSpecs.length; c++) {
+                blockSpecs[c] = spec.getColumnSpec(firstCol + c);
+            }
+            // many open containers would accumulate a lot of memory, hence they write to disc immediately
+            blockConts[b] = exec.createDataContainer(new DataTableSpec(blockSpecs), false, nrBlocks > 1 ? 0 : -1);
+        }
         // new column names
         final ArrayList<String> colNames = new ArrayList<String>();
         // new column types
@@ -181,33 +202,49 @@ final class TransposeTableNodeModel extends NodeModel {
         // index for unique colNames if row id only contains whitespace
         int idx = 0;
 
-        for (DataRow row : inData[0]) {
-            exec.checkCanceled();
-            exec.setMessage("Determine most-general column type for row: "
-                    + row.getKey().getString());
-            DataType type = null;
-            // and all cells
-            for (int i = 0; i < row.getNumCells(); i++) {
-                DataType newType = row.getCell(i).getType();
+        final ExecutionMonitor readExec = exec.createSubProgress(0.5);
+        int rowIdx = 0;
+        try {
+            for (DataRow row : inData[0]) {
+                exec.checkCanceled();
+                final String rowKey = row.getKey().getString();
+                readExec.setProgress((rowIdx + 1) / (double)newNrCols,
+                    () -> "Determine most-general column type for row: " + rowKey);
+                DataType type = null;
+                // and all cells
+                for (int i = 0; i < row.getNumCells(); i++) {
+                    DataType newType = row.getCell(i).getType();
+                    if (type == null) {
+                        type = newType;
+                    } else {
+                        type = DataType.getCommonSuperType(type, newType);
+                    }
+                }
                 if (type == null) {
-                    type = newType;
-                } else {
-                    type = DataType.getCommonSuperType(type, newType);
+                    type = DataType.getType(DataCell.class);
                 }
+                String colName = rowKey.trim();
+                if (colName.isEmpty()) {
+                    colName = "<empty_" + idx + ">";
+                    idx++;
+                }
+                colNames.add(colName);
+                colTypes.add(type);
+                for (int b = 0; b < nrBlocks; b++) {
+                    final int firstCol = b * blockWidth;
+                    final DataCell[] blockCells = new DataCell[blockConts[b].getTableSpec().getNumColumns()];
+                    for (int c = 0; c < blockCells.length; c++) {
+                        blockCells[c] = row.getCell(firstCol + c);
+                    }
+                    blockConts[b].addRowToTable(new DefaultRow(row.getKey(), blockCells));
+                }
+                rowIdx++;
             }
-            if (type == null) {
-                type = DataType.getType(DataCell.class);
-            }
-            String colName = row.getKey().getString().trim();
-            if (colName.isEmpty()) {
-                colName = "<empty_" + idx + ">";
-                idx++;
+        } finally {
+            for (BufferedDataContainer blockCont : blockConts) {
+                blockCont.close();
             }
-            colNames.add(colName);
-            colTypes.add(type);
         }
-        // new number of rows
-        int newNrRows = spec.getNumColumns();
         // create new specs
         final DataColumnSpec[] colSpecs = new DataColumnSpec[newNrCols];
         for (int c = 0; c < newNrCols; c++) {
@@ -217,45 +254,37 @@ final class TransposeTableNodeModel extends NodeModel {
         }
         BufferedDataContainer cont = exec
                 .createDataContainer(new DataTableSpec(colSpecs));
-        final int chunkSize = m_chunkSize.getIntValue();
-        // total number of chunks
-        final double nrChunks = Math.ceil((double) newNrRows / chunkSize);
-        for (int chunkIdx = 0; chunkIdx < nrChunks; chunkIdx++) {
-            // map of new row keys to cell arrays
-            Map<String, DataCell[]> map =
-                new LinkedHashMap<String, DataCell[]>(newNrRows);
-            int rowIdx = 0;
-            for (DataRow row : inData[0]) {
-                exec.setProgress(((rowIdx + 1) * (chunkIdx + 1))
-                        / (nrChunks * newNrCols), "Transpose row \""
-                        + row.getKey().getString() + "\" to column.");
-                int colIdx = chunkIdx * chunkSize;
-                // iterate chunk of columns
-                for (int r = colIdx;
-                        r < Math.min(newNrRows, colIdx + chunkSize); r++) {
-                    String newRowKey = spec.getColumnSpec(r).getName();
-                    DataCell[] cellArray = map.get(newRowKey);
-                    if (cellArray == null) {
-                        cellArray = new DataCell[newNrCols];
-                        map.put(newRowKey, cellArray);
+        final ExecutionMonitor writeExec = exec.createSubProgress(0.5);
+        for (int b = 0; b < nrBlocks; b++) {
+            final BufferedDataTable block = blockConts[b].getTable();
+            final DataTableSpec blockSpec = block.getDataTableSpec();
+            // one pass over the block per chunk
+            for (int firstCol = 0; firstCol < blockSpec.getNumColumns(); firstCol += chunkSize) {
+                final int chunkWidth = Math.min(chunkSize, blockSpec.getNumColumns() - firstCol);
+                final DataCell[][] cellArrays = new DataCell[chunkWidth][newNrCols];
+                rowIdx = 0;
+                for (DataRow row : block) {
+                    for (int c = 0; c < chunkWidth; c++) {
+                        cellArrays[c][rowIdx] = row.getCell(firstCol + c);
+                    }
+                    try {
+                        exec.checkCanceled();
+                    } catch (CanceledExecutionException cee) {
+                        cont.close();
+                        throw cee;
                     }
-                    cellArray[rowIdx] = row.getCell(r);
+                    rowIdx++;
                 }
-                try {
-                    exec.checkCanceled();
-                } catch (CanceledExecutionException cee) {
-                    cont.close();
-                    throw cee;
+                // add chunk of rows to buffer
+                for (int c = 0; c < chunkWidth; c++) {
+                    final String newRowKey = blockSpec.getColumnSpec(firstCol + c).getName();
+                    writeExec.setProgress((b * blockWidth + firstCol + c + 1) / (double)newNrRows,
+                        () -> "Adding row \"" + newRowKey + "\" to table.");
+                    cont.addRowToTable(new DefaultRow(newRowKey, cellArrays[c]));
+                    cellArrays[c] = null;
                 }
-                rowIdx++;
-            }
-            // add chunk of rows to buffer
-            for (Map.Entry<String, DataCell[]> e : map.entrySet()) {
-                exec.setMessage("Adding row \"" + e.getKey() + "\" to table.");
-                DataRow row = new DefaultRow(
-                        e.getKey(), e.getValue());
-                cont.addRowToTable(row);
             }
+            exec.clearTable(block);
         }
         exec.setProgress(1.0, "Finished, closing buffer...");
         cont.close();
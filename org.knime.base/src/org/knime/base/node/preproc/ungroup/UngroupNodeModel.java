@@ -55,6 +55,7 @@ import java.io.IOException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.collection.CollectionDataValue;
 import org.knime.core.node.BufferedDataTable;
@@ -72,6 +73,15 @@ import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 
 /**
@@ -170,7 +180,7 @@ public class UngroupNodeModel extends NodeModel {
         }
         final BufferedDataTable table = inData[0];
         ugO.setTable(table);
-        int[] colIdxs = compatibleGetSelectedColIds(table);
+        int[] colIdxs = compatibleGetSelectedColIds(table.getDataTableSpec());
         if (colIdxs == null || colIdxs.length <= 0) {
             setWarningMessage("No ungroup column selected. Node returns input table.");
             return inData;
@@ -189,6 +199,66 @@ public class UngroupNodeModel extends NodeModel {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec spec = (DataTableSpec)inSpecs[0];
+        final int[] colIdxs = compatibleGetSelectedColIds(spec);
+        final DataTableSpec newSpec = compatibleCreateResultSpec(spec);
+        if (colIdxs.length <= 0) {
+            setWarningMessage("No ungroup column selected. Node returns input table.");
+        }
+        // the operation sets the hilite mapping on the translator of this model, which is not replaced
+        final HiLiteTranslator trans = m_trans;
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final RowInput in = (RowInput)inputs[0];
+                final RowOutput out = (RowOutput)outputs[0];
+                if (colIdxs.length <= 0) {
+                    // no ungroup column selected, the node returns the input table
+                    DataRow row;
+                    while ((row = in.poll()) != null) {
+                        out.push(row);
+                    }
+                } else {
+                    final UngroupOperation ugO = new UngroupOperation(m_enableHilite.getBooleanValue(),
+                        m_skipMissingVal.getBooleanValue(), m_removeCollectionCol.getBooleanValue());
+                    ugO.setColIndices(colIdxs);
+                    ugO.setNewSpec(newSpec);
+                    ugO.setTrans(trans);
+                    ugO.compute(in, out, exec, -1);
+                }
+                in.close();
+                out.close();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // the hilite mapping can only be created if all rows are processed by the same instance
+        return new InputPortRole[]{m_enableHilite.getBooleanValue() ? InputPortRole.NONDISTRIBUTED_STREAMABLE
+            : InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{m_enableHilite.getBooleanValue() ? OutputPortRole.NONDISTRIBUTED
+            : OutputPortRole.DISTRIBUTED};
+    }
+
     private int[] getSelectedColIdxs(final DataTableSpec spec, final String... colNames)
         throws InvalidSettingsException {
         final int[] idxs = new int[colNames.length];
@@ -317,12 +387,11 @@ public class UngroupNodeModel extends NodeModel {
     }
 
     /**
-     * @param table
+     * @param spec
      * @return
      * @throws InvalidSettingsException
      */
-    private int[] compatibleGetSelectedColIds(final BufferedDataTable table) throws InvalidSettingsException {
-        final DataTableSpec spec = table.getDataTableSpec();
+    private int[] compatibleGetSelectedColIds(final DataTableSpec spec) throws InvalidSettingsException {
         final String[] columnNames;
         if (m_columnName.getStringValue() == null) {
             //the column filter has been introduced in KNIME 2.8
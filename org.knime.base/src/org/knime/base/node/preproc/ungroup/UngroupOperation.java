@@ -48,6 +48,7 @@
  */
 package org.knime.base.node.preproc.ungroup;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -55,6 +56,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -78,6 +80,7 @@ import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.DataTableRowInput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.util.OrderedChunkWorker;
 
 /**
  * This class performs the ungroup operation.
@@ -166,6 +169,10 @@ public class UngroupOperation {
     /**
      * Performs the ungroup operation on the given row input and pushes the result to the row output.
      *
+     * <p>The input is split into chunks of rows that are ungrouped concurrently, the output rows are pushed in the
+     * order of the input. Rows whose collections expand to more than {@value #ROWS_PER_CHUNK} rows are expanded
+     * lazily while pushing, i.e. the expanded rows of a row are never held in memory.
+     *
      * @param in the row input, will NOT be closed when finished
      * @param out the row input, will NOT be closed when finished
      * @param exec the execution context to check cancellation and (optional) progress logging
@@ -175,131 +182,235 @@ public class UngroupOperation {
      */
     public void compute(final RowInput in, final RowOutput out, final ExecutionContext exec, final long rowCount) throws Exception {
         final Map<RowKey, Set<RowKey>> hiliteMapping = new HashMap<RowKey, Set<RowKey>>();
+        final RowLayout layout =
+            new RowLayout(in.getDataTableSpec().getNumColumns(), m_colIndices, m_removeCollectionCol);
+        new UngroupWorker(out, exec, rowCount, layout, hiliteMapping).run(in, exec);
+        if (m_enableHilite) {
+            m_trans.setMapper(new DefaultHiLiteMapper(hiliteMapping));
+        }
+    }
+
+    /** Maximum number of output rows created by a single task (rows of larger collections are expanded lazily). */
+    private static final int ROWS_PER_CHUNK = 1000;
+
+    /** Receives the rows created from an input row. */
+    @FunctionalInterface
+    private interface RowSink {
+        void push(DataRow row) throws InterruptedException;
+    }
+
+    /**
+     * Ungroups a single row.
+     *
+     * @param row the input row
+     * @param layout the positions of the cells in the output rows
+     * @param sink receives the output rows
+     */
+    private void ungroup(final DataRow row, final RowLayout layout, final RowSink sink)
+        throws InterruptedException {
+        final int nrCols = m_colIndices.length;
         @SuppressWarnings("unchecked")
-        Iterator<DataCell>[] iterators = new Iterator[m_colIndices.length];
-        final DataCell[] missingCells = new DataCell[m_colIndices.length];
-        Arrays.fill(missingCells, DataType.getMissingCell());
-        long rowCounter = 0;
-        DataRow row = null;
-        while ((row = in.poll()) != null) {
-            rowCounter++;
-            exec.checkCanceled();
-            if (rowCount > 0) {
-                exec.setProgress(rowCounter / (double)rowCount,
-                    "Processing row " + rowCounter + " of " + rowCount);
-            }
-            boolean allMissing = true;
-            for (int i = 0, length = m_colIndices.length; i < length; i++) {
-                final DataCell cell = row.getCell(m_colIndices[i]);
-                final CollectionDataValue listCell;
-                final Iterator<DataCell> iterator;
-                if (cell instanceof CollectionDataValue) {
-                    listCell = (CollectionDataValue)cell;
-                    iterator = listCell.iterator();
-                    allMissing = false;
-                } else {
-                    iterator = null;
-                }
-                iterators[i] = iterator;
+        final Iterator<DataCell>[] iterators = new Iterator[nrCols];
+        boolean allMissing = true;
+        for (int i = 0; i < nrCols; i++) {
+            final DataCell cell = row.getCell(m_colIndices[i]);
+            final Iterator<DataCell> iterator;
+            if (cell instanceof CollectionDataValue) {
+                iterator = ((CollectionDataValue)cell).iterator();
+                allMissing = false;
+            } else {
+                iterator = null;
             }
-            if (allMissing) {
-                //all collection column cells are missing cells append a row
-                //with missing cells as well if the skip missing value option is disabled
-                if (!m_skipMissingValues) {
-                    final DefaultRow newRow =
-                        createClone(row.getKey(), row, m_colIndices, m_removeCollectionCol, missingCells);
-                    if (m_enableHilite) {
-                        //create the hilite entry
-                        final Set<RowKey> keys = new HashSet<RowKey>(1);
-                        keys.add(row.getKey());
-                        hiliteMapping.put(row.getKey(), keys);
-                    }
-                    out.push(newRow);
+            iterators[i] = iterator;
+        }
+        // the cells of the non-collection columns are the same for all output rows
+        final DataCell[] template = layout.createTemplate(row);
+        if (allMissing) {
+            //all collection column cells are missing cells append a row
+            //with missing cells as well if the skip missing value option is disabled
+            if (!m_skipMissingValues) {
+                for (int position : layout.m_newCellPositions) {
+                    template[position] = DataType.getMissingCell();
                 }
-                continue;
+                sink.push(new DefaultRow(row.getKey(), template));
             }
-            long counter = 1;
-            final Set<RowKey> keys;
-            if (m_enableHilite) {
-                keys = new HashSet<RowKey>();
-            } else {
-                keys = null;
-            }
-            boolean continueLoop = false;
-            boolean allEmpty = true;
-            do {
-                //reset the loop flag
-                allMissing = true;
-                continueLoop = false;
-                final DataCell[] newCells = new DataCell[iterators.length];
-                for (int i = 0, length = iterators.length; i < length; i++) {
-                    Iterator<DataCell> iterator = iterators[i];
-                    DataCell newCell;
-                    if (iterator != null && iterator.hasNext()) {
+            return;
+        }
+        final String oldKey = row.getKey().getString();
+        long counter = 1;
+        boolean continueLoop = false;
+        boolean allEmpty = true;
+        do {
+            //reset the loop flag
+            allMissing = true;
+            continueLoop = false;
+            for (int i = 0; i < nrCols; i++) {
+                Iterator<DataCell> iterator = iterators[i];
+                DataCell newCell;
+                if (iterator != null && iterator.hasNext()) {
+                    allEmpty = false;
+                    continueLoop = true;
+                    newCell = iterator.next();
+                } else {
+                    if (iterator == null) {
                         allEmpty = false;
-                        continueLoop = true;
-                        newCell = iterator.next();
-                    } else {
-                        if (iterator == null) {
-                            allEmpty = false;
-                        }
-                        newCell = DataType.getMissingCell();
-                    }
-                    if (!newCell.isMissing()) {
-                        allMissing = false;
                     }
-                    newCells[i] = newCell;
+                    newCell = DataType.getMissingCell();
                 }
-                if (!allEmpty && !continueLoop) {
-                    break;
+                if (!newCell.isMissing()) {
+                    allMissing = false;
                 }
-                if (!allEmpty && allMissing && m_skipMissingValues) {
-                    continue;
+                template[layout.m_newCellPositions[i]] = newCell;
+            }
+            if (!allEmpty && !continueLoop) {
+                break;
+            }
+            if (!allEmpty && allMissing && m_skipMissingValues) {
+                continue;
+            }
+            final RowKey newKey = new RowKey(oldKey + "_" + counter++);
+            // DefaultRow copies the cells, the template is reused for the next output row
+            sink.push(new DefaultRow(newKey, template));
+        } while (continueLoop);
+    }
+
+    /**
+     * The positions of the cells in the output rows.
+     */
+    private static final class RowLayout {
+
+        /** Output position of each input cell or -1 if the cell is not part of the output. */
+        private final int[] m_inputCellPositions;
+
+        /** Output position of the ungrouped cell of the i-th collection column (in column order). */
+        private final int[] m_newCellPositions;
+
+        private final int m_nrCells;
+
+        RowLayout(final int nrInputCells, final int[] colIndices, final boolean removeCollectionCol) {
+            final int[] sortedColIndices = colIndices.clone();
+            Arrays.sort(sortedColIndices);
+            m_inputCellPositions = new int[nrInputCells];
+            m_newCellPositions = new int[sortedColIndices.length];
+            int outIdx = 0;
+            int newCellIdx = 0;
+            for (int i = 0; i < nrInputCells; i++) {
+                if (newCellIdx < sortedColIndices.length && sortedColIndices[newCellIdx] == i) {
+                    m_inputCellPositions[i] = removeCollectionCol ? -1 : outIdx++;
+                    m_newCellPositions[newCellIdx++] = outIdx++;
+                } else {
+                    m_inputCellPositions[i] = outIdx++;
                 }
-                final RowKey oldKey = row.getKey();
-                final RowKey newKey = new RowKey(oldKey.getString() + "_" + counter++);
-                final DefaultRow newRow = createClone(newKey, row, m_colIndices, m_removeCollectionCol, newCells);
-                out.push(newRow);
-                if (keys != null) {
-                    keys.add(newKey);
+            }
+            m_nrCells = outIdx;
+        }
+
+        /** @return the cells of an output row with the cells of the input row, ungrouped cells are not set yet */
+        DataCell[] createTemplate(final DataRow row) {
+            final DataCell[] template = new DataCell[m_nrCells];
+            for (int i = 0; i < m_inputCellPositions.length; i++) {
+                if (m_inputCellPositions[i] >= 0) {
+                    template[m_inputCellPositions[i]] = row.getCell(i);
                 }
-            } while (continueLoop);
-            if (keys != null && !keys.isEmpty()) {
-                hiliteMapping.put(row.getKey(), keys);
             }
+            return template;
         }
-        if (m_enableHilite) {
-            m_trans.setMapper(new DefaultHiLiteMapper(hiliteMapping));
+    }
+
+    /** @return the number of rows the argument row expands to (at least 1) */
+    private long getNrOutputRows(final DataRow row) {
+        long result = 1;
+        for (int colIdx : m_colIndices) {
+            final DataCell cell = row.getCell(colIdx);
+            if (cell instanceof CollectionDataValue) {
+                result = Math.max(result, ((CollectionDataValue)cell).size());
+            }
         }
+        return result;
     }
 
-    private DefaultRow createClone(final RowKey newKey, final DataRow row, final int[] colIdxs,
-        final boolean removeCollectionCol, final DataCell[] newCells) {
-        assert colIdxs.length == newCells.length;
-        final Map<Integer, DataCell> map = new HashMap<Integer, DataCell>(newCells.length);
-        for (int i = 0, length = newCells.length; i < length; i++) {
-            map.put(Integer.valueOf(colIdxs[i]), newCells[i]);
+    /**
+     * Ungroups the chunks of rows concurrently and pushes the results in the input order. A chunk contains rows that
+     * expand to at most {@value #ROWS_PER_CHUNK} rows. The result of a chunk is the list of output rows of each of its
+     * rows, or null for a chunk consisting of a single row with very large collections, which is expanded while
+     * pushing its rows.
+     */
+    private final class UngroupWorker extends OrderedChunkWorker<List<List<DataRow>>> {
+
+        private final RowOutput m_out;
+
+        private final ExecutionContext m_exec;
+
+        private final long m_rowCount;
+
+        private final RowLayout m_layout;
+
+        private final Map<RowKey, Set<RowKey>> m_hiliteMapping;
+
+        private long m_rowCounter;
+
+        UngroupWorker(final RowOutput out, final ExecutionContext exec, final long rowCount, final RowLayout layout,
+            final Map<RowKey, Set<RowKey>> hiliteMapping) {
+            super(ROWS_PER_CHUNK);
+            m_out = out;
+            m_exec = exec;
+            m_rowCount = rowCount;
+            m_layout = layout;
+            m_hiliteMapping = hiliteMapping;
         }
-        final int cellCount;
-        if (removeCollectionCol) {
-            cellCount = row.getNumCells();
-        } else {
-            cellCount = row.getNumCells() + colIdxs.length;
+
+        /** {@inheritDoc} */
+        @Override
+        protected long getRowWeight(final DataRow row) {
+            return getNrOutputRows(row);
         }
-        final DataCell[] cells = new DataCell[cellCount];
-        int cellIdx = 0;
-        int newCellidx = 0;
-        for (int i = 0, length = row.getNumCells(); i < length; i++) {
-            if (map.containsKey(Integer.valueOf(i))) {
-                if (!removeCollectionCol) {
-                    cells[cellIdx++] = row.getCell(i);
+
+        /** {@inheritDoc} */
+        @Override
+        protected List<List<DataRow>> computeChunk(final List<DataRow> chunk, final long index) throws Exception {
+            if (chunk.size() == 1 && getNrOutputRows(chunk.get(0)) > ROWS_PER_CHUNK) {
+                return null;
+            }
+            final List<List<DataRow>> result = new ArrayList<List<DataRow>>(chunk.size());
+            for (DataRow row : chunk) {
+                final List<DataRow> rows = new ArrayList<DataRow>();
+                ungroup(row, m_layout, rows::add);
+                result.add(rows);
+            }
+            return result;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void processChunk(final List<DataRow> chunk, final List<List<DataRow>> result)
+            throws InterruptedException {
+            for (int i = 0; i < chunk.size(); i++) {
+                final DataRow row = chunk.get(i);
+                final Set<RowKey> keys = m_enableHilite ? new HashSet<RowKey>() : null;
+                final RowSink sink = r -> {
+                    m_out.push(r);
+                    if (keys != null) {
+                        keys.add(r.getKey());
+                    }
+                };
+                if (result == null) {
+                    ungroup(row, m_layout, sink);
+                } else {
+                    for (DataRow r : result.get(i)) {
+                        sink.push(r);
+                    }
+                }
+                if (keys != null && !keys.isEmpty()) {
+                    m_hiliteMapping.put(row.getKey(), keys);
+                }
+                m_rowCounter++;
+                if (m_rowCount > 0) {
+                    final long rowCounter = m_rowCounter;
+                    m_exec.setProgress(rowCounter / (double)m_rowCount,
+                        () -> "Processing row " + rowCounter + " of " + m_rowCount);
                 }
-                cells[cellIdx++] = newCells[newCellidx++];
-            } else {
-                cells[cellIdx++] = row.getCell(i);
             }
         }
-        return new DefaultRow(newKey, cells);
     }
 
     /**
@@ -48,15 +48,16 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
-import org.knime.base.data.append.column.AppendedColumnRow;
-import org.knime.base.data.filter.column.FilterColumnRow;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -81,8 +82,20 @@ import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.ConvenienceMethods;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
+import org.knime.core.util.OrderedChunkWorker;
 
 /**
  * Unpivoting node model which performs the UNPIVOTing operation based on
@@ -191,55 +204,198 @@ final class Unpivot2NodeModel extends NodeModel {
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
         DataTableSpec inSpec = inData[0].getSpec();
+        BufferedDataContainer buf = exec.createDataContainer(createOutSpec(inSpec));
+        DataTableRowInput in = new DataTableRowInput(inData[0]);
+        BufferedDataTableRowOutput out = new BufferedDataTableRowOutput(buf);
+        unpivot(in, out, exec, inData[0].size(), m_trans);
+        in.close();
+        out.close();
+        return new BufferedDataTable[]{out.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        // the hilite mapping is set on the translator of this model, which is not replaced
+        final HiLiteTranslator trans = m_trans;
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                RowInput in = (RowInput)inputs[0];
+                RowOutput out = (RowOutput)outputs[0];
+                unpivot(in, out, exec, -1, trans);
+                in.close();
+                out.close();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // the keys of the output rows are numbered consecutively, hence a single instance has to see all rows
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+    }
+
+    /**
+     * Unpivots the rows of the argument input. Chunks of rows are unpivoted concurrently, the resulting rows are
+     * pushed in input order.
+     *
+     * @param in the row input, will not be closed
+     * @param out the row output, will not be closed
+     * @param exec for progress and cancellation
+     * @param rowCount the number of input rows or -1 if unknown
+     * @param trans the translator to set the hilite mapping on, may be null
+     */
+    private void unpivot(final RowInput in, final RowOutput out, final ExecutionContext exec, final long rowCount,
+        final HiLiteTranslator trans) throws Exception {
+        DataTableSpec inSpec = in.getDataTableSpec();
         String[] retainedColumns = m_retainedColumns.applyTo(inSpec).getIncludes();
         String[] valueColumns = m_valueColumns.applyTo(inSpec).getIncludes();
         int[] valueColumnIndices = new int[valueColumns.length];
+        // the column name cells are the same for all rows
+        StringCell[] valueColumnNameCells = new StringCell[valueColumns.length];
         for (int i = 0; i < valueColumnIndices.length; i++) {
             valueColumnIndices[i] = inSpec.findColumnIndex(valueColumns[i]);
+            valueColumnNameCells[i] = new StringCell(valueColumns[i]);
         }
         int[] orderColumnIdx = new int[retainedColumns.length];
         for (int i = 0; i < orderColumnIdx.length; i++) {
             orderColumnIdx[i] = inSpec.findColumnIndex(retainedColumns[i]);
         }
-        final double newRowCnt = inData[0].size() * valueColumns.length;
         final boolean enableHilite = m_enableHilite.getBooleanValue();
         LinkedHashMap<RowKey, Set<RowKey>> map =
             new LinkedHashMap<RowKey, Set<RowKey>>();
-        DataTableSpec outSpec = createOutSpec(inSpec);
-        BufferedDataContainer buf = exec.createDataContainer(outSpec);
-        final boolean skipMissings = m_missingValues.getBooleanValue();
-        for (DataRow row : inData[0]) {
-            LinkedHashSet<RowKey> set = new LinkedHashSet<RowKey>();
-            FilterColumnRow crow = new FilterColumnRow(row, orderColumnIdx);
-            for (int i = 0; i < valueColumns.length; i++) {
-                String colName = valueColumns[i];
-                DataCell acell = row.getCell(valueColumnIndices[i]);
-                if (acell.isMissing() && skipMissings) {
-                    // skip rows containing missing cells (in Value column(s))
-                    continue;
+        new UnpivotWorker(valueColumnIndices, valueColumnNameCells, orderColumnIdx, out, exec, rowCount,
+            enableHilite ? map : null).run(in, exec);
+        if (trans != null) {
+            trans.setMapper(enableHilite ? new DefaultHiLiteMapper(map) : null);
+        }
+    }
+
+    /** Approximate number of output rows created by a single task, see {@link OrderedChunkWorker}. */
+    private static final int ROWS_PER_CHUNK = 1000;
+
+    /**
+     * Collects the cells of the output rows of a chunk concurrently. The result contains for each input row its row
+     * key cell, the retained cells and the pairs of value column name and value (the cells of all output rows of that
+     * row, without repeating the retained cells). The rows are assembled, keyed and pushed in input order.
+     */
+    private final class UnpivotWorker extends OrderedChunkWorker<List<DataCell[]>> {
+
+        private final int[] m_valueColumnIndices;
+
+        private final StringCell[] m_valueColumnNameCells;
+
+        private final int[] m_orderColumnIdx;
+
+        private final boolean m_skipMissings = m_missingValues.getBooleanValue();
+
+        private final RowOutput m_out;
+
+        private final ExecutionContext m_exec;
+
+        private final long m_rowCount;
+
+        private final Map<RowKey, Set<RowKey>> m_hiliteMap;
+
+        /** The cells of the next output row, the array is copied by the row and hence reused. */
+        private final DataCell[] m_outCells;
+
+        private long m_rowCounter;
+
+        private long m_outRowCounter;
+
+        UnpivotWorker(final int[] valueColumnIndices, final StringCell[] valueColumnNameCells,
+            final int[] orderColumnIdx, final RowOutput out, final ExecutionContext exec, final long rowCount,
+            final Map<RowKey, Set<RowKey>> hiliteMap) {
+            super(ROWS_PER_CHUNK);
+            m_valueColumnIndices = valueColumnIndices;
+            m_valueColumnNameCells = valueColumnNameCells;
+            m_orderColumnIdx = orderColumnIdx;
+            m_out = out;
+            m_exec = exec;
+            m_rowCount = rowCount;
+            m_hiliteMap = hiliteMap;
+            m_outCells = new DataCell[3 + orderColumnIdx.length];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected long getRowWeight(final DataRow row) {
+            return Math.max(1, m_valueColumnIndices.length);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected List<DataCell[]> computeChunk(final List<DataRow> chunk, final long index) throws Exception {
+            final List<DataCell[]> result = new ArrayList<DataCell[]>(chunk.size());
+            final int nrRetained = m_orderColumnIdx.length;
+            final DataCell[] rowCells = new DataCell[1 + nrRetained + 2 * m_valueColumnIndices.length];
+            for (DataRow row : chunk) {
+                rowCells[0] = new StringCell(row.getKey().getString());
+                for (int j = 0; j < nrRetained; j++) {
+                    rowCells[1 + j] = row.getCell(m_orderColumnIdx[j]);
                 }
-                RowKey rowKey = RowKey.createRowKey(buf.size());
-                if (enableHilite) {
-                    set.add(rowKey);
+                int length = 1 + nrRetained;
+                for (int i = 0; i < m_valueColumnIndices.length; i++) {
+                    DataCell acell = row.getCell(m_valueColumnIndices[i]);
+                    if (acell.isMissing() && m_skipMissings) {
+                        // skip rows containing missing cells (in Value column(s))
+                        continue;
+                    }
+                    rowCells[length++] = m_valueColumnNameCells[i];
+                    rowCells[length++] = acell;
                 }
-                DefaultRow drow = new DefaultRow(rowKey,
-                        new StringCell(row.getKey().getString()),
-                        new StringCell(colName), acell);
-                buf.addRowToTable(new AppendedColumnRow(rowKey, drow, crow));
-                exec.checkCanceled();
-                exec.setProgress(buf.size() / newRowCnt);
-            }
-            if (enableHilite) {
-                map.put(crow.getKey(), set);
+                result.add(Arrays.copyOf(rowCells, length));
             }
+            return result;
         }
-        buf.close();
-        if (enableHilite) {
-            m_trans.setMapper(new DefaultHiLiteMapper(map));
-        } else {
-            m_trans.setMapper(null);
+
+        /** {@inheritDoc} */
+        @Override
+        protected void processChunk(final List<DataRow> chunk, final List<DataCell[]> result)
+            throws InterruptedException {
+            final int nrRetained = m_orderColumnIdx.length;
+            for (int r = 0; r < chunk.size(); r++) {
+                final Set<RowKey> set = m_hiliteMap == null ? null : new LinkedHashSet<RowKey>();
+                final DataCell[] rowCells = result.get(r);
+                m_outCells[0] = rowCells[0];
+                System.arraycopy(rowCells, 1, m_outCells, 3, nrRetained);
+                for (int k = 1 + nrRetained; k < rowCells.length; k += 2) {
+                    m_outCells[1] = rowCells[k];
+                    m_outCells[2] = rowCells[k + 1];
+                    RowKey rowKey = RowKey.createRowKey(m_outRowCounter++);
+                    if (set != null) {
+                        set.add(rowKey);
+                    }
+                    // a new row per output row, the output (e.g. a streamed successor) may keep the rows
+                    m_out.push(new DefaultRow(rowKey, m_outCells));
+                }
+                if (set != null) {
+                    m_hiliteMap.put(chunk.get(r).getKey(), set);
+                }
+                m_rowCounter++;
+            }
+            if (m_rowCount > 0) {
+                m_exec.setProgress(m_rowCounter / (double)m_rowCount);
+            }
         }
-        return new BufferedDataTable[]{buf.getTable()};
     }
 
     /**
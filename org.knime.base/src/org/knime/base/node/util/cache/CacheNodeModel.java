@@ -57,6 +57,7 @@ import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.IterationIndependentConfigureNodeModel;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -67,7 +68,7 @@ import org.knime.core.node.NodeSettingsWO;
  *
  * @author Thomas Gabriel, University of Konstanz
  */
-final class CacheNodeModel extends NodeModel {
+final class CacheNodeModel extends NodeModel implements IterationIndependentConfigureNodeModel {
 
     /**
      * Creates a new cache model.
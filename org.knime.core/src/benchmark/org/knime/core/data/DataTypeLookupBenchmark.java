@@ -0,0 +1,122 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.data;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of the {@link DataType} lookups that containers and cell factories do per cell class, single threaded
+ * and contended. Run with JMH and the org.knime.core bundle (plus its dependencies) on the class path, e.g.
+ * <code>java -cp ... org.openjdk.jmh.Main DataTypeLookupBenchmark</code>.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DataTypeLookupBenchmark {
+
+    /** Plain cell class, served from the class value. */
+    @Benchmark
+    public DataType getTypeOfCellClass() {
+        return DataType.getType(DoubleCell.class);
+    }
+
+    /** Plain cell class via the three argument method, as used when loading specs. */
+    @Benchmark
+    public DataType getTypeWithEmptyAdapterList() {
+        return DataType.getType(StringCell.class, null, Collections.emptyList());
+    }
+
+    /** Collection type, served from the type map. */
+    @Benchmark
+    public DataType getCollectionType() {
+        return DataType.getType(ListCell.class, IntCell.TYPE);
+    }
+
+    /** Utility factory of a value class. */
+    @Benchmark
+    public DataValue.UtilityFactory getUtilityFor() {
+        return DataType.getUtilityFor(DoubleValue.class);
+    }
+
+    /** Common super type of two types, which walks the value classes. */
+    @Benchmark
+    public DataType getCommonSuperType() {
+        return DataType.getCommonSuperType(IntCell.TYPE, DoubleCell.TYPE);
+    }
+
+    /** Lookups of several cell classes from eight threads. */
+    @Benchmark
+    @Threads(8)
+    public void getTypeContended(final Blackhole bh) {
+        bh.consume(DataType.getType(DoubleCell.class));
+        bh.consume(DataType.getType(IntCell.class));
+        bh.consume(DataType.getType(StringCell.class));
+    }
+}
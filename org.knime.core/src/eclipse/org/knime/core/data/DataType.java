@@ -54,13 +54,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.Icon;
 
@@ -209,9 +209,28 @@ public final class DataType {
      * method is fast and that there will be no duplicate <code>DataType</code>
      * instances for  different instances of the
      * {@link org.knime.core.data.DataValue} implementation.
+     * Types of plain cell classes (no collection element type, no adapters),
+     * by far the most common lookup, are kept in {@link #CLASS_TO_TYPE}
+     * instead, also when requested via
+     * {@link #getType(Class, DataType, List)} or {@link #load(ConfigRO)}.
      */
     private static final Map<ClassAndSubDataTypePair, DataType>
-        CLASS_TO_TYPE_MAP = new HashMap<ClassAndSubDataTypePair, DataType>();
+        CLASS_TO_TYPE_MAP = new ConcurrentHashMap<ClassAndSubDataTypePair, DataType>();
+
+    /**
+     * The types returned by {@link #getType(Class)}, memorized with the cell
+     * class. Reads don't lock, which matters as the type is looked up per
+     * cell class by containers and cell factories, often from many threads.
+     */
+    private static final ClassValue<DataType> CLASS_TO_TYPE =
+        new ClassValue<DataType>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected DataType computeValue(final Class<?> cell) {
+            return new DataType((Class<? extends DataCell>)cell, null,
+                    Collections.EMPTY_LIST);
+        }
+    };
 
     /**
      * The String representation comparator. Fall back comparator if no other is
@@ -240,12 +259,17 @@ public final class DataType {
         NodeLogger.getLogger(DataType.class);
 
     /**
-     * Hashmap to retrieve the <code>UtilityFactory</code> for each
-     * {@link org.knime.core.data.DataValue} interface.
+     * The <code>UtilityFactory</code> for each
+     * {@link org.knime.core.data.DataValue} interface, memorized with the
+     * interface class (see {@link #getUtilityFor(Class)}).
      */
-    private static final Map<Class<? extends DataValue>, UtilityFactory>
-        VALUE_CLASS_TO_UTILITY =
-            new HashMap<Class<? extends DataValue>, UtilityFactory>();
+    private static final ClassValue<UtilityFactory> VALUE_CLASS_TO_UTILITY =
+        new ClassValue<UtilityFactory>() {
+        @Override
+        protected UtilityFactory computeValue(final Class<?> value) {
+            return readUtilityFactory(value);
+        }
+    };
 
     /**
      * Recursive method that walks up the inheritance tree of a given class and
@@ -482,18 +506,11 @@ public final class DataType {
      * never <code>null</code>
      * @throws NullPointerException if the argument is <code>null</code>
      */
-    @SuppressWarnings("unchecked")
     public static DataType getType(final Class<? extends DataCell> cell) {
         if (cell == null) {
             throw new NullPointerException("Class must not be null.");
         }
-        ClassAndSubDataTypePair key = new ClassAndSubDataTypePair(cell, null, null);
-        DataType result = CLASS_TO_TYPE_MAP.get(key);
-        if (result == null) {
-            result = new DataType(cell, null, Collections.EMPTY_LIST);
-            CLASS_TO_TYPE_MAP.put(key, result);
-        }
-        return result;
+        return CLASS_TO_TYPE.get(cell);
     }
 
     /** Implementation of {@link #getType(Class)} dedicated for special cell
@@ -541,11 +558,21 @@ public final class DataType {
         if (cellClass == null) {
             throw new NullPointerException("Cell class must not be null.");
         }
+        if (collectionElementType == null && (adapterList == null
+                ? !AdapterValue.class.isAssignableFrom(cellClass) : adapterList.isEmpty())) {
+            // same instance as getType(Class), e.g. for types loaded from a spec,
+            // as some clients compare types by identity
+            return CLASS_TO_TYPE.get(cellClass);
+        }
         ClassAndSubDataTypePair key = new ClassAndSubDataTypePair(cellClass, collectionElementType, adapterList);
         DataType result = CLASS_TO_TYPE_MAP.get(key);
         if (result == null) {
+            // not computeIfAbsent - the constructor may look up other types
             result = new DataType(cellClass, collectionElementType, adapterList);
-            CLASS_TO_TYPE_MAP.put(key, result);
+            DataType previous = CLASS_TO_TYPE_MAP.putIfAbsent(key, result);
+            if (previous != null) {
+                result = previous;
+            }
         }
         return result;
     }
@@ -576,40 +603,42 @@ public final class DataType {
         if (value == null) {
             throw new NullPointerException("Class argument must not be null.");
         }
-        UtilityFactory result = VALUE_CLASS_TO_UTILITY.get(value);
-        if (result == null) {
-            Exception exception = null;
-            try {
-                // Java will fetch a static field that is public, if you
-                // declare it to be non-static or give it the wrong scope, it
-                // automatically retrieves the static field from a super
-                // class/interface (from which super interface it gets it,
-                // depends pretty much on the order after the "extends ..."
-                // statement) If this field has the wrong type, a coding
-                // problem is reported.
-                Field typeField = value.getField("UTILITY");
-                Object typeObject = typeField.get(null);
-                result = (DataValue.UtilityFactory)typeObject;
-                if (result == null) {
-                    throw new NullPointerException("UTILITY is null.");
-                }
-            } catch (NoSuchFieldException nsfe) {
-                exception = nsfe;
-            } catch (NullPointerException npe) {
-                exception = npe;
-            } catch (IllegalAccessException iae) {
-                exception = iae;
-            } catch (ClassCastException cce) {
-                exception = cce;
-            }
-            if (exception != null) {
-                LOGGER.coding("DataValue interface \"" + value.getSimpleName()
-                        + "\" seems to have a problem with the static field "
-                        + "\"UTILITY\"", exception);
-                // fall back - no meta information available
-                result = DataValue.UTILITY;
+        return VALUE_CLASS_TO_UTILITY.get(value);
+    }
+
+    /** Reads the <code>UTILITY</code> member of a value class, see {@link #getUtilityFor(Class)}. */
+    private static UtilityFactory readUtilityFactory(final Class<?> value) {
+        UtilityFactory result = null;
+        Exception exception = null;
+        try {
+            // Java will fetch a static field that is public, if you
+            // declare it to be non-static or give it the wrong scope, it
+            // automatically retrieves the static field from a super
+            // class/interface (from which super interface it gets it,
+            // depends pretty much on the order after the "extends ..."
+            // statement) If this field has the wrong type, a coding
+            // problem is reported.
+            Field typeField = value.getField("UTILITY");
+            Object typeObject = typeField.get(null);
+            result = (DataValue.UtilityFactory)typeObject;
+            if (result == null) {
+                throw new NullPointerException("UTILITY is null.");
             }
-            VALUE_CLASS_TO_UTILITY.put(value, result);
+        } catch (NoSuchFieldException nsfe) {
+            exception = nsfe;
+        } catch (NullPointerException npe) {
+            exception = npe;
+        } catch (IllegalAccessException iae) {
+            exception = iae;
+        } catch (ClassCastException cce) {
+            exception = cce;
+        }
+        if (exception != null) {
+            LOGGER.coding("DataValue interface \"" + value.getSimpleName()
+                    + "\" seems to have a problem with the static field "
+                    + "\"UTILITY\"", exception);
+            // fall back - no meta information available
+            result = DataValue.UTILITY;
         }
         return result;
     }
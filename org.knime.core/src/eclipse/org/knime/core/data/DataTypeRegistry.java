@@ -54,6 +54,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
@@ -82,6 +83,9 @@ public final class DataTypeRegistry {
     private final Map<Class<? extends DataCell>, DataCellSerializer<? extends DataCell>> m_serializers =
         new ConcurrentHashMap<>();
 
+    /** Cell classes without serializer (using Java serialization), remembered to not scan for them again. */
+    private final Set<Class<? extends DataCell>> m_cellClassesWithoutSerializer = ConcurrentHashMap.newKeySet();
+
     private final Map<String, Class<? extends DataCell>> m_cellClassMap = new ConcurrentHashMap<>();
     private final Map<String, Class<? extends DataValue>> m_valueClassMap = new ConcurrentHashMap<>();
 
@@ -314,6 +318,9 @@ public final class DataTypeRegistry {
                 return Optional.of(ser);
             }
         }
+        if (m_cellClassesWithoutSerializer.contains(cellClass)) {
+            return Optional.empty();
+        }
 
         Optional<DataCellSerializer<DataCell>> o2 = scanExtensionPointForSerializer(cellClass.getName());
         if (o2.isPresent()) {
@@ -341,6 +348,7 @@ public final class DataTypeRegistry {
             NodeLogger.getLogger(getClass())
                 .coding("Class \"" + cellClass.getSimpleName() + "\" does not have a custom DataCellSerializer, "
                     + "using standard (but slow) Java serialization. Consider implementing a DataCellSerialzer.", nsme);
+            m_cellClassesWithoutSerializer.add(cellClass);
             return Optional.empty();
         }
     }
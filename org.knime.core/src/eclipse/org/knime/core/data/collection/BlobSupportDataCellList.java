@@ -87,6 +87,11 @@ public class BlobSupportDataCellList
 
     private DataType m_elementType;
 
+    /** Value of the size field in the serialized form of lists stored in primitive arrays (also used for sets,
+     * see {@link BlobSupportDataCellSet}). Introduced with table format version 9 ("container_9"), older versions
+     * of KNIME report these tables as written by a future version. */
+    static final int PRIMITIVE_LIST_MARKER = -1;
+
     /**
      * Creates new instance based on a collection of data cells.
      *
@@ -99,6 +104,12 @@ public class BlobSupportDataCellList
         init(coll);
     }
 
+    /** Creates a list as read by {@link #deserialize(DataCellDataInput)}. */
+    private BlobSupportDataCellList(final PrimitiveCellList list, final DataType elementType) {
+        m_cellList = list;
+        m_elementType = elementType;
+    }
+
     private void init(final Collection<? extends DataCell> coll) {
         ArrayList<DataCell> cellList = new ArrayList<DataCell>(coll.size());
         DataType commonType = null;
@@ -135,7 +146,9 @@ public class BlobSupportDataCellList
         } else {
             m_elementType = commonType;
         }
-        m_cellList = cellList;
+        // large lists of double, int, long or string cells keep the values rather than the cell objects
+        PrimitiveCellList primitiveList = m_containsBlobWrapperCells ? null : PrimitiveCellList.create(cellList);
+        m_cellList = primitiveList != null ? primitiveList : cellList;
     }
 
     /**
@@ -231,6 +244,11 @@ public class BlobSupportDataCellList
      * @throws IOException If that fails.
      */
     public void serialize(final DataCellDataOutput output) throws IOException {
+        if (m_cellList instanceof PrimitiveCellList) {
+            output.writeInt(PRIMITIVE_LIST_MARKER);
+            ((PrimitiveCellList)m_cellList).serialize(output);
+            return;
+        }
         output.writeInt(size());
         for (DataCell c : m_cellList) {
             output.writeDataCell(c);
@@ -248,6 +266,10 @@ public class BlobSupportDataCellList
     public static BlobSupportDataCellList deserialize(
             final DataCellDataInput input) throws IOException {
         int size = input.readInt();
+        if (size == PRIMITIVE_LIST_MARKER) {
+            PrimitiveCellList list = PrimitiveCellList.deserialize(input);
+            return new BlobSupportDataCellList(list, list.getElementType());
+        }
         if (size < 0) {
             throw new IOException("Invalid size: " + size);
         }
@@ -323,6 +345,6 @@ public class BlobSupportDataCellList
     /** Write object method (as described in {@link Serializable} interface). */
     private void writeObject(final ObjectOutputStream stream)
         throws IOException {
-        stream.writeObject(m_cellList);
+        stream.writeObject(m_cellList instanceof PrimitiveCellList ? new ArrayList<DataCell>(m_cellList) : m_cellList);
     }
 }
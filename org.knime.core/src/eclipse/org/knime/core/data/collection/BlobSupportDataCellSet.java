@@ -237,6 +237,12 @@ public class BlobSupportDataCellSet
      * @throws IOException If that fails.
      */
     public void serialize(final DataCellDataOutput output) throws IOException {
+        PrimitiveCellList primitiveList = createPrimitiveList();
+        if (primitiveList != null) {
+            output.writeInt(BlobSupportDataCellList.PRIMITIVE_LIST_MARKER);
+            primitiveList.serialize(output);
+            return;
+        }
         output.writeInt(size());
         for (Wrapper w : m_set) {
             DataCell c = w.getCell();
@@ -244,6 +250,20 @@ public class BlobSupportDataCellSet
         }
     }
 
+    /** Large sets of double, int, long or string cells are written as value array (as lists, see
+     * {@link BlobSupportDataCellList}); the in-memory representation remains a hash set for the lookups.
+     * @return the elements as primitive list or null if not applicable */
+    private PrimitiveCellList createPrimitiveList() {
+        if (m_containsBlobWrapperCells || size() < PrimitiveCellList.MIN_SIZE) {
+            return null;
+        }
+        ArrayList<DataCell> cells = new ArrayList<DataCell>(size());
+        for (Wrapper w : m_set) {
+            cells.add(w.getCell());
+        }
+        return PrimitiveCellList.create(cells);
+    }
+
     /**
      * Static deserializer for a datacell set.
      *
@@ -255,6 +275,9 @@ public class BlobSupportDataCellSet
     public static BlobSupportDataCellSet deserialize(
             final DataCellDataInput input) throws IOException {
         int size = input.readInt();
+        if (size == BlobSupportDataCellList.PRIMITIVE_LIST_MARKER) {
+            return new BlobSupportDataCellSet(PrimitiveCellList.deserialize(input));
+        }
         if (size < 0) {
             throw new IOException("Invalid size: " + size);
         }
@@ -78,6 +78,10 @@ public final class CollectionCellFactory {
      * If the underlying collection stems from a {@link DataRow} (as read from a
      * any table), consider to use {@link #createListCell(DataRow, int[])} in
      * order to minimize cell access.
+     * <p>
+     * Large lists whose elements are all double, int, long or string cells
+     * (or missing) keep the values in a primitive array rather than the cell
+     * objects, both in memory and when written to disc.
      *
      * @param coll The underlying collection.
      * @return The newly created {@link ListCell}.
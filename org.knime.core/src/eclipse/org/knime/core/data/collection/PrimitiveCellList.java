@@ -0,0 +1,392 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.data.collection;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataInput;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Immutable list of double, int, long or string cells whose values are stored in a primitive (or string) array
+ * rather than as cell objects. Used by {@link BlobSupportDataCellList} for large lists, the cells are created when
+ * accessed. Missing cells (without error message) are allowed.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+abstract class PrimitiveCellList extends AbstractList<DataCell> implements RandomAccess {
+
+    /** Minimum number of elements for which lists are stored in primitive arrays. */
+    static final int MIN_SIZE = 32;
+
+    private static final byte DOUBLE = 0;
+
+    private static final byte INT = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte STRING = 3;
+
+    private final int m_size;
+
+    /** Indices of the missing elements, null if there are none. */
+    private final BitSet m_missing;
+
+    private PrimitiveCellList(final int size, final BitSet missing) {
+        m_size = size;
+        m_missing = missing;
+    }
+
+    /**
+     * Creates a primitive list for the argument cells if possible, that is if the list is large enough and all its
+     * non-missing elements are of the same class (double, int, long or string cell).
+     *
+     * @param cells the cells, not null, no blobs
+     * @return a new list with the same elements or null if the cells can't be stored in a primitive array
+     */
+    static PrimitiveCellList create(final List<? extends DataCell> cells) {
+        final int size = cells.size();
+        if (size < MIN_SIZE) {
+            return null;
+        }
+        Class<?> elementClass = null;
+        BitSet missing = null;
+        for (int i = 0; i < size; i++) {
+            DataCell c = cells.get(i);
+            if (c.isMissing()) {
+                if (!(c instanceof MissingCell) || ((MissingCell)c).getError() != null) {
+                    return null;
+                }
+                if (missing == null) {
+                    missing = new BitSet(size);
+                }
+                missing.set(i);
+            } else if (elementClass == null) {
+                elementClass = c.getClass();
+            } else if (elementClass != c.getClass()) {
+                return null;
+            }
+        }
+        if (elementClass == DoubleCell.class) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                if (missing == null || !missing.get(i)) {
+                    values[i] = ((DoubleCell)cells.get(i)).getDoubleValue();
+                }
+            }
+            return new DoubleCellList(values, missing);
+        } else if (elementClass == IntCell.class) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (missing == null || !missing.get(i)) {
+                    values[i] = ((IntCell)cells.get(i)).getIntValue();
+                }
+            }
+            return new IntCellList(values, missing);
+        } else if (elementClass == LongCell.class) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                if (missing == null || !missing.get(i)) {
+                    values[i] = ((LongCell)cells.get(i)).getLongValue();
+                }
+            }
+            return new LongCellList(values, missing);
+        } else if (elementClass == StringCell.class) {
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                if (missing == null || !missing.get(i)) {
+                    values[i] = ((StringCell)cells.get(i)).getStringValue();
+                }
+            }
+            return new StringCellList(values, missing);
+        }
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final DataCell get(final int index) {
+        if (index < 0 || index >= m_size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+        if (m_missing != null && m_missing.get(index)) {
+            return DataType.getMissingCell();
+        }
+        return getCell(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int size() {
+        return m_size;
+    }
+
+    /** @return the type of the (non-missing) elements */
+    abstract DataType getElementType();
+
+    /** @return the cell at the given valid index, which is not missing */
+    abstract DataCell getCell(int index);
+
+    /** @return the identifier of the element type written by {@link #serialize(DataCellDataOutput)} */
+    abstract byte getKind();
+
+    /** Writes all values (including the unused ones of missing elements). */
+    abstract void writeValues(DataCellDataOutput output) throws IOException;
+
+    /**
+     * Writes the element type, the size, the missing elements and the values.
+     *
+     * @param output to write to
+     * @throws IOException if that fails
+     */
+    final void serialize(final DataCellDataOutput output) throws IOException {
+        output.writeByte(getKind());
+        output.writeInt(m_size);
+        long[] missing = m_missing == null ? new long[0] : m_missing.toLongArray();
+        output.writeInt(missing.length);
+        for (long l : missing) {
+            output.writeLong(l);
+        }
+        writeValues(output);
+    }
+
+    /**
+     * Reads a list written by {@link #serialize(DataCellDataOutput)}.
+     *
+     * @param input to read from
+     * @return the list
+     * @throws IOException if that fails or the content is invalid
+     */
+    static PrimitiveCellList deserialize(final DataCellDataInput input) throws IOException {
+        final byte kind = input.readByte();
+        final int size = input.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid size: " + size);
+        }
+        final int nrMissingWords = input.readInt();
+        if (nrMissingWords < 0) {
+            throw new IOException("Invalid number of missing value words: " + nrMissingWords);
+        }
+        BitSet missing = null;
+        if (nrMissingWords > 0) {
+            long[] words = new long[nrMissingWords];
+            for (int i = 0; i < nrMissingWords; i++) {
+                words[i] = input.readLong();
+            }
+            missing = BitSet.valueOf(words);
+        }
+        switch (kind) {
+            case DOUBLE:
+                double[] doubles = new double[size];
+                for (int i = 0; i < size; i++) {
+                    doubles[i] = input.readDouble();
+                }
+                return new DoubleCellList(doubles, missing);
+            case INT:
+                int[] ints = new int[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = input.readInt();
+                }
+                return new IntCellList(ints, missing);
+            case LONG:
+                long[] longs = new long[size];
+                for (int i = 0; i < size; i++) {
+                    longs[i] = input.readLong();
+                }
+                return new LongCellList(longs, missing);
+            case STRING:
+                String[] strings = new String[size];
+                for (int i = 0; i < size; i++) {
+                    if (missing == null || !missing.get(i)) {
+                        strings[i] = input.readUTF();
+                    }
+                }
+                return new StringCellList(strings, missing);
+            default:
+                throw new IOException("Invalid element type of primitive list: " + kind);
+        }
+    }
+
+    private static final class DoubleCellList extends PrimitiveCellList {
+        private final double[] m_values;
+
+        DoubleCellList(final double[] values, final BitSet missing) {
+            super(values.length, missing);
+            m_values = values;
+        }
+
+        @Override
+        DataType getElementType() {
+            return DoubleCell.TYPE;
+        }
+
+        @Override
+        DataCell getCell(final int index) {
+            return new DoubleCell(m_values[index]);
+        }
+
+        @Override
+        byte getKind() {
+            return DOUBLE;
+        }
+
+        @Override
+        void writeValues(final DataCellDataOutput output) throws IOException {
+            for (double d : m_values) {
+                output.writeDouble(d);
+            }
+        }
+    }
+
+    private static final class IntCellList extends PrimitiveCellList {
+        private final int[] m_values;
+
+        IntCellList(final int[] values, final BitSet missing) {
+            super(values.length, missing);
+            m_values = values;
+        }
+
+        @Override
+        DataType getElementType() {
+            return IntCell.TYPE;
+        }
+
+        @Override
+        DataCell getCell(final int index) {
+            return new IntCell(m_values[index]);
+        }
+
+        @Override
+        byte getKind() {
+            return INT;
+        }
+
+        @Override
+        void writeValues(final DataCellDataOutput output) throws IOException {
+            for (int i : m_values) {
+                output.writeInt(i);
+            }
+        }
+    }
+
+    private static final class LongCellList extends PrimitiveCellList {
+        private final long[] m_values;
+
+        LongCellList(final long[] values, final BitSet missing) {
+            super(values.length, missing);
+            m_values = values;
+        }
+
+        @Override
+        DataType getElementType() {
+            return LongCell.TYPE;
+        }
+
+        @Override
+        DataCell getCell(final int index) {
+            return new LongCell(m_values[index]);
+        }
+
+        @Override
+        byte getKind() {
+            return LONG;
+        }
+
+        @Override
+        void writeValues(final DataCellDataOutput output) throws IOException {
+            for (long l : m_values) {
+                output.writeLong(l);
+            }
+        }
+    }
+
+    private static final class StringCellList extends PrimitiveCellList {
+        private final String[] m_values;
+
+        StringCellList(final String[] values, final BitSet missing) {
+            super(values.length, missing);
+            m_values = values;
+        }
+
+        @Override
+        DataType getElementType() {
+            return StringCell.TYPE;
+        }
+
+        @Override
+        DataCell getCell(final int index) {
+            return new StringCell(m_values[index]);
+        }
+
+        @Override
+        byte getKind() {
+            return STRING;
+        }
+
+        /** Writes the strings of the non-missing elements only. */
+        @Override
+        void writeValues(final DataCellDataOutput output) throws IOException {
+            for (String s : m_values) {
+                if (s != null) {
+                    output.writeUTF(s);
+                }
+            }
+        }
+    }
+}
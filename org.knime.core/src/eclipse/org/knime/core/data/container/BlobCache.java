@@ -0,0 +1,134 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+
+/**
+ * Cache for blobs read by a {@link Buffer}, used to avoid reading a blob over and over again if it is referenced by
+ * many rows. The cache is split into segments that are locked independently so that concurrent iterators on the same
+ * table don't contend on a single lock. Each segment keeps its most recently used entries up to a fixed size; the
+ * blobs are only softly referenced and can be reclaimed by the garbage collector at any time.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+final class BlobCache {
+
+    /** Number of segments, must be a power of two. */
+    private static final int SEGMENT_COUNT = 8;
+
+    /** Maximum number of entries per segment (for a total of 128 entries, previously 100). */
+    private static final int MAX_SEGMENT_SIZE = 16;
+
+    private final Segment[] m_segments;
+
+    /** Creates an empty cache. */
+    BlobCache() {
+        m_segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            m_segments[i] = new Segment();
+        }
+    }
+
+    private Segment segmentFor(final BlobAddress address) {
+        int h = address.hashCode();
+        h ^= (h >>> 16);
+        return m_segments[h & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * @param address the address of the blob
+     * @return the cached blob or <code>null</code> if it is not cached (anymore)
+     */
+    BlobDataCell get(final BlobAddress address) {
+        final Segment segment = segmentFor(address);
+        final SoftReference<BlobDataCell> ref;
+        synchronized (segment) {
+            ref = segment.get(address);
+        }
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * @param address the address of the blob
+     * @param cell the blob read from that address
+     */
+    void put(final BlobAddress address, final BlobDataCell cell) {
+        final Segment segment = segmentFor(address);
+        synchronized (segment) {
+            segment.put(address, new SoftReference<BlobDataCell>(cell));
+        }
+    }
+
+    /** Removes all entries. */
+    void clear() {
+        for (Segment segment : m_segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /** Last recently used map of one segment, guarded by its own monitor. */
+    private static final class Segment extends LinkedHashMap<BlobAddress, SoftReference<BlobDataCell>> {
+
+        Segment() {
+            super(4, 0.75f, true);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry(final Entry<BlobAddress, SoftReference<BlobDataCell>> eldest) {
+            return size() > MAX_SEGMENT_SIZE;
+        }
+    }
+}
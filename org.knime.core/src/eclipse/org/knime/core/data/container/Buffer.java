@@ -55,10 +55,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,16 +71,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.WeakHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
@@ -122,7 +126,10 @@ import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.ConvenienceMethods;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.PathUtils;
+import org.knime.core.util.TempFileManager;
 import org.knime.core.util.ThreadUtils;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 
 /**
  * A buffer writes the rows from a {@link DataContainer} to a file. This class serves as connector between the
@@ -211,6 +218,10 @@ class Buffer implements KNIMEStreamConstants {
      */
     private static final String CFG_COMPRESSION = "container.compression";
 
+    /** Config entry: content fingerprint of the table, see {@link TableFingerprint}. The key includes the version
+     * of the fingerprint algorithm, fingerprints computed differently are not loaded. */
+    private static final String CFG_FINGERPRINT = "table.fingerprint.md5";
+
     /**
      * Config entry: Sub element in config that keeps the list of cell class information (used to be a plain array).
      */
@@ -223,10 +234,10 @@ class Buffer implements KNIMEStreamConstants {
     private static final String CFG_CELL_SINGLE_ELEMENT_TYPE = "collection.element.type";
 
     /** Current version string. */
-    private static final String VERSION = "container_8";
+    private static final String VERSION = "container_9";
 
     /** The version number corresponding to VERSION. */
-    private static final int IVERSION = 8;
+    private static final int IVERSION = 9;
 
     private static final HashMap<String, Integer> COMPATIBILITY_MAP;
 
@@ -240,6 +251,8 @@ class Buffer implements KNIMEStreamConstants {
         COMPATIBILITY_MAP.put("container_6", 6); // 2.0 Alpha
         COMPATIBILITY_MAP.put("container_7", 7); // 2.0.0 (final)
         COMPATIBILITY_MAP.put("container_8", 8); // version 2.0.1++
+        // version 3.5++ (list/set cells of primitive elements as arrays, sparse bit vectors as packed words)
+        COMPATIBILITY_MAP.put("container_9", 9);
         COMPATIBILITY_MAP.put(VERSION, IVERSION);
         // NOTE consider to also
         // - increment the workflow.knime version number when updating this list
@@ -258,6 +271,9 @@ class Buffer implements KNIMEStreamConstants {
     /** Number of dirs/files per directory when blobs are saved. */
     private static final int BLOB_ENTRIES_PER_DIRECTORY = 1000;
 
+    /** Digest used to detect blob files with identical content. */
+    private static final String BLOB_DIGEST_ALGORITHM = "SHA-256";
+
     /**
      * Is executing the shutdown hook? If so, no logging is done, bug fix #862.
      */
@@ -283,7 +299,7 @@ class Buffer implements KNIMEStreamConstants {
                             it.clear();
                         }
                     }
-                    DeleteInBackgroundThread.waitUntilFinished();
+                    TempFileManager.getInstance().waitUntilFinished();
                 }
             };
             Runtime.getRuntime().addShutdownHook(hook);
@@ -318,7 +334,7 @@ class Buffer implements KNIMEStreamConstants {
      * added multiple times to a table... the iterator will read the blob address, treat it as unseen and then ask the
      * owning Buffer to restore the blob.
      */
-    private final BlobLRUCache m_blobLRUCache = new BlobLRUCache();
+    private final BlobCache m_blobCache = new BlobCache();
 
     private static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         @SuppressWarnings("unchecked")
@@ -418,6 +434,12 @@ class Buffer implements KNIMEStreamConstants {
     /** the current row count (how often has addRow been called). */
     private long m_size;
 
+    /** the fingerprint of the rows added so far, only valid if m_hasFingerprint is set. */
+    private long m_fingerprint;
+
+    /** false for tables written by a version that did not compute the fingerprint. */
+    private boolean m_hasFingerprint;
+
     /** the list that keeps up to m_maxRowsInMem in memory. */
     private List<BlobSupportDataRow> m_list;
 
@@ -472,6 +494,12 @@ class Buffer implements KNIMEStreamConstants {
      */
     private HashMap<BlobAddress, BlobAddress> m_copiedBlobsMap;
 
+    /**
+     * Content digest of the blob files written by this buffer, used to share the disc space of identical blobs. Only
+     * used while writing, null otherwise.
+     */
+    private HashMap<ByteBuffer, File> m_blobFilesByDigest;
+
     /**
      * Creates new buffer for <strong>writing</strong>. It has assigned a given spec, and a max row count that may
      * resize in memory.
@@ -490,6 +518,8 @@ class Buffer implements KNIMEStreamConstants {
         m_list = new ArrayList<BlobSupportDataRow>();
         m_openIteratorSet = new WeakHashMap<FromFileIterator, Object>();
         m_size = 0;
+        m_fingerprint = TableFingerprint.EMPTY;
+        m_hasFingerprint = TableFingerprint.ENABLED;
         m_bufferID = bufferID;
         m_globalRepository = globalRep;
         m_localRepository = localRep;
@@ -612,6 +642,10 @@ class Buffer implements KNIMEStreamConstants {
     synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final boolean forceCopyOfBlobs) {
         try {
             BlobSupportDataRow row = saveBlobsAndFileStores(r, isCopyOfExisting, forceCopyOfBlobs);
+            if (m_hasFingerprint) {
+                // blobs have their address in this or the owning buffer now, they are digested by it
+                m_fingerprint = TableFingerprint.append(m_fingerprint, row);
+            }
             getAndIncrementSize();
             if ((m_list != null) && (m_maxRowsInMem > 0)) {
                 m_list.add(row);
@@ -659,6 +693,7 @@ class Buffer implements KNIMEStreamConstants {
 
             m_outStream = initOutFile(new BufferedOutputStream(new FileOutputStream(m_binFile)));
             Buffer.onFileCreated(m_binFile);
+            TempFileManager.getInstance().register(m_binFile);
         }
 
         if (m_list != null) {
@@ -852,7 +887,8 @@ class Buffer implements KNIMEStreamConstants {
                 rewrite.setIndexOfBlobInColumn(indexBlobInCol);
                 File source = b.getBlobFile(ad.getIndexOfBlobInColumn(), ad.getColumn(), false, ad.isUseCompression());
                 File dest = getBlobFile(indexBlobInCol, col, true, ad.isUseCompression());
-                FileUtil.copy(source, dest);
+                // blob files are written once, both tables can share the content
+                FileUtil.linkOrCopy(source, dest);
                 wc = new BlobWrapperDataCell(this, rewrite, cl);
             } else {
                 BlobDataCell bc;
@@ -949,6 +985,7 @@ class Buffer implements KNIMEStreamConstants {
                 m_shortCutsLookup = closeFile(m_outStream);
                 m_typeShortCuts = null; // garbage
                 m_list = null;
+                m_blobFilesByDigest = null;
                 double sizeInMB = m_binFile.length() / (double)(1 << 20);
                 String size = NumberFormat.getInstance().format(sizeInMB);
                 LOGGER.debug("Buffer file (" + m_binFile.getAbsolutePath() + ") is " + size + "MB in size");
@@ -1030,6 +1067,10 @@ class Buffer implements KNIMEStreamConstants {
             subSettings.addLong(CFG_SIZE_L, size());
         }
         subSettings.addString(CFG_COMPRESSION, m_compressionFormat.name());
+        // added in 3.5 - no increment of version number
+        if (m_hasFingerprint) {
+            subSettings.addLong(CFG_FINGERPRINT, m_fingerprint);
+        }
         subSettings.addBoolean(CFG_CONTAINS_BLOBS, m_containsBlobs);
         // added between version 8 and 9 - no increment of version number
         String fileStoresUUID = null;
@@ -1096,6 +1137,9 @@ class Buffer implements KNIMEStreamConstants {
                 cF = CompressionFormat.Gzip;
             }
             m_compressionFormat = cF;
+            // added in 3.5, not available for tables written by previous versions
+            m_hasFingerprint = subSettings.containsKey(CFG_FINGERPRINT);
+            m_fingerprint = subSettings.getLong(CFG_FINGERPRINT, TableFingerprint.EMPTY);
             // added sometime between format 8 and 9
             m_containsBlobs = false;
             if (m_version >= 4) { // no blobs in version 1.1.x
@@ -1245,6 +1289,16 @@ class Buffer implements KNIMEStreamConstants {
         return m_size;
     }
 
+    /**
+     * Get the content fingerprint of the rows in this buffer, see {@link TableFingerprint}.
+     *
+     * @return the fingerprint or an empty optional if the buffer was written by a version not computing it or while
+     *         fingerprints were not computed (see {@link TableFingerprint#ENABLED}).
+     */
+    OptionalLong getFingerprint() {
+        return m_hasFingerprint ? OptionalLong.of(m_fingerprint) : OptionalLong.empty();
+    }
+
     /**
      * Get whether the buffer wants to persist row keys. Here hard-coded to <code>true</code> but overwritten in
      * {@link NoKeyBuffer}.
@@ -1455,11 +1509,16 @@ class Buffer implements KNIMEStreamConstants {
                 int col = originalBA.getColumn();
                 boolean compress = originalBA.isUseCompression();
                 File source = originalBuffer.getBlobFile(index, col, false, compress);
-                FileUtil.copy(source, outFile);
+                FileUtil.linkOrCopy(source, outFile);
                 return;
             }
         }
-        OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
+        final MessageDigest digest = createBlobDigest();
+        OutputStream fileOut = new FileOutputStream(outFile);
+        if (digest != null) {
+            fileOut = new DigestOutputStream(fileOut, digest);
+        }
+        OutputStream out = new BufferedOutputStream(fileOut);
         Buffer.onFileCreated(outFile);
         if (isToCompress) {
             out = new GZIPOutputStream(out);
@@ -1478,6 +1537,48 @@ class Buffer implements KNIMEStreamConstants {
             // do the best to minimize the number of open streams.
             outStream.close();
         }
+        if (digest != null) {
+            deduplicateBlobFile(outFile, digest.digest());
+        }
+    }
+
+    /** @return a new digest to identify blob files with identical content or null if not available */
+    private static MessageDigest createBlobDigest() {
+        try {
+            return MessageDigest.getInstance(BLOB_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the argument blob file by a hard link to a previously written blob file of this buffer if both have
+     * the same content, e.g. because the same image was added in different rows. The blob addresses are not
+     * affected, only the disc space is shared. Keeps the file if the file system doesn't support hard links.
+     *
+     * @param file the blob file that has just been written
+     * @param digest the digest of the file content
+     */
+    private void deduplicateBlobFile(final File file, final byte[] digest) {
+        if (m_blobFilesByDigest == null) {
+            m_blobFilesByDigest = new HashMap<ByteBuffer, File>();
+        }
+        final File previous = m_blobFilesByDigest.putIfAbsent(ByteBuffer.wrap(digest), file);
+        if (previous == null || previous.length() != file.length()) {
+            return;
+        }
+        // link to a temporary name and rename it so that the blob is never lost
+        final Path link = file.toPath().resolveSibling(file.getName() + ".link");
+        try {
+            Files.createLink(link, previous.toPath());
+            Files.move(link, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            try {
+                Files.deleteIfExists(link);
+            } catch (IOException ioe) {
+                // ignore, will be deleted with the blob directory
+            }
+        }
     }
 
     /**
@@ -1498,17 +1599,18 @@ class Buffer implements KNIMEStreamConstants {
             Buffer blobBuffer = cnTbl.getBuffer();
             return blobBuffer.readBlobDataCell(blobAddress, cl);
         }
-        SoftReference<BlobDataCell> softRef = m_blobLRUCache.get(blobAddress);
-        BlobDataCell result = softRef != null ? softRef.get() : null;
+        BlobDataCell result = m_blobCache.get(blobAddress);
         if (result != null) {
+            BLOB_CACHE_HITS.increment();
             return result;
         }
+        BLOB_CACHE_MISSES.increment();
         if (getReadVersion() <= 5) { // 2.0 TechPreview and earlier
             result = BufferFromFileIteratorVersion1x.readBlobDataCell(this, blobAddress, cl);
         } else {
             result = new DataCellStreamReader(this).readBlobDataCell(blobAddress, cl);
         }
-        m_blobLRUCache.put(blobAddress, new SoftReference<BlobDataCell>(result));
+        m_blobCache.put(blobAddress, result);
         return result;
     }
 
@@ -1558,6 +1660,7 @@ class Buffer implements KNIMEStreamConstants {
                 throw new IOException("Unable to create temp directory " + blobDir.getAbsolutePath());
             }
             m_blobDir = blobDir;
+            TempFileManager.getInstance().register(blobDir);
         }
     }
 
@@ -1920,12 +2023,10 @@ class Buffer implements KNIMEStreamConstants {
      * @param removeFromHash Whether to remove from global hash.
      */
     synchronized void clearIteratorInstance(final FromFileIterator it, final boolean removeFromHash) {
-        String closeMes =
-                (m_binFile != null) ? "Closing input stream on \"" + m_binFile.getAbsolutePath() + "\", " : "";
         try {
             if (it.performClose()) {
-                m_nrOpenInputStreams.decrementAndGet();
-                logDebug(closeMes + m_nrOpenInputStreams + " remaining", null);
+                final int remaining = m_nrOpenInputStreams.decrementAndGet();
+                logDebug(() -> getCloseMessage() + remaining + " remaining", null);
                 if (removeFromHash) {
                     synchronized (m_openIteratorSet) {
                         m_openIteratorSet.remove(it);
@@ -1933,10 +2034,14 @@ class Buffer implements KNIMEStreamConstants {
                 }
             }
         } catch (IOException ioe) {
-            logDebug(closeMes + "failed!", ioe);
+            logDebug(() -> getCloseMessage() + "failed!", ioe);
         }
     }
 
+    private String getCloseMessage() {
+        return (m_binFile != null) ? "Closing input stream on \"" + m_binFile.getAbsolutePath() + "\", " : "";
+    }
+
     /** Clears the temp file. Any subsequent iteration will fail! */
     synchronized void clear() {
         BufferTracker.getInstance().bufferCleared(this);
@@ -1951,36 +2056,46 @@ class Buffer implements KNIMEStreamConstants {
                 }
                 m_openIteratorSet.clear();
             }
-            if (m_blobDir != null) {
-                DeleteInBackgroundThread.delete(m_binFile, m_blobDir);
-            } else {
-                DeleteInBackgroundThread.delete(m_binFile);
-            }
+            TempFileManager.getInstance().delete(m_binFile, m_blobDir);
         }
         if (m_fileStoreHandler instanceof NotInWorkflowWriteFileStoreHandler) {
             m_fileStoreHandler.clearAndDispose();
         }
-        if (m_blobLRUCache != null) {
-            m_blobLRUCache.clear();
+        if (m_blobCache != null) {
+            m_blobCache.clear();
         }
         m_binFile = null;
         m_blobDir = null;
     }
 
-    private static final int MAX_FILES_TO_CREATE_BEFORE_GC = 10000;
-
     private static final AtomicInteger FILES_CREATED_COUNTER = new AtomicInteger(0);
 
+    /** Hits and misses of the {@link BlobCache} of all buffers. */
+    private static final Counter BLOB_CACHE_HITS = Metrics.counter("buffer.blobcache.hits");
+
+    private static final Counter BLOB_CACHE_MISSES = Metrics.counter("buffer.blobcache.misses");
+
+    static {
+        Metrics.registerGauge("buffer.open", Buffer::countOpenBuffers);
+        Metrics.registerGauge("buffer.filesCreated", FILES_CREATED_COUNTER::get);
+    }
+
+    /** @return number of buffers that have written to a temp file and are not yet garbage collected */
+    private static long countOpenBuffers() {
+        synchronized (OPENBUFFERS) {
+            return OPENBUFFERS.stream().filter(ref -> ref.get() != null).count();
+        }
+    }
+
     /**
-     * Method being called each time a file is created. It maintains a counter and calls each
-     * {@link #MAX_FILES_TO_CREATE_BEFORE_GC} files the garbage collector. This fixes an unreported problem on windows,
-     * where (although the file reference is null) there seems to be a hidden file lock, which yields a
-     * "not enough system resources to perform operation" error.
+     * Method being called each time a file is created. It maintains a counter and checks the free disc space. Handles
+     * of the files are released deterministically (streams are closed when an iteration ends and when the buffer is
+     * cleared) so there is no need to call the garbage collector to release hidden file locks (as done previously).
      * @param file The existing file
      * @throws IOException If there is not enough space left on the partition of the temp folder
      */
     private static void onFileCreated(final File file) throws IOException {
-        int count = FILES_CREATED_COUNTER.incrementAndGet();
+        FILES_CREATED_COUNTER.incrementAndGet();
         long freeSpace = file.getUsableSpace();
         long minSpace = DataContainer.MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB * (1024L * 1024L);
         if (freeSpace < minSpace) {
@@ -1990,21 +2105,18 @@ class Buffer implements KNIMEStreamConstants {
                     + " You can tweak the limit by changing the \""
                     + KNIMEConstants.PROPERTY_MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB + "\" java property.");
         }
-        if (count % MAX_FILES_TO_CREATE_BEFORE_GC == 0) {
-            LOGGER.debug("created " + count + " files, performing garbage collection to release handles");
-            System.gc();
-        }
     }
 
     /**
-     * Print a debug message. This method does nothing if isExecutingShutdownHook is true.
+     * Print a debug message. This method does nothing if isExecutingShutdownHook is true. The message is only built
+     * if debug logging is enabled as this is called for each closed iterator.
      */
-    private static void logDebug(final String message, final Throwable t) {
-        if (!isExecutingShutdownHook) {
+    private static void logDebug(final Supplier<String> message, final Throwable t) {
+        if (!isExecutingShutdownHook && LOGGER.isDebugEnabled()) {
             if (t == null) {
                 LOGGER.debug(message);
             } else {
-                LOGGER.debug(message, t);
+                LOGGER.debug(message.get(), t);
             }
         }
     }
@@ -2018,35 +2130,6 @@ class Buffer implements KNIMEStreamConstants {
         }
     }
 
-    /** Last recently used cache for blobs. */
-    private static final class BlobLRUCache extends LinkedHashMap<BlobAddress, SoftReference<BlobDataCell>> {
-
-        /** Default constructor, instructs for access order. */
-        BlobLRUCache() {
-            super(16, 0.75f, true); // args copied from HashMap implementation
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        protected synchronized boolean removeEldestEntry(final Entry<BlobAddress, SoftReference<BlobDataCell>> eldest) {
-            return size() >= 100;
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> get(final Object key) {
-            return super.get(key);
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> put(final BlobAddress key,
-                                                            final SoftReference<BlobDataCell> value) {
-            return super.put(key, value);
-        }
-
-    }
-
     /** Super class of all file iterators. */
     abstract static class FromFileIterator extends CloseableRowIterator implements KNIMEStreamConstants {
 
@@ -2125,161 +2208,4 @@ class Buffer implements KNIMEStreamConstants {
             m_nextIndex = (int) size();
         }
     }
-
-    /**
-     * A background thread that deletes temporary files and directory (which may be a very long lasting job - in
-     * particular when blob directories need to get deleted). This is the long term fix for bug 1051.
-     * <p>
-     * Implementation note: There is singleton thread running that does the deletion, if this thread is idle for a
-     * while, it is shut down and recreated on demand.
-     */
-    private static final class DeleteInBackgroundThread extends Thread {
-
-        private static final NodeLogger THREAD_LOGGER = NodeLogger.getLogger(DeleteInBackgroundThread.class);
-
-        private static DeleteInBackgroundThread instance;
-
-        private final LinkedBlockingQueue<File> m_filesToDeleteList;
-
-        private static final Object LOCK = new Object();
-
-        private DeleteInBackgroundThread() {
-            super("KNIME-Temp-File-Deleter");
-            m_filesToDeleteList = new LinkedBlockingQueue<File>();
-        }
-
-        /**
-         * Queues a set of files for deletion and returns immediately.
-         *
-         * @param file To delete.
-         */
-        public static void delete(final File... file) {
-            synchronized (LOCK) {
-                if (instance == null || !instance.isAlive()) {
-                    instance = new DeleteInBackgroundThread();
-                    instance.start();
-                }
-                instance.addFile(file);
-            }
-        }
-
-        /**
-         * Blocks the calling thread until all queued files have been deleted.
-         */
-        public static void waitUntilFinished() {
-            synchronized (LOCK) {
-                if (instance == null || !instance.isAlive()) {
-                    return;
-                }
-            }
-            instance.blockUntilFinished();
-        }
-
-        private void addFile(final File[] files) {
-            synchronized (LOCK) {
-                m_filesToDeleteList.addAll(Arrays.asList(files));
-                if (!m_filesToDeleteList.isEmpty()) {
-                    LOCK.notifyAll();
-                }
-            }
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void run() {
-            while (true) {
-                synchronized (LOCK) {
-                    if (m_filesToDeleteList.isEmpty()) {
-                        try {
-                            LOCK.wait(60 * 1000);
-                        } catch (InterruptedException ie) {
-                            if (!m_filesToDeleteList.isEmpty()) {
-                                THREAD_LOGGER.warn("Deletion of " + m_filesToDeleteList.size() + "files "
-                                        + "or directories failed because " + "deleter thread was interrupted");
-                            }
-                            return;
-                        }
-                        if (m_filesToDeleteList.isEmpty()) {
-                            return;
-                        }
-                    }
-                }
-                executeDeletion();
-            }
-        }
-
-        private synchronized void executeDeletion() {
-            try {
-                File first;
-                while ((first = m_filesToDeleteList.poll()) != null) {
-                    String type = first.isFile() ? "file" : "directory";
-                    boolean deleted = deleteRecursively(first);
-                    if (!deleted && first.exists()) {
-                        // note: although all input streams are closed, the
-                        // file can't be deleted. If we call the gc, it
-                        // works. No clue. That only happens on windows!
-                        // http://forum.java.sun.com/thread.jspa?forumID=31&threadID=609458
-                        System.gc();
-                    }
-                    if (deleted || deleteRecursively(first)) {
-                        logDebug("Deleted temporary " + type + " \"" + first.getAbsolutePath() + "\"", null);
-                    } else {
-                        logDebug("Failed to delete temporary " + type + " \"" + first.getAbsolutePath() + "\"", null);
-                    }
-                }
-            } finally {
-                notifyAll();
-            }
-        }
-
-        private synchronized void blockUntilFinished() {
-            if (!m_filesToDeleteList.isEmpty()) {
-                try {
-                    wait();
-                } catch (InterruptedException ie) {
-                    // that should only be called from the shutdown hook,
-                    // if someone interrupts us, so be it.
-                }
-            }
-        }
-
-        /**
-         * Makes sure the list is empty. This is necessary because when the VM goes done, any running thread is stopped.
-         *
-         * @see java.lang.Object#finalize()
-         */
-        @Override
-        protected void finalize() throws Throwable {
-            if (!m_filesToDeleteList.isEmpty()) {
-                executeDeletion();
-            }
-        }
-
-        /**
-         * Deletes the argument file or directory recursively and returns true if this was successful. This method
-         * follows any symbolic link (in comparison to {@link org.knime.core.utilFileUtil#deleteRecursively(File)}.
-         *
-         * @param f The (blob) directory or temp file to delete.
-         * @return Whether or not the f has been deleted.
-         */
-        private static boolean deleteRecursively(final File f) {
-            if (f.isFile()) {
-                return f.delete();
-            }
-            File[] files = f.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    boolean deleted = file.delete();
-                    if (!deleted) {
-                        if (file.isDirectory()) {
-                            deleteRecursively(file);
-                        }
-                    }
-                }
-            }
-            return f.delete();
-        }
-    }
 }
@@ -49,6 +49,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -161,6 +162,25 @@ public final class ConcatenateTable implements KnowsRowCountTable {
         return m_rowCount;
     }
 
+    /** Derived from the fingerprints of the concatenated tables unless their specs differ or row keys are made
+     * unique (the rows are then modified when iterating the table).
+     * {@inheritDoc} */
+    @Override
+    public OptionalLong getFingerprint() {
+        if (m_tablesWrapper != null) {
+            return OptionalLong.empty();
+        }
+        long fingerprint = TableFingerprint.EMPTY;
+        for (BufferedDataTable table : m_tables) {
+            OptionalLong tableFingerprint = table.getFingerprint();
+            if (!tableFingerprint.isPresent()) {
+                return OptionalLong.empty();
+            }
+            fingerprint = TableFingerprint.concatenate(fingerprint, tableFingerprint.getAsLong(), table.size());
+        }
+        return OptionalLong.of(fingerprint);
+    }
+
     /**
      * {@inheritDoc}
      */
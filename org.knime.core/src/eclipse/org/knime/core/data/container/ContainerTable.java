@@ -50,6 +50,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.OptionalLong;
 import java.util.zip.ZipOutputStream;
 
 import org.knime.core.data.DataTable;
@@ -146,6 +147,26 @@ public final class ContainerTable implements DataTable, KnowsRowCountTable {
         return m_buffer.size();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public OptionalLong getFingerprint() {
+        ensureBufferOpen();
+        return m_buffer.getFingerprint();
+    }
+
+    /** Do not use! Size of the file this table was written to during execution (0 if the table is kept in memory
+     * or hasn't been opened in this session).
+     * @return The size in bytes.
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.5
+     */
+    public long getBinFileSize() {
+        if (m_buffer == null) {
+            return 0L;
+        }
+        File binFile = m_buffer.getBinFile();
+        return binFile != null && binFile.isFile() ? binFile.length() : 0L;
+    }
 
     /** Get reference to buffer.
      * @return The buffer backing this object.
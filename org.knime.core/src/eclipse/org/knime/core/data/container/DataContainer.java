@@ -98,6 +98,8 @@ import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 
 /**
  * Buffer that collects <code>DataRow</code> objects and creates a <code>DataTable</code> on request. This data
@@ -302,6 +304,17 @@ public class DataContainer implements RowAppender {
     /** Put into read queue to signal failure while writing a row. */
     private static final Object CONTAINER_WRITE_FAILED = new Object();
 
+    /** Number of rows handed over to the asynchronous write threads but not yet added to the buffer. */
+    private static final Counter ASYNC_WRITE_BACKLOG = Metrics.counter("container.async.backlog");
+
+    private static final Counter CLOSED_CONTAINERS = Metrics.counter("container.closed");
+
+    private static final Counter ROWS_IN_CLOSED_CONTAINERS = Metrics.counter("container.rows");
+
+    static {
+        Metrics.registerGauge("container.async.writers", ASYNC_EXECUTORS::getActiveCount);
+    }
+
     /**
      * The object that instantiates the buffer, may be set right after constructor call before any rows are added.
      */
@@ -636,6 +649,8 @@ public class DataContainer implements RowAppender {
         }
         m_table = new ContainerTable(m_buffer);
         getLocalTableRepository().put(m_table.getBufferID(), m_table);
+        CLOSED_CONTAINERS.increment();
+        ROWS_IN_CLOSED_CONTAINERS.add(m_size);
         m_buffer = null;
         m_spec = null;
         m_duplicateChecker.clear();
@@ -653,6 +668,9 @@ public class DataContainer implements RowAppender {
     private void offerToAsynchronousQueue(final Object object) {
         m_fillingRowBuffer.add(object);
         if (m_fillingRowBuffer.size() >= ASYNC_CACHE_SIZE || object == CONTAINER_CLOSE || object == FLUSH_CACHE) {
+            // count before the exchange, the write thread decrements as soon as it has received the rows
+            final int handedOver = m_fillingRowBuffer.size();
+            ASYNC_WRITE_BACKLOG.add(handedOver);
             while (true) {
                 try {
                     m_fillingRowBuffer = m_rowBufferExchanger.exchange(m_fillingRowBuffer, 30, TimeUnit.SECONDS);
@@ -660,11 +678,14 @@ public class DataContainer implements RowAppender {
                         Object ob = m_fillingRowBuffer.get(0);
                         assert ob == CONTAINER_WRITE_FAILED : "Not expected element in write queue: " + ob;
                         m_fillingRowBuffer.clear();
+                        // the failed write thread discards the rows
+                        ASYNC_WRITE_BACKLOG.add(-handedOver);
                         checkAsyncWriteThrowable();
                     }
                     return;
                 } catch (TimeoutException e) {
                     if (m_asyncAddFuture.isDone()) {
+                        ASYNC_WRITE_BACKLOG.add(-handedOver);
                         checkAsyncWriteThrowable();
                         // if we reach this code, the write process has not
                         // thrown an exception (the above line will likely
@@ -673,6 +694,7 @@ public class DataContainer implements RowAppender {
                     }
                     continue;
                 } catch (InterruptedException e) {
+                    ASYNC_WRITE_BACKLOG.add(-handedOver);
                     m_asyncAddFuture.cancel(true);
                     throw new DataContainerException("Adding rows to buffer was interrupted", e);
                 }
@@ -1221,20 +1243,24 @@ public class DataContainer implements RowAppender {
             try {
                 do {
                     final int size = queue.size();
-                    for (int i = 0; i < size; i++) {
-                        Object obj = queue.set(i, null);
-                        if (obj == CONTAINER_CLOSE) {
-                            assert i == size - 1;
-                            // table has been closed
-                            // (some non-DataRow was queued)
-                            return null;
-                        } else if (obj == FLUSH_CACHE) {
-                            assert i == size - 1;
-                            d.m_buffer.flushBuffer();
-                        } else {
-                            DataRow row = (DataRow)obj;
-                            d.addRowToTableWrite(row);
+                    try {
+                        for (int i = 0; i < size; i++) {
+                            Object obj = queue.set(i, null);
+                            if (obj == CONTAINER_CLOSE) {
+                                assert i == size - 1;
+                                // table has been closed
+                                // (some non-DataRow was queued)
+                                return null;
+                            } else if (obj == FLUSH_CACHE) {
+                                assert i == size - 1;
+                                d.m_buffer.flushBuffer();
+                            } else {
+                                DataRow row = (DataRow)obj;
+                                d.addRowToTableWrite(row);
+                            }
                         }
+                    } finally {
+                        ASYNC_WRITE_BACKLOG.add(-size);
                     }
                     queue.clear();
                     d = null;
@@ -0,0 +1,247 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataTypeRegistry;
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+import org.knime.core.data.filestore.FileStoreCell;
+import org.knime.core.data.filestore.FileStoreUtil;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Computes the content fingerprint of tables, see {@link org.knime.core.node.BufferedDataTable#getFingerprint()}.
+ * Each row is digested (MD5, of which 64 bits are used) over its serialized content: the row key and, for each cell,
+ * its class and the output of its {@link DataCellSerializer} (or java serialization), file store cells also contribute
+ * their file store key. Blob cells are digested by their blob address (buffer, column and index) so that they don't
+ * need to be read from disk. The fingerprint of the table is a polynomial rolling hash over the row digests, which
+ * allows the fingerprint of a concatenation of tables to be derived from the fingerprints of its parts.
+ *
+ * <p>Tables with different content get different fingerprints unless their 64 bit values collide by chance, whose
+ * probability is negligible for non-adversarial input. The content of the files of file store cells is not digested;
+ * tables with equal content may have different fingerprints if they contain copies of the same blobs.
+ *
+ * <p>Fingerprints are only computed if the node result cache is enabled, see
+ * {@link KNIMEConstants#PROPERTY_NODE_RESULT_CACHE}, which is their only client.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+final class TableFingerprint {
+
+    /** Whether fingerprints are computed for new tables, see {@link KNIMEConstants#PROPERTY_NODE_RESULT_CACHE}. */
+    static final boolean ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_NODE_RESULT_CACHE);
+
+    /** Fingerprint of a table without rows. */
+    static final long EMPTY = 0L;
+
+    /** Base of the polynomial hash, odd so that it is invertible modulo 2^64. */
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /** Marks the singleton missing cell in the digested stream. */
+    private static final int MISSING_CELL = 0;
+
+    /** Precedes each other cell in the digested stream. */
+    private static final int CELL = 1;
+
+    /** Precedes a blob cell (digested by its address) in the digested stream. */
+    private static final int BLOB_CELL = 2;
+
+    /** Rows are appended by the threads filling the containers, each one uses its own digest. */
+    private static final ThreadLocal<RowDigest> DIGEST = ThreadLocal.withInitial(RowDigest::new);
+
+    private TableFingerprint() {
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the rows added so far
+     * @param row the next row
+     * @return the fingerprint of the rows including the argument row
+     * @throws IOException if a cell can't be serialized
+     */
+    static long append(final long fingerprint, final DataRow row) throws IOException {
+        return fingerprint * MULTIPLIER + DIGEST.get().digest(row);
+    }
+
+    /**
+     * @param first the fingerprint of the first table
+     * @param second the fingerprint of the second table
+     * @param secondSize the number of rows in the second table
+     * @return the fingerprint of a table that contains the rows of the first table followed by the rows of the second
+     */
+    static long concatenate(final long first, final long second, final long secondSize) {
+        long factor = 1L;
+        long base = MULTIPLIER;
+        for (long exp = secondSize; exp > 0; exp >>>= 1) {
+            if ((exp & 1L) != 0) {
+                factor *= base;
+            }
+            base *= base;
+        }
+        return first * factor + second;
+    }
+
+    /** Digests the serialized content of rows, collection cells write their elements through it as well. */
+    private static final class RowDigest extends LongUTFDataOutputStream implements DataCellDataOutput {
+
+        private final MessageDigest m_md5;
+
+        RowDigest() {
+            this(createMD5());
+        }
+
+        private RowDigest(final MessageDigest md5) {
+            super(new DataOutputStream(new DigestStream(md5)));
+            m_md5 = md5;
+        }
+
+        long digest(final DataRow row) throws IOException {
+            m_md5.reset();
+            writeUTF(row.getKey().getString());
+            final int cellCount = row.getNumCells();
+            writeInt(cellCount);
+            for (int i = 0; i < cellCount; i++) {
+                writeDataCell(row.getCell(i));
+            }
+            final byte[] digest = m_md5.digest();
+            long result = 0L;
+            for (int i = 0; i < Long.BYTES; i++) {
+                result = (result << 8) | (digest[i] & 0xFF);
+            }
+            return result;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void writeDataCell(final DataCell cell) throws IOException {
+            // blobs are identified by their address, reading them might require to access the disk
+            final BlobAddress address;
+            final Class<? extends DataCell> blobClass;
+            if (cell instanceof BlobWrapperDataCell) {
+                address = ((BlobWrapperDataCell)cell).getAddress();
+                blobClass = ((BlobWrapperDataCell)cell).getBlobClass();
+            } else if (cell instanceof BlobDataCell) {
+                address = ((BlobDataCell)cell).getBlobAddress();
+                blobClass = cell.getClass();
+            } else {
+                address = null;
+                blobClass = null;
+            }
+            if (address != null) {
+                writeByte(BLOB_CELL);
+                writeUTF(blobClass.getName());
+                writeInt(address.getBufferID());
+                writeInt(address.getColumn());
+                writeInt(address.getIndexOfBlobInColumn());
+                return;
+            }
+            final DataCell c = cell instanceof BlobWrapperDataCell ? ((BlobWrapperDataCell)cell).getCell() : cell;
+            if (c == DataType.getMissingCell()) {
+                writeByte(MISSING_CELL);
+                return;
+            }
+            writeByte(CELL);
+            final Class<? extends DataCell> cellClass = c.getClass();
+            writeUTF(cellClass.getName());
+            if (c instanceof FileStoreCell) {
+                writeUTF(FileStoreUtil.getFileStoreKey((FileStoreCell)c).toString());
+            }
+            final Optional<DataCellSerializer<DataCell>> serializer =
+                DataTypeRegistry.getInstance().getSerializer(cellClass);
+            if (serializer.isPresent()) {
+                serializer.get().serialize(c, this);
+            } else {
+                final ObjectOutputStream oos = new ObjectOutputStream(this);
+                oos.writeObject(c);
+                oos.flush();
+            }
+        }
+
+        private static MessageDigest createMD5() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                // every java platform is required to support MD5
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /** Feeds the written bytes into a message digest. */
+    private static final class DigestStream extends OutputStream {
+
+        private final MessageDigest m_digest;
+
+        DigestStream(final MessageDigest digest) {
+            m_digest = digest;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final int b) {
+            m_digest.update((byte)b);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            m_digest.update(b, off, len);
+        }
+    }
+}
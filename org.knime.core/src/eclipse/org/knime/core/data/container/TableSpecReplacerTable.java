@@ -53,6 +53,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -226,6 +227,13 @@ public final class TableSpecReplacerTable implements KnowsRowCountTable {
         return m_reference.size();
     }
 
+    /** Same as the fingerprint of the reference table as only the spec is replaced.
+     * {@inheritDoc} */
+    @Override
+    public OptionalLong getFingerprint() {
+        return m_reference.getFingerprint();
+    }
+
     /**
      * Get handle to reference table in an array of length 1.
      * @return Reference to that table.
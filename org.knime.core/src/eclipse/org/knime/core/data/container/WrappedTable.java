@@ -51,6 +51,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalLong;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataTable;
@@ -118,6 +119,12 @@ public final class WrappedTable implements KnowsRowCountTable {
         return m_table.size();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public OptionalLong getFingerprint() {
+        return m_table.getFingerprint();
+    }
+
     /** {@inheritDoc} */
     @Override
     public CloseableRowIterator iterator() {
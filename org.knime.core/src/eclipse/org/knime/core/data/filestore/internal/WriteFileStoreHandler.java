@@ -59,6 +59,9 @@ import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.LRUCache;
+import org.knime.core.util.TempFileManager;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 
 /**
  *
@@ -70,6 +73,8 @@ public class WriteFileStoreHandler implements IWriteFileStoreHandler {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(WriteFileStoreHandler.class);
 
+    private static final Counter FILE_STORES_CREATED = Metrics.counter("filestore.created");
+
     /** File organization of file stores. There are {@value #FOLDER_LEVEL} levels of sub folders in the temp dir,
      * each folder contains {@value #FILES_PER_FOLDER} sub folders or files (in the leaf folders). A file store
      * file is then located in, e.g. &lt;filestore_dir&gt;/000/000/000/file1.bin */
@@ -87,6 +92,9 @@ public class WriteFileStoreHandler implements IWriteFileStoreHandler {
     private FileStoreHandlerRepository m_fileStoreHandlerRepository;
     private LRUCache<FileStoreKey, FileStoreKey> m_createdFileStoreKeys;
     private int m_nextIndex = 0;
+    /** Index of the leaf folder (file store index / {@value #FILES_PER_FOLDER}) that was last created, used to create
+     * each leaf folder once instead of checking for its existence with each new file store. */
+    private int m_createdFolderIndex = -1;
 
 
     /**
@@ -124,17 +132,18 @@ public class WriteFileStoreHandler implements IWriteFileStoreHandler {
             m_fileStoreHandlerRepository = null;
         }
         if (m_baseDir != null) {
-            StringBuilder b = new StringBuilder("Disposing file store \"");
+            final File baseDir = m_baseDir;
+            final StringBuilder b = new StringBuilder("Disposing file store \"");
             b.append(toString()).append("\"");
-            if (!m_baseDir.exists()) { // possibly deleted as workflow cleanup (job folder gone)
+            if (!baseDir.exists()) { // possibly deleted as workflow cleanup (job folder gone)
                 b.append(" - associated folder already deleted");
                 LOGGER.debug(b.toString());
-            } else if (FileUtil.deleteRecursively(m_baseDir)) {
-                b.append(" - folder successfully deleted");
-                LOGGER.debug(b.toString());
             } else {
-                b.append(" - folder not or only partially deleted");
-                LOGGER.warn(b.toString());
+                // the folder is private to this handler and may contain millions of files, nobody waits for its
+                // deletion; folders not yet deleted on shutdown are removed by the temp file cleanup in FileUtil
+                TempFileManager.getInstance().delete(baseDir);
+                b.append(" - folder queued for deletion");
+                LOGGER.debug(b.toString());
             }
         }
     }
@@ -188,7 +197,8 @@ public class WriteFileStoreHandler implements IWriteFileStoreHandler {
             // notify them that a copy is taken place and that they need to flush their in memory content
             FileStoreUtil.invokeFlush(flushCallback);
             newStore = createFileStoreInternal(getNextIndex() + "_" + key.getName(), null, -1);
-            FileUtil.copy(fs.getFile(), newStore.getFile());
+            // file stores are not modified once they are referenced by a table, sharing the content is safe
+            FileUtil.linkOrCopy(fs.getFile(), newStore.getFile());
         } catch (IOException e) {
             throw new RuntimeException("Failed copying file stores to local handler", e);
         }
@@ -283,8 +293,13 @@ public class WriteFileStoreHandler implements IWriteFileStoreHandler {
         if (m_nextIndex > MAX_NR_FILES) {
             throw new IOException("Maximum number of files stores reached: " + MAX_NR_FILES);
         }
-        getParentDir(m_nextIndex, true);
+        final int folderIndex = m_nextIndex / FILES_PER_FOLDER;
+        if (folderIndex != m_createdFolderIndex) {
+            getParentDir(m_nextIndex, true);
+            m_createdFolderIndex = folderIndex;
+        }
         m_nextIndex++;
+        FILE_STORES_CREATED.increment();
         FileStore fs = FileStoreUtil.createFileStore(this, key);
         return fs;
     }
@@ -327,6 +342,7 @@ public class WriteFileStoreHandler implements IWriteFileStoreHandler {
             nodeName = nodeName.replaceAll("\\W", "_");
             baseDirName.append(nodeName).append("-");
             m_baseDir = FileUtil.createTempDir(baseDirName.toString());
+            TempFileManager.getInstance().register(m_baseDir);
             LOGGER.debug("Assigning temp directory to file store \"" + toString() + "\"");
         }
     }
@@ -79,6 +79,8 @@ import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -89,6 +91,13 @@ abstract class AbstractTableSorter {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(AbstractTableSorter.class);
 
+    private static final Counter IN_MEMORY_SORTS = Metrics.counter("sorter.inMemory");
+
+    private static final Counter ON_DISK_SORTS = Metrics.counter("sorter.onDisk");
+
+    /** Number of sorted chunks written to disk, including the intermediate merge results. */
+    private static final Counter CHUNKS_WRITTEN = Metrics.counter("sorter.chunksWritten");
+
     /** Representing column spec to sort according to the row key. */
     public static final DataColumnSpec ROWKEY_SORT_SPEC = new DataColumnSpecCreator("-ROWKEY -",
         DataType.getType(StringCell.class)).createSpec();
@@ -415,11 +424,13 @@ abstract class AbstractTableSorter {
     DataTable sortInternal(final ExecutionMonitor exec) throws CanceledExecutionException {
         DataTable result;
         if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
+            IN_MEMORY_SORTS.increment();
             result = sortInMemory(exec);
         } else {
             if (m_rowsInInputTable > Integer.MAX_VALUE) {
                 LOGGER.info("Not sorting table in memory, because it has more than " + Integer.MAX_VALUE + " rows.");
             }
+            ON_DISK_SORTS.increment();
             result = sortOnDisk(exec);
         }
         exec.setProgress(1.0);
@@ -671,6 +682,7 @@ abstract class AbstractTableSorter {
         if (m_currentContainer != null) {
             m_currentContainer.close();
             if (m_itemCount > 0) {
+                CHUNKS_WRITTEN.increment();
                 m_chunksContainer.offer(m_currentContainer.getTable());
             } else {
                 clearTable(m_currentContainer.getTable());
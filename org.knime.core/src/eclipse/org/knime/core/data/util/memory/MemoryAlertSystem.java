@@ -70,6 +70,8 @@ import javax.management.NotificationListener;
 
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 
 /**
  * Implementation of a simple memory warning system. You can either register a listener via
@@ -121,11 +123,25 @@ public final class MemoryAlertSystem {
      */
     public static final double DEFAULT_USAGE_THRESHOLD = 0.9 - ((128 << 20) / (double) getMaximumMemory());
 
+    /** Number of memory alerts sent to the listeners. */
+    private static final Counter ALERTS = Metrics.counter("memory.alerts");
+
     private static final MemoryAlertSystem INSTANCE = new MemoryAlertSystem(DEFAULT_USAGE_THRESHOLD);
 
     /* Standard Logger */
     private static final NodeLogger LOGGER = NodeLogger.getLogger(MemoryAlertSystem.class);
 
+    static {
+        Metrics.registerGauge("memory.usedBytes", MemoryAlertSystem::getUsedMemory);
+        Metrics.registerGauge("memory.maxBytes", MemoryAlertSystem::getMaximumMemory);
+        Metrics.registerGauge("memory.low", () -> INSTANCE.isMemoryLow() ? 1 : 0);
+        Metrics.registerGauge("memory.alertListeners", () -> {
+            synchronized (INSTANCE.m_listeners) {
+                return INSTANCE.m_listeners.size();
+            }
+        });
+    }
+
     private final Collection<MemoryAlertListener> m_listeners = new ArrayList<>();
 
     private final MemoryPoolMXBean m_memPool = OLD_GEN_POOL;
@@ -324,6 +340,7 @@ public final class MemoryAlertSystem {
 
     private void notifyListeners() {
         MemoryAlert alert = new MemoryAlert(getUsedMemory(), getMaximumMemory());
+        ALERTS.increment();
 
         synchronized (m_listeners) {
             int initialSize = m_listeners.size();
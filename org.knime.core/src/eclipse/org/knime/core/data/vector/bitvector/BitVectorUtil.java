@@ -47,6 +47,12 @@
  */
 package org.knime.core.data.vector.bitvector;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
 import org.knime.core.node.util.CheckUtils;
 
 /**
@@ -58,6 +64,9 @@ import org.knime.core.node.util.CheckUtils;
  */
 public final class BitVectorUtil {
 
+    /** Number of longs read or written at once by the (de-)serializers. */
+    private static final int LONGS_PER_CHUNK = 1024;
+
     private BitVectorUtil() { /*empty*/
     }
 
@@ -216,6 +225,155 @@ public final class BitVectorUtil {
         return toReturn;
     }
 
+    /**
+     * Computes the cardinality of the bitwise OR of the given vectors without creating the result vector, i.e. the
+     * same as
+     *
+     * <pre>
+     * long cardOfUnion = BitVectorUtil.or(bv1, bv2).cardinality();
+     * </pre>
+     *
+     * @param bv1 first vector
+     * @param bv2 second vector
+     * @return cardinality of the bitwise OR operator of the given bit vectors
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @since 3.5
+     */
+    public static long cardinalityOfUnion(final BitVectorValue bv1, final BitVectorValue bv2) {
+        CheckUtils.checkNotNull(bv1, "Given BitVectorValues may not be null!");
+        CheckUtils.checkNotNull(bv2, "Given BitVectorValues may not be null!");
+
+        if (bv1 instanceof DenseBitVectorCell && bv2 instanceof DenseBitVectorCell) {
+            return ((DenseBitVectorCell)bv1).cardinalityOfUnion((DenseBitVectorCell)bv2);
+        }
+        return bv1.cardinality() + bv2.cardinality() - cardinalityOfIntersection(bv1, bv2);
+    }
+
+    /**
+     * Computes the cardinality of the bitwise XOR of the given vectors without creating the result vector, i.e. the
+     * same as
+     *
+     * <pre>
+     * long cardOfSymmetricDifference = BitVectorUtil.xor(bv1, bv2).cardinality();
+     * </pre>
+     *
+     * @param bv1 first vector
+     * @param bv2 second vector
+     * @return cardinality of the bitwise XOR operator of the given bit vectors
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @since 3.5
+     */
+    public static long cardinalityOfSymmetricDifference(final BitVectorValue bv1, final BitVectorValue bv2) {
+        CheckUtils.checkNotNull(bv1, "Given BitVectorValues may not be null!");
+        CheckUtils.checkNotNull(bv2, "Given BitVectorValues may not be null!");
+
+        if (bv1 instanceof DenseBitVectorCell && bv2 instanceof DenseBitVectorCell) {
+            return ((DenseBitVectorCell)bv1).cardinalityOfSymmetricDifference((DenseBitVectorCell)bv2);
+        }
+        return bv1.cardinality() + bv2.cardinality() - 2 * cardinalityOfIntersection(bv1, bv2);
+    }
+
+    /**
+     * Computes the Tanimoto (Jaccard) similarity of the given vectors, i.e. the cardinality of their intersection
+     * divided by the cardinality of their union. No intermediate vectors are created, for two
+     * {@link DenseBitVectorCell}s both cardinalities are counted in a single pass over the 64 bit words.
+     *
+     * @param bv1 first vector
+     * @param bv2 second vector
+     * @return the similarity between 0 and 1, 1 if no bit is set in both vectors
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @since 3.5
+     */
+    public static double tanimotoSimilarity(final BitVectorValue bv1, final BitVectorValue bv2) {
+        CheckUtils.checkNotNull(bv1, "Given BitVectorValues may not be null!");
+        CheckUtils.checkNotNull(bv2, "Given BitVectorValues may not be null!");
+
+        if (bv1 instanceof DenseBitVectorCell && bv2 instanceof DenseBitVectorCell) {
+            return ((DenseBitVectorCell)bv1).tanimotoSimilarity((DenseBitVectorCell)bv2);
+        }
+        return tanimotoSimilarity(bv1, bv1.cardinality(), bv2);
+    }
+
+    /**
+     * Computes the Tanimoto similarity (see {@link #tanimotoSimilarity(BitVectorValue, BitVectorValue)}) of a query
+     * vector to each of the given vectors, for instance the cells of a column. The cardinality of the query is
+     * determined only once and no objects are allocated while scoring.
+     *
+     * @param query the query vector
+     * @param vectors the vectors to compare the query with, <code>null</code> elements (e.g. for missing cells) are
+     *            allowed
+     * @param scores the array to write the similarities to, the similarity to <code>vectors[i]</code> is stored in
+     *            <code>scores[i]</code> ({@link Double#NaN} for <code>null</code> elements)
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @throws IllegalArgumentException if the scores array is shorter than the vectors array
+     * @since 3.5
+     */
+    public static void tanimotoSimilarity(final BitVectorValue query, final BitVectorValue[] vectors,
+        final double[] scores) {
+        CheckUtils.checkNotNull(query, "Query vector may not be null!");
+        CheckUtils.checkNotNull(vectors, "Vectors may not be null!");
+        CheckUtils.checkNotNull(scores, "Scores may not be null!");
+        CheckUtils.checkArgument(scores.length >= vectors.length,
+            "Scores array is too short (%d) for %d vectors", scores.length, vectors.length);
+
+        final DenseBitVectorCell denseQuery = query instanceof DenseBitVectorCell ? (DenseBitVectorCell)query : null;
+        final long queryCardinality = query.cardinality();
+        for (int i = 0; i < vectors.length; i++) {
+            final BitVectorValue v = vectors[i];
+            if (v == null) {
+                scores[i] = Double.NaN;
+            } else if (denseQuery != null && v instanceof DenseBitVectorCell) {
+                scores[i] = denseQuery.tanimotoSimilarity((DenseBitVectorCell)v);
+            } else {
+                scores[i] = tanimotoSimilarity(query, queryCardinality, v);
+            }
+        }
+    }
+
+    private static double tanimotoSimilarity(final BitVectorValue bv1, final long cardinality1,
+        final BitVectorValue bv2) {
+        final long intersection = cardinalityOfIntersection(bv1, bv2);
+        final long union = cardinality1 + bv2.cardinality() - intersection;
+        return union == 0 ? 1.0 : (double)intersection / union;
+    }
+
+    /**
+     * Writes the first <code>count</code> elements of the array, in the same format as
+     * {@link DataOutput#writeLong(long)} but in chunks rather than one by one. Used by the cell serializers.
+     */
+    static void writeLongs(final DataOutput out, final long[] values, final int count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        final ByteBuffer bytes = ByteBuffer.allocate(Math.min(count, LONGS_PER_CHUNK) * Long.BYTES);
+        final LongBuffer longs = bytes.asLongBuffer();
+        for (int offset = 0; offset < count; offset += LONGS_PER_CHUNK) {
+            final int length = Math.min(LONGS_PER_CHUNK, count - offset);
+            longs.clear();
+            longs.put(values, offset, length);
+            out.write(bytes.array(), 0, length * Long.BYTES);
+        }
+    }
+
+    /**
+     * Reads <code>count</code> longs as written by {@link #writeLongs(DataOutput, long[], int)}.
+     */
+    static long[] readLongs(final DataInput in, final int count) throws IOException {
+        final long[] result = new long[count];
+        if (count == 0) {
+            return result;
+        }
+        final ByteBuffer bytes = ByteBuffer.allocate(Math.min(count, LONGS_PER_CHUNK) * Long.BYTES);
+        final LongBuffer longs = bytes.asLongBuffer();
+        for (int offset = 0; offset < count; offset += LONGS_PER_CHUNK) {
+            final int length = Math.min(LONGS_PER_CHUNK, count - offset);
+            in.readFully(bytes.array(), 0, length * Long.BYTES);
+            longs.clear();
+            longs.get(result, offset, length);
+        }
+        return result;
+    }
+
     private static int sparseBitVectorCellCount(final BitVectorValue bv1, final BitVectorValue bv2) {
         int count = 0;
         if (bv1 instanceof SparseBitVectorCell) {
@@ -1296,4 +1296,110 @@ public class DenseBitVector implements BitVector {
         }
         return result;
     }
+
+    /**
+     * Computes the cardinality of the union with the given bit vector, i.e. the number of ones in the result of
+     * {@link #or(DenseBitVector)}, without creating the result vector.
+     *
+     * @param bitVector the other operand for the OR operator
+     * @return the cardinality of the union
+     * @since 3.5
+     */
+    public long cardinalityOfUnion(final DenseBitVector bitVector) {
+        if (isEmpty()) {
+            return bitVector.cardinality();
+        }
+        if (bitVector.isEmpty()) {
+            return cardinality();
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
+        final int startAddr = Math.min(m_firstAddr, bitVector.m_firstAddr);
+        final int commonEndAddr = Math.min(m_lastAddr, bitVector.m_lastAddr);
+        long result = 0;
+        for (int i = startAddr; i <= commonEndAddr; i++) {
+            result += Long.bitCount(storage[i] | otherStorage[i]);
+        }
+        return result + cardinalityOfTail(bitVector, commonEndAddr);
+    }
+
+    /**
+     * Computes the cardinality of the symmetric difference with the given bit vector, i.e. the number of ones in the
+     * result of {@link #xor(DenseBitVector)}, without creating the result vector.
+     *
+     * @param bitVector the other operand for the XOR operator
+     * @return the cardinality of the symmetric difference
+     * @since 3.5
+     */
+    public long cardinalityOfSymmetricDifference(final DenseBitVector bitVector) {
+        if (isEmpty()) {
+            return bitVector.cardinality();
+        }
+        if (bitVector.isEmpty()) {
+            return cardinality();
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
+        final int startAddr = Math.min(m_firstAddr, bitVector.m_firstAddr);
+        final int commonEndAddr = Math.min(m_lastAddr, bitVector.m_lastAddr);
+        long result = 0;
+        for (int i = startAddr; i <= commonEndAddr; i++) {
+            result += Long.bitCount(storage[i] ^ otherStorage[i]);
+        }
+        return result + cardinalityOfTail(bitVector, commonEndAddr);
+    }
+
+    /**
+     * Computes the Tanimoto (Jaccard) similarity with the given bit vector, i.e. the cardinality of the intersection
+     * divided by the cardinality of the union. Both are counted in a single pass over the words of the vectors, no
+     * vector is created.
+     *
+     * @param bitVector the other vector
+     * @return the similarity between 0 and 1, 1 if no bit is set in both vectors
+     * @since 3.5
+     */
+    public double tanimotoSimilarity(final DenseBitVector bitVector) {
+        if (isEmpty() || bitVector.isEmpty()) {
+            return isEmpty() && bitVector.isEmpty() ? 1.0 : 0.0;
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
+        final int startAddr = Math.min(m_firstAddr, bitVector.m_firstAddr);
+        final int commonEndAddr = Math.min(m_lastAddr, bitVector.m_lastAddr);
+        long intersection = 0;
+        long union = 0;
+        for (int i = startAddr; i <= commonEndAddr; i++) {
+            final long w1 = storage[i];
+            final long w2 = otherStorage[i];
+            intersection += Long.bitCount(w1 & w2);
+            union += Long.bitCount(w1 | w2);
+        }
+        union += cardinalityOfTail(bitVector, commonEndAddr);
+        return (double)intersection / union;
+    }
+
+    /**
+     * Counts the ones after the given address in the vector (this or the argument) that has the higher last
+     * address. Both vectors must not be empty.
+     */
+    private long cardinalityOfTail(final DenseBitVector bitVector, final int commonEndAddr) {
+        final boolean isThisLonger = m_lastAddr > bitVector.m_lastAddr;
+        final long[] longerStorage = isThisLonger ? m_storage : bitVector.m_storage;
+        final int endAddr = isThisLonger ? m_lastAddr : bitVector.m_lastAddr;
+        long result = 0;
+        for (int i = commonEndAddr + 1; i <= endAddr; i++) {
+            result += Long.bitCount(longerStorage[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the internal storage of all bits (see {@link #getAllBits()}) without copying it. Used for serialization,
+     * the array must not be modified.
+     *
+     * @return the internal representation of the bits in this vector
+     */
+    long[] getAllBitsNoCopy() {
+        return m_storage;
+    }
 }
@@ -97,7 +97,15 @@ public class DenseBitVectorCell extends DataCell implements BitVectorValue {
      * @param bitVector the bit vector to store in this cell.
      */
     DenseBitVectorCell(final DenseBitVector bitVector) {
-        m_bitVector = new DenseBitVector(bitVector);
+        this(bitVector, true);
+    }
+
+    /**
+     * @param bitVector the bit vector to store in this cell
+     * @param copy whether to store a copy of the vector, false only if the vector isn't used elsewhere (serializer)
+     */
+    private DenseBitVectorCell(final DenseBitVector bitVector, final boolean copy) {
+        m_bitVector = copy ? new DenseBitVector(bitVector) : bitVector;
     }
 
     /**
@@ -224,6 +232,33 @@ public class DenseBitVectorCell extends DataCell implements BitVectorValue {
         return m_bitVector.cardinalityOfRelativeComplement(bitVectorCell.m_bitVector);
     }
 
+    /**
+     * @see BitVectorUtil#cardinalityOfUnion(BitVectorValue, BitVectorValue)
+     * @param bitVectorCell the other cell containing the operand
+     * @return the cardinality of the union
+     */
+    long cardinalityOfUnion(final DenseBitVectorCell bitVectorCell) {
+        return m_bitVector.cardinalityOfUnion(bitVectorCell.m_bitVector);
+    }
+
+    /**
+     * @see BitVectorUtil#cardinalityOfSymmetricDifference(BitVectorValue, BitVectorValue)
+     * @param bitVectorCell the other cell containing the operand
+     * @return the cardinality of the symmetric difference
+     */
+    long cardinalityOfSymmetricDifference(final DenseBitVectorCell bitVectorCell) {
+        return m_bitVector.cardinalityOfSymmetricDifference(bitVectorCell.m_bitVector);
+    }
+
+    /**
+     * @see BitVectorUtil#tanimotoSimilarity(BitVectorValue, BitVectorValue)
+     * @param bitVectorCell the other cell
+     * @return the Tanimoto similarity
+     */
+    double tanimotoSimilarity(final DenseBitVectorCell bitVectorCell) {
+        return m_bitVector.tanimotoSimilarity(bitVectorCell.m_bitVector);
+    }
+
     /**
      * Factory for {@link DenseBitVectorCell}s.
      *
@@ -262,13 +297,11 @@ public class DenseBitVectorCell extends DataCell implements BitVectorValue {
          */
         @Override
         public void serialize(final DenseBitVectorCell cell, final DataCellDataOutput out) throws IOException {
-            long[] bits = cell.m_bitVector.getAllBits();
+            long[] bits = cell.m_bitVector.getAllBitsNoCopy();
             long length = cell.length();
             out.writeLong(length);
             out.writeInt(bits.length);
-            for (int i = 0; i < bits.length; i++) {
-                out.writeLong(bits[i]);
-            }
+            BitVectorUtil.writeLongs(out, bits, bits.length);
         }
 
         /**
@@ -278,11 +311,8 @@ public class DenseBitVectorCell extends DataCell implements BitVectorValue {
         public DenseBitVectorCell deserialize(final DataCellDataInput input) throws IOException {
             long length = input.readLong();
             int arrayLength = input.readInt();
-            long[] bits = new long[arrayLength];
-            for (int i = 0; i < arrayLength; i++) {
-                bits[i] = input.readLong();
-            }
-            return new DenseBitVectorCell(new DenseBitVector(bits, length));
+            long[] bits = BitVectorUtil.readLongs(input, arrayLength);
+            return new DenseBitVectorCell(new DenseBitVector(bits, length), false);
         }
     }
 
@@ -105,7 +105,15 @@ public class SparseBitVectorCell extends DataCell implements BitVectorValue {
      * @param bitVector the bit vector to store in this cell.
      */
     SparseBitVectorCell(final SparseBitVector bitVector) {
-        m_bitVector = new SparseBitVector(bitVector);
+        this(bitVector, true);
+    }
+
+    /**
+     * @param bitVector the bit vector to store in this cell
+     * @param copy whether to store a copy of the vector, false only if the vector isn't used elsewhere (serializer)
+     */
+    private SparseBitVectorCell(final SparseBitVector bitVector, final boolean copy) {
+        m_bitVector = copy ? new SparseBitVector(bitVector) : bitVector;
     }
 
     /**
@@ -273,10 +281,22 @@ public class SparseBitVectorCell extends DataCell implements BitVectorValue {
 
             long[] idx = cell.m_bitVector.getAllOneIndices();
             long length = cell.length();
-            out.writeLong(length);
-            out.writeInt(idx.length);
-            for (int i = 0; i < idx.length; i++) {
-                out.writeLong(idx[i]);
+            long nrWords = length == 0 ? 0 : ((length - 1) >> 6) + 1;
+            if (nrWords < idx.length) {
+                // more ones than 64 bit words: write the bits packed into words (marked by a negative length);
+                // this form was added with table format version 9 ("container_9" in Buffer), which older
+                // versions of KNIME report as written by a future version
+                long[] words = new long[(int)nrWords];
+                for (long i : idx) {
+                    words[(int)(i >>> 6)] |= 1L << i;
+                }
+                out.writeLong(~length);
+                out.writeInt(words.length);
+                BitVectorUtil.writeLongs(out, words, words.length);
+            } else {
+                out.writeLong(length);
+                out.writeInt(idx.length);
+                BitVectorUtil.writeLongs(out, idx, idx.length);
             }
         }
 
@@ -288,11 +308,30 @@ public class SparseBitVectorCell extends DataCell implements BitVectorValue {
                 throws IOException {
             long length = input.readLong();
             int arrayLength = input.readInt();
-            long[] idx = new long[arrayLength];
-            for (int i = 0; i < arrayLength; i++) {
-                idx[i] = input.readLong();
+            long[] idx = BitVectorUtil.readLongs(input, arrayLength);
+            if (length < 0) {
+                length = ~length;
+                idx = indicesOfOnes(idx);
+            }
+            return new SparseBitVectorCell(new SparseBitVector(length, idx), false);
+        }
+
+        /** @return the (sorted) indices of the ones in the argument bits, packed as by the serialize method */
+        private static long[] indicesOfOnes(final long[] words) {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            long[] result = new long[count];
+            int r = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    result[r++] = ((long)i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
             }
-            return new SparseBitVectorCell(new SparseBitVector(length, idx));
+            return result;
         }
     }
 }
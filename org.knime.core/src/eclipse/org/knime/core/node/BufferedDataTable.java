@@ -58,6 +58,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -383,6 +384,26 @@ public final class BufferedDataTable implements DataTable, PortObject {
         return m_delegate.size();
     }
 
+    /**
+     * Get a fingerprint of the table content, i.e. a 64 bit hash of the row keys and cells in the order of the rows,
+     * derived from an MD5 digest of the serialized content of each row. It's computed while the rows are added to the
+     * table and is saved with the table, so that two tables can be compared without iterating them: tables with
+     * different fingerprints have different content, tables with equal fingerprints have the same content unless
+     * their fingerprints collide by chance (probability about 2^-64 per pair). The fingerprint does not cover the table
+     * spec, which needs to be compared separately, nor the content of the files referenced by file store cells. Blob
+     * cells are identified by their location, i.e. copies of the same blob make the fingerprints differ.
+     *
+     * <p>The fingerprint is only computed if {@link KNIMEConstants#PROPERTY_NODE_RESULT_CACHE} is set. It is not
+     * available for tables written while it was not set or by previous versions and for some tables that are
+     * derived from other tables (e.g. tables with appended columns); an empty optional is returned then.
+     *
+     * @return the fingerprint, not null
+     * @since 3.5
+     */
+    public OptionalLong getFingerprint() {
+        return m_delegate.getFingerprint();
+    }
+
 
     /** Method being used internally, not interesting for the implementor of
      * a new node model. It will return a unique ID to identify the table
@@ -741,6 +762,15 @@ public final class BufferedDataTable implements DataTable, PortObject {
         }
     }
 
+    /** Hands this table over to another node, see
+     * {@link ExecutionContext#takeOverLoopIterationTable(BufferedDataTable)}. Only allowed for tables that don't
+     * reference other tables.
+     * @param newOwner The new owner. */
+    synchronized void changeOwner(final Node newOwner) {
+        assert m_delegate.getReferenceTables().length == 0 : "Can't change owner of table with references";
+        m_owner = newOwner;
+    }
+
     /** Finds all tables owned by the argument node, which are directly
      * reachable (including this table).
      * @param dataOwner The owner.
@@ -757,6 +787,22 @@ public final class BufferedDataTable implements DataTable, PortObject {
         }
     }
 
+    /** Whether this table and all tables it references are owned by the argument node, i.e. the table does not
+     * depend on tables of other nodes.
+     * @param dataOwner The owner.
+     * @return that property */
+    boolean isOwnedRecursivelyBy(final Node dataOwner) {
+        if (dataOwner != getOwner()) {
+            return false;
+        }
+        for (BufferedDataTable reference : m_delegate.getReferenceTables()) {
+            if (!reference.isOwnedRecursivelyBy(dataOwner)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /** Clears any associated storage, for instance temp files. This call also
      * clears all referenced tables (if they are owned by the same node).
      * @param dataOwner The owner of the tables. If
@@ -835,6 +881,14 @@ public final class BufferedDataTable implements DataTable, PortObject {
          */
         long size();
 
+        /** Implementation of {@link BufferedDataTable#getFingerprint()}. Not available by default.
+         * @return the fingerprint or an empty optional if not known
+         * @since 3.5
+         */
+        default OptionalLong getFingerprint() {
+            return OptionalLong.empty();
+        }
+
         /** Save the table to a file.
          * @param f To write to.
          * @param settings To add meta information to.
@@ -0,0 +1,117 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ */
+package org.knime.core.node;
+
+import java.util.concurrent.Callable;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+
+/**
+ * Handle on a saved (non-table) port object of an executed node that is only deserialized on first access. Created
+ * by the {@link FileNodePersistor} if {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECT_LOADING} is set and held by
+ * the {@link Node} until the output is requested.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+final class DeferredPortObject {
+
+    private final PortObjectSpec m_spec;
+
+    private final Class<? extends PortObject> m_objectClass;
+
+    /** Reads the object, null once it has been read. */
+    private Callable<PortObject> m_reader;
+
+    private PortObject m_object;
+
+    /** Set if reading the object failed. */
+    private Exception m_readError;
+
+    /**
+     * @param spec The (already restored) spec of the port object, not null.
+     * @param objectClass The class of the saved object, used for type checks before the object is read.
+     * @param reader Reads the object from the node directory.
+     */
+    DeferredPortObject(final PortObjectSpec spec, final Class<? extends PortObject> objectClass,
+        final Callable<PortObject> reader) {
+        m_spec = spec;
+        m_objectClass = objectClass;
+        m_reader = reader;
+    }
+
+    /** @return the spec as restored during load, not null. */
+    PortObjectSpec getSpec() {
+        return m_spec;
+    }
+
+    /** @return the class of the saved port object. */
+    Class<? extends PortObject> getObjectClass() {
+        return m_objectClass;
+    }
+
+    /** Reads the port object unless done before. Errors are remembered (see {@link #getReadError()}) and result in
+     * a <code>null</code> object (same as a port whose data couldn't be restored during load); it's up to the caller
+     * to report them and to request a reset of the node.
+     * @return The port object or null if it could not be read. */
+    synchronized PortObject getPortObject() {
+        if (m_reader != null) {
+            try {
+                m_object = m_reader.call();
+            } catch (Exception e) {
+                m_readError = e;
+            } finally {
+                m_reader = null;
+            }
+        }
+        return m_object;
+    }
+
+    /** @return the exception thrown when reading the object or null if it was read successfully (or not read yet). */
+    synchronized Exception getReadError() {
+        return m_readError;
+    }
+
+}
@@ -47,15 +47,19 @@ package org.knime.core.node;
 
 import java.io.IOException;
 import java.lang.reflect.Constructor;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.BlobDataCell;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.ConcatenateTable;
 import org.knime.core.data.container.ContainerTable;
@@ -71,6 +75,7 @@ import org.knime.core.data.filestore.internal.NotInWorkflowFileStoreHandlerRepos
 import org.knime.core.data.filestore.internal.ROWriteFileStoreHandler;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.util.KNIMEJob;
+import org.knime.core.node.workflow.FlowLoopContext;
 import org.knime.core.node.workflow.LoopEndNode;
 import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
 import org.knime.core.node.workflow.virtual.subnode.VirtualSubNodeOutputNodeModel;
@@ -510,6 +515,89 @@ public class ExecutionContext extends ExecutionMonitor {
         return out;
     }
 
+    /**
+     * Used by loop end nodes to take over a table created in the current iteration of the loop (by the loop start
+     * or a node in the loop body) so that it can become part of the output without copying its rows, e.g. using
+     * {@link #createConcatenateTable(ExecutionMonitor, Optional, boolean, BufferedDataTable...)}. Tables that are not
+     * taken over are cleared when the loop body is reset for the next iteration.
+     *
+     * <p>Only tables that were written by a data container (no references to other tables) and whose cells can't
+     * point to data of other tables (blobs, file stores) can be taken over. Also, a table must not be taken over if
+     * it remains the output of a node in the loop body, i.e. in the last iteration. If this method returns
+     * <code>false</code> the caller needs to copy the rows.
+     *
+     * @param table The table to take over, typically an input of the loop end node.
+     * @return true if the table is now owned by this node (or already was).
+     * @since 3.5
+     */
+    public boolean takeOverLoopIterationTable(final BufferedDataTable table) {
+        final Node owner = table.getOwner();
+        if (owner == m_node) {
+            // e.g. fed back by a recursive loop start
+            return true;
+        }
+        if (owner == null || !m_node.isModelCompatibleTo(LoopEndNode.class)
+            || !(table.getDelegate() instanceof ContainerTable) || table.getDelegate().getReferenceTables().length > 0
+            || !isCreatedInCurrentLoop(owner) || !containsSelfContainedCellsOnly(table.getDataTableSpec())) {
+            return false;
+        }
+        table.changeOwner(m_node);
+        // cleared when this node is reset (if not part of the output, e.g. when canceled)
+        m_node.addToTemporaryTables(Collections.singleton((ContainerTable)table.getDelegate()));
+        return true;
+    }
+
+    /**
+     * Counterpart of {@link #takeOverLoopIterationTable(BufferedDataTable)}: disposes a table that was taken over
+     * from the loop body and is not going to be part of the output, e.g. because its rows have been copied into a
+     * consolidated table. The table is removed from the temporary tables of this node and from the workflow's table
+     * repository and its data is deleted. It must not be used afterwards.
+     *
+     * @param table A table previously taken over by this node.
+     * @throws IllegalStateException If the table is not owned by this node.
+     * @since 3.5
+     */
+    public void releaseLoopIterationTable(final BufferedDataTable table) {
+        if (table.getOwner() != m_node || !(table.getDelegate() instanceof ContainerTable)) {
+            throw new IllegalStateException("Can't release table that was not taken over by this node");
+        }
+        ContainerTable delegate = (ContainerTable)table.getDelegate();
+        m_node.removeFromTemporaryTables(delegate);
+        // the table was put into the global repository when the loop body node finished
+        m_globalTableRepository.remove(delegate.getBufferID());
+        table.clearSingle(m_node);
+    }
+
+    /** Whether the argument node is the loop start or in the loop body of the loop end node of this context. */
+    private boolean isCreatedInCurrentLoop(final Node owner) {
+        if (owner.getNodeModel() == m_node.getLoopStartNode()) {
+            return true;
+        }
+        FlowLoopContext loop = m_node.getFlowObjectStack().peek(FlowLoopContext.class);
+        FlowLoopContext ownerLoop = owner.getFlowObjectStack().peek(FlowLoopContext.class);
+        // nodes in nested loops see a different (inner) loop context and are not taken into account
+        return loop != null && ownerLoop != null && loop.getHeadNode().equals(ownerLoop.getHeadNode());
+    }
+
+    /** Whether cells of the argument spec never refer to data stored outside the table (blobs and file stores). */
+    static boolean containsSelfContainedCellsOnly(final DataTableSpec spec) {
+        for (int i = 0; i < spec.getNumColumns(); i++) {
+            if (!isSelfContainedType(spec.getColumnSpec(i).getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSelfContainedType(final DataType type) {
+        Class<? extends DataCell> cellClass = type.getCellClass();
+        if (cellClass == null || BlobDataCell.class.isAssignableFrom(cellClass)
+            || FileStoreCell.class.isAssignableFrom(cellClass)) {
+            return false;
+        }
+        return !type.isCollectionType() || isSelfContainedType(type.getCollectionElementType());
+    }
+
     /**
      * Creates a new {@link BufferedDataTable} that is a column based join of
      * the argument tables. The <code>left</code> table argument contributes
@@ -138,6 +138,10 @@ public class FileNodePersistor implements NodePersistor {
      */
     public static final String INTERNAL_TABLE_FOLDER_PREFIX = "internalTables";
 
+    /** See {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECT_LOADING}. */
+    private static final boolean LAZY_PORT_OBJECT_LOADING =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_LAZY_PORT_OBJECT_LOADING);
+
     private final NodeLogger m_logger = NodeLogger.getLogger(getClass());
 
     private final FileNativeNodeContainerPersistor m_nncPersistor;
@@ -159,6 +163,9 @@ public class FileNodePersistor implements NodePersistor {
 
     private PortObject[] m_portObjects;
 
+    /** Port objects restored lazily, see {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECT_LOADING}. */
+    private DeferredPortObject[] m_deferredPortObjects;
+
     private PortObjectSpec[] m_portObjectSpecs;
 
     private String[] m_portObjectSummaries;
@@ -374,8 +381,20 @@ public class FileNodePersistor implements NodePersistor {
                 spec = BufferedDataTable.loadSpec(portDir);
             }
         } else {
-            object = loadPortObject(portDir, settings, exec, fileStoreHandlerRepository).orElse(null);
-            spec = object != null ? object.getSpec() : null;
+            DeferredPortObject deferred = isInactive ? null
+                : createDeferredPortObject(portDir, settings, fileStoreHandlerRepository).orElse(null);
+            if (deferred != null) {
+                if (!designatedType.getPortObjectClass().isAssignableFrom(deferred.getObjectClass())) {
+                    throw new IOException("Actual port object type (\"" + deferred.getObjectClass().getSimpleName()
+                        + "\") does not match designated one (\""
+                        + designatedType.getPortObjectClass().getSimpleName() + "\")");
+                }
+                m_deferredPortObjects[portIdx] = deferred;
+                spec = deferred.getSpec();
+            } else {
+                object = loadPortObject(portDir, settings, exec, fileStoreHandlerRepository).orElse(null);
+                spec = object != null ? object.getSpec() : null;
+            }
         }
         if (spec != null) {
             if (!designatedType.getPortObjectSpecClass().isInstance(spec) && !isInactive) {
@@ -385,7 +404,9 @@ public class FileNodePersistor implements NodePersistor {
             }
         }
         String summary = null;
-        if (object != null) {
+        if (m_deferredPortObjects[portIdx] != null) {
+            summary = settings.getString("port_object_summary");
+        } else if (object != null) {
             if (!designatedType.getPortObjectClass().isInstance(object) && !isInactive) {
                 throw new IOException("Actual port object type (\"" + object.getClass().getSimpleName()
                     + "\") does not match designated one (\"" + designatedType.getPortObjectClass().getSimpleName()
@@ -416,9 +437,21 @@ public class FileNodePersistor implements NodePersistor {
         final ExecutionMonitor exec, final FileStoreHandlerRepository fileStoreHandlerRepository)
             throws IOException, InvalidSettingsException, FileNotFoundException, CanceledExecutionException {
         exec.setMessage("Loading port object");
-        final String specClass = settings.getString("port_spec_class");
         final String objectClass = loadPortObjectClassName(settings);
+        PortObjectSpec spec = loadPortObjectSpec(portDir, settings);
         PortObject object = null;
+        if (spec != null && objectClass != null) {
+            Class<? extends PortObject> cl = PortTypeRegistry.getInstance().getObjectClass(objectClass)
+                    .orElseThrow(() -> new IOException("Invalid object class \"" + objectClass + "\""));
+            object = loadPortObject(portDir, settings, spec, cl, exec, fileStoreHandlerRepository);
+        }
+        return Optional.ofNullable(object);
+    }
+
+    /** Restores the spec of a non-table port object, returns null if there is none. */
+    private static PortObjectSpec loadPortObjectSpec(final ReferencedFile portDir, final NodeSettingsRO settings)
+            throws IOException, InvalidSettingsException {
+        final String specClass = settings.getString("port_spec_class");
         PortObjectSpec spec = null;
         if (specClass != null) {
             Class<? extends PortObjectSpec> cl = PortTypeRegistry.getInstance().getSpecClass(specClass)
@@ -438,41 +471,69 @@ public class FileNodePersistor implements NodePersistor {
                 }
             }
         }
-        if (spec != null && objectClass != null) {
-            Class<? extends PortObject> cl = PortTypeRegistry.getInstance().getObjectClass(objectClass)
-                    .orElseThrow(() -> new IOException("Invalid object class \"" + objectClass + "\""));
-            ReferencedFile objectFileRef = new ReferencedFile(portDir, settings.getString("port_object_location"));
-            File objectFile = objectFileRef.getFile();
-            if (!objectFile.isFile()) {
-                throw new IOException("Can't read file " + objectFile.getAbsolutePath());
-            }
-            // buffering both disc I/O and the gzip stream pays off
-            try (PortObjectZipInputStream in = PortUtil.getPortObjectZipInputStream(
-                new BufferedInputStream(new FileInputStream(objectFile)))) {
-                PortObjectSerializer<?> serializer = PortTypeRegistry.getInstance().getObjectSerializer(cl).get();
-                object = serializer.loadPortObject(in, spec, exec);
-            }
-            if (object instanceof FileStorePortObject) {
-                File fileStoreXML = new File(objectFile.getParent(), "filestore.xml");
-                final ModelContentRO fileStoreModelContent =
-                        ModelContent.loadFromXML(new FileInputStream(fileStoreXML));
-                List<FileStoreKey> fileStoreKeys = new ArrayList<FileStoreKey>();
-                if (getLoadVersion().isOlderThan(LoadVersion.V2100)) {
-                    // only one filestore in <2.10 (bug 5227)
-                    FileStoreKey fileStoreKey = FileStoreKey.load(fileStoreModelContent);
-                    fileStoreKeys.add(fileStoreKey);
-                } else {
-                    ModelContentRO keysContent = fileStoreModelContent.getModelContent("filestore_keys");
-                    for (String id : keysContent.keySet()) {
-                        ModelContentRO keyContent = keysContent.getModelContent(id);
-                        fileStoreKeys.add(FileStoreKey.load(keyContent));
-                    }
+        return spec;
+    }
+
+    /** Restores a non-table port object given its (already restored) spec. */
+    private PortObject loadPortObject(final ReferencedFile portDir, final NodeSettingsRO settings,
+        final PortObjectSpec spec, final Class<? extends PortObject> cl, final ExecutionMonitor exec,
+        final FileStoreHandlerRepository fileStoreHandlerRepository)
+            throws IOException, InvalidSettingsException, FileNotFoundException, CanceledExecutionException {
+        PortObject object;
+        ReferencedFile objectFileRef = new ReferencedFile(portDir, settings.getString("port_object_location"));
+        File objectFile = objectFileRef.getFile();
+        if (!objectFile.isFile()) {
+            throw new IOException("Can't read file " + objectFile.getAbsolutePath());
+        }
+        // buffering both disc I/O and the gzip stream pays off
+        try (PortObjectZipInputStream in = PortUtil.getPortObjectZipInputStream(
+            new BufferedInputStream(new FileInputStream(objectFile)))) {
+            PortObjectSerializer<?> serializer = PortTypeRegistry.getInstance().getObjectSerializer(cl).get();
+            object = serializer.loadPortObject(in, spec, exec);
+        }
+        if (object instanceof FileStorePortObject) {
+            File fileStoreXML = new File(objectFile.getParent(), "filestore.xml");
+            final ModelContentRO fileStoreModelContent =
+                    ModelContent.loadFromXML(new FileInputStream(fileStoreXML));
+            List<FileStoreKey> fileStoreKeys = new ArrayList<FileStoreKey>();
+            if (getLoadVersion().isOlderThan(LoadVersion.V2100)) {
+                // only one filestore in <2.10 (bug 5227)
+                FileStoreKey fileStoreKey = FileStoreKey.load(fileStoreModelContent);
+                fileStoreKeys.add(fileStoreKey);
+            } else {
+                ModelContentRO keysContent = fileStoreModelContent.getModelContent("filestore_keys");
+                for (String id : keysContent.keySet()) {
+                    ModelContentRO keyContent = keysContent.getModelContent(id);
+                    fileStoreKeys.add(FileStoreKey.load(keyContent));
                 }
-                FileStoreUtil.retrieveFileStoreHandlerFrom(
-                    (FileStorePortObject)object, fileStoreKeys, fileStoreHandlerRepository);
             }
+            FileStoreUtil.retrieveFileStoreHandlerFrom(
+                (FileStorePortObject)object, fileStoreKeys, fileStoreHandlerRepository);
         }
-        return Optional.ofNullable(object);
+        return object;
+    }
+
+    /** Creates a handle on a non-table port object that is read on first access. Only the spec is restored here.
+     * Returns an empty optional if lazy loading is disabled or not applicable for the saved object, i.e. if the
+     * summary wasn't saved or the object is a {@link FileStorePortObject} (file stores need to be associated
+     * with their handler during load). */
+    private Optional<DeferredPortObject> createDeferredPortObject(final ReferencedFile portDir,
+        final NodeSettingsRO settings, final FileStoreHandlerRepository fileStoreHandlerRepository)
+            throws IOException, InvalidSettingsException {
+        final String objectClass = loadPortObjectClassName(settings);
+        if (!LAZY_PORT_OBJECT_LOADING || objectClass == null || settings.getString("port_spec_class") == null
+                || settings.getString("port_object_summary", null) == null) {
+            return Optional.empty();
+        }
+        Optional<Class<? extends PortObject>> clOptional = PortTypeRegistry.getInstance().getObjectClass(objectClass);
+        if (!clOptional.isPresent() || FileStorePortObject.class.isAssignableFrom(clOptional.get())) {
+            // error reported by (or object eagerly restored in) #loadPortObject
+            return Optional.empty();
+        }
+        final Class<? extends PortObject> cl = clOptional.get();
+        final PortObjectSpec spec = loadPortObjectSpec(portDir, settings);
+        return Optional.of(new DeferredPortObject(spec, cl,
+            () -> loadPortObject(portDir, settings, spec, cl, new ExecutionMonitor(), fileStoreHandlerRepository)));
     }
 
     private BufferedDataTable loadBufferedDataTable(final ReferencedFile objectDir, final ExecutionMonitor exec,
@@ -963,6 +1024,7 @@ public class FileNodePersistor implements NodePersistor {
         ExecutionMonitor createExec = exec.createSilentSubProgress(0.1);
         exec.setMessage("settings");
         m_portObjects = new PortObject[node.getNrOutPorts()];
+        m_deferredPortObjects = new DeferredPortObject[node.getNrOutPorts()];
         m_portObjectSpecs = new PortObjectSpec[node.getNrOutPorts()];
         m_portObjectSummaries = new String[node.getNrOutPorts()];
         String nodeName = node.getName();
@@ -1093,7 +1155,16 @@ public class FileNodePersistor implements NodePersistor {
                 return FlowVariablePortObject.INSTANCE;
             }
         }
-        return m_portObjects[outportIndex];
+        DeferredPortObject deferred = getDeferredPortObject(outportIndex);
+        return deferred != null ? deferred.getPortObject() : m_portObjects[outportIndex];
+    }
+
+    /**
+     * @param outportIndex The outport index.
+     * @return The handle on the port object if it's read lazily (not restored yet), otherwise null.
+     */
+    DeferredPortObject getDeferredPortObject(final int outportIndex) {
+        return m_deferredPortObjects != null ? m_deferredPortObjects[outportIndex] : null;
     }
 
     /**
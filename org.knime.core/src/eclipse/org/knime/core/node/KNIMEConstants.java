@@ -152,6 +152,29 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB = "org.knime.container.minspace.temp";
 
+    /** Java property name to specify the maximum size in MB of the temporary files (tables, blobs, file stores, ...)
+     * that are tracked in a single temp folder, i.e. per workflow. If more is used, no further temp files will be
+     * created (resulting in an exception). Default is 0, i.e. no quota.
+     * @see org.knime.core.util.TempFileManager
+     * @since 3.5
+     */
+    public static final String PROPERTY_TEMP_FILES_QUOTA_IN_MB = "knime.tempfiles.quota";
+
+    /** Java property name to specify the number of threads deleting temporary files and folders in the background.
+     * Default is {@value org.knime.core.util.TempFileManager#DEF_DELETE_THREADS}.
+     * @see org.knime.core.util.TempFileManager
+     * @since 3.5
+     */
+    public static final String PROPERTY_TEMP_FILES_DELETE_THREADS = "knime.tempfiles.deletethreads";
+
+    /** Java property name to specify the maximum number of temporary files and folders deleted per second by the
+     * background deletion, 0 disables the limit. Default is
+     * {@value org.knime.core.util.TempFileManager#DEF_DELETE_RATE}.
+     * @see org.knime.core.util.TempFileManager
+     * @since 3.5
+     */
+    public static final String PROPERTY_TEMP_FILES_DELETE_RATE = "knime.tempfiles.deleterate";
+
     /** Java property to enable/disable table stream compression. Compression
      * results in smaller temp-file sizes but also (sometimes significant)
      * longer runtime. The default is {@value
@@ -298,6 +321,15 @@ public final class KNIMEConstants {
    public static final String PROPERTY_DISABLE_LOG4J_CONFIG =
        "knime.log4j.config.disabled";
 
+   /**
+    * Java property to decouple logging from the logging thread: if set to <code>true</code> log events are put into a
+    * bounded buffer and written to the configured appenders by a background thread. Events are dropped (and their
+    * number reported) rather than blocking the caller if the buffer is full. Default is <code>false</code>.
+    *
+    * @since 3.5
+    */
+   public static final String PROPERTY_ASYNC_LOGGING = "knime.logging.async";
+
    /**
     * Java property for doing all dialog operations automatically in the
     * AWT event dispatch thread.
@@ -310,6 +342,46 @@ public final class KNIMEConstants {
     * @since 3.0 */
    public static final String PROPERTY_HIGH_DPI_SUPPORT = "knime.highdpi.support";
 
+   /**
+    * Java property to set the number of threads used to read the settings files of the nodes in a workflow
+    * while the workflow is loaded. The default is the number of available processors; a value of 1 (or less)
+    * reads all files sequentially in the loading thread.
+    *
+    * @since 3.5
+    */
+   public static final String PROPERTY_WORKFLOW_LOAD_THREADS = "knime.workflow.load.threads";
+
+   /**
+    * Java property to enable lazy loading of saved (non-table) port objects of executed nodes. If set to
+    * <code>true</code> only the spec is restored when a workflow is loaded; the port object itself is read on first
+    * access (e.g. by a downstream node or a port view). If that read fails the node shows an error and is reset,
+    * as it is for load errors. Tables are always restored lazily. Default is <code>false</code>.
+    *
+    * @since 3.5
+    */
+   public static final String PROPERTY_LAZY_PORT_OBJECT_LOADING = "knime.workflow.load.lazyports";
+
+   /**
+    * Java property to enable a fast path between loop iterations: if the output specs of the loop start node did
+    * not change since the previous iteration and all nodes in the loop body and the loop end implement
+    * {@link IterationIndependentConfigureNodeModel} and are not controlled by flow variables (metanodes and nested
+    * loops are excluded) the body nodes are not configured again but only reset and re-executed.
+    * Default is <code>false</code>.
+    *
+    * @since 3.5
+    */
+   public static final String PROPERTY_LOOP_FAST_ITERATION = "knime.loop.fastiteration";
+
+   /**
+    * Java property to keep the result of a node when it is reset: if the node is executed again with identical
+    * settings, flow variables and input tables the kept result is used instead of executing the node model. Only
+    * applies to nodes implementing {@link DeterministicNodeModel} with table in- and outputs that are not part of a
+    * loop and have no views. Default is <code>false</code>.
+    *
+    * @since 3.5
+    */
+   public static final String PROPERTY_NODE_RESULT_CACHE = "knime.node.resultcache";
+
     /** KNIME home directory. */
     private static File knimeHomeDir;
 
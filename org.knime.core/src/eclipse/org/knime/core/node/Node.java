@@ -186,17 +186,38 @@ public final class Node implements NodeModelWarningListener {
 
     private boolean m_forceSychronousIO;
 
-    /** Keeps outgoing information (specs, objects, HiLiteHandlers...). */
+    /** Keeps outgoing information (specs, objects, HiLiteHandlers...). Spec, object and summary are volatile as
+     * they are read by clients that query port specs without holding the workflow lock. Object and deferred object
+     * are only changed while holding the lock on the output instance. */
     static class Output {
         String name;
         PortType type;
-        PortObjectSpec spec;
-        PortObject object;
+        volatile PortObjectSpec spec;
+        volatile PortObject object;
+        /** Set instead of object if the object is read on first access (only after load), see
+         * {@link Node#getOutputObject(int)}. */
+        volatile DeferredPortObject deferredObject;
         HiLiteHandler hiliteHdl;
-        String summary;
+        volatile String summary;
+
+        /** Sets the object, a deferred object that has not been read yet is dropped. */
+        synchronized void setObject(final PortObject o) {
+            object = o;
+            deferredObject = null;
+        }
+
+        /** Sets the deferred object, it replaces the current object. */
+        synchronized void setDeferredObject(final DeferredPortObject d) {
+            object = null;
+            deferredObject = d;
+        }
     }
     private final Output[] m_outputs;
 
+    /** Set if a port object that was loaded lazily (see {@link DeferredPortObject}) could not be read; the node
+     * then needs to be reset, similar to a load error. Cleared when the outputs are set or cleaned. */
+    private volatile boolean m_deferredOutputReadFailed;
+
     /** Keeps information about incoming connectors (type and name). */
     static class Input {
         Input(final String n, final PortType t) {
@@ -214,6 +235,9 @@ public final class Node implements NodeModelWarningListener {
      * implements {@link BufferedDataTableHolder} or {@link PortObjectHolder}. In most cases this is null. */
     private PortObject[] m_internalHeldPortObjects;
 
+    /** The result of the last execution, kept across reset if enabled (see {@link NodeResultCache}). Usually null. */
+    private NodeResultCache m_resultCache;
+
     /** The listeners that are interested in node state changes. */
     private final CopyOnWriteArraySet<NodeMessageListener> m_messageListeners;
 
@@ -435,6 +459,7 @@ public final class Node implements NodeModelWarningListener {
 
         boolean hasContent = loader.hasContent();
         m_model.setHasContent(hasContent);
+        m_deferredOutputReadFailed = false;
         for (int i = 0; i < getNrOutPorts(); i++) {
             PortObjectSpec spec = loader.getPortObjectSpec(i);
             if (checkPortObjectSpecClass(spec, i)) {
@@ -448,9 +473,17 @@ public final class Node implements NodeModelWarningListener {
                 loader.setNeedsResetAfterLoad();
             }
 
-            PortObject obj = loader.getPortObject(i);
-            if (checkPortObjectClass(obj, i)) {
-                m_outputs[i].object = obj;
+            DeferredPortObject deferredObj = loader instanceof FileNodePersistor
+                ? ((FileNodePersistor)loader).getDeferredPortObject(i) : null;
+            PortObject obj = deferredObj != null ? null : loader.getPortObject(i);
+            if (deferredObj != null) {
+                // class already checked by persistor, object read on first access
+                m_outputs[i].setDeferredObject(deferredObj);
+                m_outputs[i].summary = loader.getPortObjectSummary(i);
+                m_outputs[i].spec = deferredObj.getSpec();
+                m_outputs[i].hiliteHdl = (i == 0) ? null : m_model.getOutHiLiteHandler(i - 1);
+            } else if (checkPortObjectClass(obj, i)) {
+                m_outputs[i].setObject(obj);
                 m_outputs[i].summary = loader.getPortObjectSummary(i);
             } else {
                 Class<? extends PortObject> objClass =
@@ -758,7 +791,44 @@ public final class Node implements NodeModelWarningListener {
     }
 
     public PortObject getOutputObject(final int index) {
-        return m_outputs[index].object;
+        final Output output = m_outputs[index];
+        final DeferredPortObject deferredObject = output.deferredObject;
+        if (deferredObject != null) {
+            // port object of a loaded node, read on first access (outside the lock, it may take a while)
+            final PortObject object = deferredObject.getPortObject();
+            final Exception readError = deferredObject.getReadError();
+            final boolean isReadFailed = object == null && readError != null;
+            synchronized (output) {
+                if (output.deferredObject != deferredObject) {
+                    // read concurrently or the outputs were set or cleaned (node reset) in the meantime
+                    return output.object;
+                }
+                output.setObject(object);
+                if (isReadFailed) {
+                    m_deferredOutputReadFailed = true;
+                }
+            }
+            if (isReadFailed) {
+                // same as a load error of the eager path: report and have the node reset (by its container)
+                createErrorMessageAndNotify("Unable to read saved data of output port " + index + " (\""
+                    + deferredObject.getObjectClass().getSimpleName() + "\"): " + readError.getMessage()
+                    + "; node needs to be reset", readError);
+            }
+        }
+        return output.object;
+    }
+
+    /**
+     * Whether a port object that was read on first access after load (see
+     * {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECT_LOADING}) could not be read. The output is then empty although
+     * the node is executed; the node container is expected to reset the node, as it does for errors during load.
+     *
+     * @return that property, cleared when the node is reset or executed.
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.5
+     */
+    public boolean isDeferredOutputReadFailed() {
+        return m_deferredOutputReadFailed;
     }
 
     public String getOutputObjectSummary(final int index) {
@@ -919,6 +989,7 @@ public final class Node implements NodeModelWarningListener {
         }
 
         PortObject[] newOutData;
+        NodeResultCache.Key resultCacheKey = null;
         if (isInactive) {
             // just a normal node: skip execution and fill output ports with inactive markers
             newOutData = new PortObject[getNrOutPorts()];
@@ -952,11 +1023,21 @@ public final class Node implements NodeModelWarningListener {
                 }
             }
 
+            resultCacheKey = NodeResultCache.createKey(this, newInData, exEnv);
+            boolean isResultCached = m_resultCache != null && m_resultCache.matches(resultCacheKey);
+            if (!isResultCached) {
+                discardResultCache();
+            }
+
             PortObject[] rawOutData;
             try {
-                // INVOKE MODEL'S EXECUTE
-                // (warnings will now be processed "automatically" - we listen)
-                rawOutData = invokeFullyNodeModelExecute(exec, exEnv, newInData);
+                if (isResultCached) {
+                    rawOutData = restoreCachedResult();
+                } else {
+                    // INVOKE MODEL'S EXECUTE
+                    // (warnings will now be processed "automatically" - we listen)
+                    rawOutData = invokeFullyNodeModelExecute(exec, exEnv, newInData);
+                }
             } catch (Throwable th) {
                 boolean isCanceled = th instanceof CanceledExecutionException;
                 isCanceled = isCanceled || th instanceof InterruptedException;
@@ -1061,11 +1142,38 @@ public final class Node implements NodeModelWarningListener {
         if (!setOutPortObjects(newOutData, continuesLoop, tolerateOutSpecDiff)) {
             return false;
         }
+        if (resultCacheKey != null && m_resultCache == null) {
+            m_resultCache = NodeResultCache.create(this, resultCacheKey, newOutData);
+        }
 
         assignInternalHeldObjects(rawInData, exEnv, exec, newOutData);
         return true;
     } // execute
 
+    /** Called instead of the node model's execute if the result of the previous execution can be reused. Restores
+     * the flow variables and the warning message of that execution.
+     * @return the cached output, including the flow variable port */
+    private PortObject[] restoreCachedResult() {
+        LOGGER.debug("Input and settings unchanged, reusing result of previous execution");
+        for (FlowVariable v : m_resultCache.getOutFlowVariables()) {
+            m_model.pushFlowVariable(v);
+        }
+        m_model.setWarningMessage(m_resultCache.getWarningMessage());
+        return m_resultCache.getOutData();
+    }
+
+    /** Disposes the tables of the cached result (if any) unless they are currently used as output. */
+    private void discardResultCache() {
+        if (m_resultCache != null) {
+            PortObject[] outData = new PortObject[m_outputs.length];
+            for (int i = 0; i < m_outputs.length; i++) {
+                outData[i] = m_outputs[i].object;
+            }
+            m_resultCache.dispose(this, outData);
+            m_resultCache = null;
+        }
+    }
+
     /** Called after execute to retrieve internal held objects from underlying NodeModel and to do some clean-up with
      * previous objects. Only relevant for {@link BufferedDataTableHolder} and {@link PortObjectHolder}.
      * @param rawInData Raw in data, potentially empty array for streaming executor
@@ -1276,11 +1384,11 @@ public final class Node implements NodeModelWarningListener {
                 }
                 BufferedDataTable t = thisTable;
                 t.setOwnerRecursively(this);
-                m_outputs[p].object = t;
+                m_outputs[p].setObject(t);
                 m_outputs[p].summary = t.getSummary();
                 m_outputs[p].spec = newPortSpec;
             } else {
-                m_outputs[p].object = newOutData[p];
+                m_outputs[p].setObject(newOutData[p]);
                 if (newOutData[p] != null) {
                     m_outputs[p].spec = newOutData[p].getSpec();
                     m_outputs[p].summary = newOutData[p].getSummary();
@@ -1289,6 +1397,8 @@ public final class Node implements NodeModelWarningListener {
                 }
             }
         }
+        // after replacing the outputs, see cleanOutPorts
+        m_deferredOutputReadFailed = false;
         return true;
     }
 
@@ -1532,15 +1642,21 @@ public final class Node implements NodeModelWarningListener {
         Set<BufferedDataTable> disposableTables =
             new LinkedHashSet<BufferedDataTable>();
         for (int i = 0; i < m_outputs.length; i++) {
-            PortObject portObject = m_outputs[i].object;
+            PortObject portObject;
+            synchronized (m_outputs[i]) {
+                // a deferred object read concurrently is either published before or discarded
+                portObject = m_outputs[i].object;
+                m_outputs[i].setObject(null);
+            }
             if (portObject instanceof BufferedDataTable) {
                 final BufferedDataTable table = (BufferedDataTable)portObject;
                 table.collectTableAndReferencesOwnedBy(this, disposableTables);
             }
             m_outputs[i].spec = null;
-            m_outputs[i].object = null;
             m_outputs[i].summary = null;
         }
+        // only now, a failed read of a deferred object may have been published until the loop above
+        m_deferredOutputReadFailed = false;
 
         if (m_internalHeldPortObjects != null) {
             Set<BufferedDataTable> internalTableSet =
@@ -1557,6 +1673,12 @@ public final class Node implements NodeModelWarningListener {
                 m_internalHeldPortObjects = null;
             }
         }
+        if (m_resultCache != null) {
+            // the cached result survives the reset, it's disposed when the node executes with different input
+            Set<BufferedDataTable> cachedTableSet = new LinkedHashSet<BufferedDataTable>();
+            m_resultCache.collectTableAndReferencesOwnedBy(this, cachedTableSet);
+            disposableTables.removeAll(cachedTableSet);
+        }
         for (BufferedDataTable disposable : disposableTables) {
             disposable.clearSingle(this);
         }
@@ -1592,6 +1714,15 @@ public final class Node implements NodeModelWarningListener {
         m_localTempTables.addAll(tempTables);
     }
 
+    /** Removes the argument table from the set of temporary tables, used when a table that was taken over from a loop
+     * body is disposed during execution (see {@link ExecutionContext#releaseLoopIterationTable(BufferedDataTable)}).
+     *
+     * @param tempTable Table to remove, not <code>null</code>.
+     */
+    void removeFromTemporaryTables(final ContainerTable tempTable) {
+        m_localTempTables.remove(tempTable);
+    }
+
     /** Enumerates the output tables and puts them into the global workflow repository of tables. This method delegates
      * from the NodeContainer class to access a package-scope method in BufferedDataTable.
      * @param rep The global repository.
@@ -1681,6 +1812,7 @@ public final class Node implements NodeModelWarningListener {
             LOGGER.error(t.getClass().getSimpleName() + " during cleanup of node: " + t.getMessage(), t);
         }
         cleanOutPorts(false);
+        discardResultCache();
     }
 
     /**
@@ -2302,6 +2434,9 @@ public final class Node implements NodeModelWarningListener {
     /** Ensures that any port object is read for later saving with a
      * newer version. */
     public void ensureOutputDataIsRead() {
+        for (int i = 0; i < m_outputs.length; i++) {
+            getOutputObject(i); // reads port objects that are loaded lazily
+        }
         for (Output p : m_outputs) {
             if (p.object instanceof BufferedDataTable) {
                 ((BufferedDataTable)p.object).ensureOpen();
@@ -59,8 +59,10 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 import org.apache.log4j.Appender;
+import org.apache.log4j.AsyncAppender;
 import org.apache.log4j.FileAppender;
 import org.apache.log4j.Layout;
 import org.apache.log4j.Level;
@@ -69,6 +71,7 @@ import org.apache.log4j.PatternLayout;
 import org.apache.log4j.PropertyConfigurator;
 import org.apache.log4j.WriterAppender;
 import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.AppenderAttachable;
 import org.apache.log4j.spi.Filter;
 import org.apache.log4j.spi.LoggerRepository;
 import org.apache.log4j.spi.LoggingEvent;
@@ -100,7 +103,9 @@ import org.knime.core.util.User;
  * behaviour). Furthermore, it is possible to add and remove additional writers
  * to this logger. Note, calling {@link #setLevel(LEVEL)} does only effect
  * the minimum logging level of the default loggers. All other writers' levels
- * have to be set before hand.
+ * have to be set before hand. If {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING} is
+ * set the appenders are written by a background thread and the logging thread
+ * never blocks on I/O.
  *
  * @author Thomas Gabriel, Tobias Koetter, KNIME.com
  */
@@ -250,6 +255,14 @@ public final class NodeLogger {
      */
     public static final String KNIME_CONSOLE_APPENDER = "knimeConsole";
 
+    /**
+     * Name of the appender that forwards all events asynchronously to the configured root appenders if
+     * {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING} is set.
+     *
+     * @since 3.5
+     */
+    public static final String ASYNC_APPENDER = "async";
+
     /** The default log file name, <i>knime.log</i>. */
     public static final String LOG_FILE = "knime.log";
 
@@ -272,6 +285,12 @@ public final class NodeLogger {
     /** Default log file appender. */
     private static final Appender LOG_FILE_APPENDER;
 
+    /** Number of log events buffered by an asynchronous appender before further events are dropped. */
+    private static final int ASYNC_BUFFER_SIZE = 8192;
+
+    /** Asynchronous appender wrapping all root appenders or <code>null</code> if logging is synchronous. */
+    private static AsyncAppender ROOT_ASYNC_APPENDER = null;
+
     private static boolean LOG_IN_WF_DIR = false;
 
     private static boolean LOG_GLOBAL_IN_WF_DIR = false;
@@ -304,6 +323,9 @@ public final class NodeLogger {
                 root.warn("Could not find '" + LOGFILE_APPENDER + "' appender");
                 LOG_FILE_APPENDER = new NullAppender();
             }
+            if (Boolean.getBoolean(KNIMEConstants.PROPERTY_ASYNC_LOGGING)) {
+                initAsyncLogging(root);
+            }
         } else {
             LOG_FILE_APPENDER = new NullAppender();
         }
@@ -311,6 +333,51 @@ public final class NodeLogger {
     }
 
 
+    /**
+     * Moves all appenders of the root logger into a single non-blocking {@link AsyncAppender} so that the logging
+     * thread only enqueues the event.
+     *
+     * @param root the root logger
+     */
+    private static void initAsyncLogging(final Logger root) {
+        final AsyncAppender async = createAsyncAppender(ASYNC_APPENDER);
+        @SuppressWarnings("unchecked")
+        final Enumeration<Appender> appenders = root.getAllAppenders();
+        while (appenders.hasMoreElements()) {
+            async.addAppender(appenders.nextElement());
+        }
+        root.removeAllAppenders();
+        root.addAppender(async);
+        ROOT_ASYNC_APPENDER = async;
+        // the dispatcher is a daemon thread, flush the pending events when the VM shuts down
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> async.close(), "KNIME-Log-Flush"));
+        LogLog.debug("Asynchronous logging enabled");
+    }
+
+    /**
+     * @param name the name of the appender
+     * @return a new {@link AsyncAppender} that drops events instead of blocking the caller if its buffer is full
+     */
+    private static AsyncAppender createAsyncAppender(final String name) {
+        final AsyncAppender async = new AsyncAppender();
+        async.setName(name);
+        async.setBlocking(false);
+        async.setBufferSize(ASYNC_BUFFER_SIZE);
+        async.setLocationInfo(false);
+        return async;
+    }
+
+    /**
+     * @return the object the root appenders are attached to, which is either the asynchronous appender or the root
+     * logger itself
+     */
+    private static AppenderAttachable getRootAppenders() {
+        if (ROOT_ASYNC_APPENDER != null) {
+            return ROOT_ASYNC_APPENDER;
+        }
+        return Logger.getRootLogger();
+    }
+
     private static void initLog4J() throws IOException {
         final String file = System.getProperty("log4j.configuration");
         if (file == null) {
@@ -558,7 +625,10 @@ public final class NodeLogger {
      * @param o The object to print.
      */
     public void warn(final Object o) {
-        getLoggerInternal().warn(getLogObject(o));
+        final Logger logger = getLoggerInternal();
+        if (logger.isEnabledFor(Level.WARN)) {
+            logger.warn(getLogObject(o));
+        }
     }
 
     /**
@@ -567,7 +637,10 @@ public final class NodeLogger {
      * @param o The object to print.
      */
     public void debug(final Object o) {
-        getLoggerInternal().debug(getLogObject(o));
+        final Logger logger = getLoggerInternal();
+        if (logger.isEnabledFor(Level.DEBUG)) {
+            logger.debug(getLogObject(o));
+        }
     }
 
 
@@ -603,6 +676,11 @@ public final class NodeLogger {
             if (LOG_WF_DIR) {
                 LogLog.debug("Workflow directory logging enabled due to pattern layout");
             }
+        } else if (layout instanceof NodeLoggerJSONLayout) {
+            //the structured layout always contains the node and workflow fields
+            LOG_NODE_ID = true;
+            LOG_WF_DIR = true;
+            LogLog.debug("Node id and workflow directory logging enabled due to JSON layout");
         }
     }
 
@@ -645,7 +723,8 @@ public final class NodeLogger {
      * Use this method whenever you want to log a message. It ensures that the right logger is used and that all
      * required appenders are added to it e.g. workflow directory appender.
      * @return the correct logger to use and ensures that any workflow relative log file appenders are registered
-     * properly
+     * properly; callers use it also for the level check (as opposed to m_logger) so that the appenders are
+     * registered on the first log call, independent of whether the message is logged
      */
     private Logger getLoggerInternal() {
         if (LOG_IN_WF_DIR) {
@@ -694,8 +773,19 @@ public final class NodeLogger {
                     final FileAppender fileAppender = new LogfileAppender(workflowDir);
                     fileAppender.setLayout(WF_DIR_LOG_FILE_LAYOUT);
                     fileAppender.setName(workflowDirPath);
+                    //we have to call this function to activate the writer!!!
+                    fileAppender.activateOptions();
+                    if (ROOT_ASYNC_APPENDER != null) {
+                        //write the workflow log file in the background as well, the wrapper closes the file appender
+                        final AsyncAppender async = createAsyncAppender(workflowDirPath);
+                        async.addAppender(fileAppender);
+                        wfAppender = async;
+                    } else {
+                        wfAppender = fileAppender;
+                    }
                     final Filter mainFilter = LOG_FILE_APPENDER.getFilter();
-                    fileAppender.addFilter(new Filter() {
+                    //the filter is evaluated in the logging thread so that only relevant events are buffered
+                    wfAppender.addFilter(new Filter() {
                         @Override
                         public int decide(final LoggingEvent event) {
                             final Object msg = event.getMessage();
@@ -714,10 +804,8 @@ public final class NodeLogger {
                             return Filter.DENY;
                         }
                     });
-                    //we have to call this function to activate the writer!!!
-                    fileAppender.activateOptions();
-                    logger.addAppender(fileAppender);
-                    WF_APPENDER.put(workflowDirPath, fileAppender);
+                    logger.addAppender(wfAppender);
+                    WF_APPENDER.put(workflowDirPath, wfAppender);
                     if (m_listener == null) {
                         m_listener = new MyWorkflowListener();
                         WorkflowManager.ROOT.addListener(m_listener);
@@ -759,7 +847,10 @@ public final class NodeLogger {
      * @param o The object to print.
      */
     public void info(final Object o) {
-        getLoggerInternal().info(getLogObject(o));
+        final Logger logger = getLoggerInternal();
+        if (logger.isEnabledFor(Level.INFO)) {
+            logger.info(getLogObject(o));
+        }
     }
 
     /**
@@ -768,7 +859,10 @@ public final class NodeLogger {
      * @param o The object to print.
      */
     public void error(final Object o) {
-        getLoggerInternal().error(getLogObject(o));
+        final Logger logger = getLoggerInternal();
+        if (logger.isEnabledFor(Level.ERROR)) {
+            logger.error(getLogObject(o));
+        }
     }
 
     /**
@@ -777,7 +871,10 @@ public final class NodeLogger {
      * @param o The object to print.
      */
     public void fatal(final Object o) {
-        getLoggerInternal().fatal(getLogObject(o));
+        final Logger logger = getLoggerInternal();
+        if (logger.isEnabledFor(Level.FATAL)) {
+            logger.fatal(getLogObject(o));
+        }
     }
 
     /**
@@ -800,7 +897,10 @@ public final class NodeLogger {
      * @param t The exception to log, including its stack trace.
      */
     public void debug(final Object o, final Throwable t) {
-        getLoggerInternal().debug(getLogObject(o), t);
+        final Logger logger = getLoggerInternal();
+        if (logger.isDebugEnabled()) {
+            logger.debug(getLogObject(o), t);
+        }
     }
 
     /**
@@ -990,6 +1090,58 @@ public final class NodeLogger {
         }
     }
 
+    /**
+     * Write warning message, created by the given supplier, into this logger. The supplier is only called if the message
+     * is actually logged, which avoids building expensive messages in frequently called code.
+     *
+     * @param messageSupplier supplies the message to print, may be <code>null</code>
+     * @since 3.5
+     */
+    public void warn(final Supplier<String> messageSupplier) {
+        if (getLoggerInternal().isEnabledFor(Level.WARN)) {
+            this.warn((Object)(messageSupplier == null ? null : messageSupplier.get()));
+        }
+    }
+
+    /**
+     * Write debug message, created by the given supplier, into this logger. The supplier is only called if the message
+     * is actually logged, which avoids building expensive messages in frequently called code.
+     *
+     * @param messageSupplier supplies the message to print, may be <code>null</code>
+     * @since 3.5
+     */
+    public void debug(final Supplier<String> messageSupplier) {
+        if (getLoggerInternal().isEnabledFor(Level.DEBUG)) {
+            this.debug((Object)(messageSupplier == null ? null : messageSupplier.get()));
+        }
+    }
+
+    /**
+     * Write info message, created by the given supplier, into this logger. The supplier is only called if the message
+     * is actually logged, which avoids building expensive messages in frequently called code.
+     *
+     * @param messageSupplier supplies the message to print, may be <code>null</code>
+     * @since 3.5
+     */
+    public void info(final Supplier<String> messageSupplier) {
+        if (getLoggerInternal().isEnabledFor(Level.INFO)) {
+            this.info((Object)(messageSupplier == null ? null : messageSupplier.get()));
+        }
+    }
+
+    /**
+     * Write error message, created by the given supplier, into this logger. The supplier is only called if the message
+     * is actually logged, which avoids building expensive messages in frequently called code.
+     *
+     * @param messageSupplier supplies the message to print, may be <code>null</code>
+     * @since 3.5
+     */
+    public void error(final Supplier<String> messageSupplier) {
+        if (getLoggerInternal().isEnabledFor(Level.ERROR)) {
+            this.error((Object)(messageSupplier == null ? null : messageSupplier.get()));
+        }
+    }
+
     /**
      * Adds a new {@link java.io.Writer} with the given level to this logger.
      *
@@ -1012,7 +1164,7 @@ public final class NodeLogger {
      * @since 2.12
      */
     public static void addKNIMEConsoleWriter(final Writer writer, final LEVEL minLevel, final LEVEL maxLevel) {
-        final Appender a = Logger.getRootLogger().getAppender(KNIME_CONSOLE_APPENDER);
+        final Appender a = getRootAppenders().getAppender(KNIME_CONSOLE_APPENDER);
         final Layout layout;
         if (a != null) {
             layout = a.getLayout();
@@ -1045,13 +1197,13 @@ public final class NodeLogger {
         synchronized (WRITER) {
             if (WRITER.containsKey(writer)) {
                 Appender a = WRITER.get(writer);
-                Logger.getRootLogger().removeAppender(a);
+                getRootAppenders().removeAppender(a);
                 WRITER.remove(writer);
             }
             // register new appender
             WRITER.put(writer, app);
         }
-        Logger.getRootLogger().addAppender(app);
+        getRootAppenders().addAppender(app);
         checkLayoutFlags(layout);
     }
 
@@ -1065,7 +1217,7 @@ public final class NodeLogger {
             Appender o = WRITER.get(writer);
             if (o != null) {
                 if (o != LOG_FILE_APPENDER) {
-                    Logger.getRootLogger().removeAppender(o);
+                    getRootAppenders().removeAppender(o);
                     WRITER.remove(writer);
                 }
             } else {
@@ -1217,8 +1369,7 @@ public final class NodeLogger {
      */
     public static void setAppenderLevelRange(final String appenderName, final LEVEL min, final LEVEL max)
             throws NoSuchElementException {
-        Logger root = Logger.getRootLogger();
-        Appender appender = root.getAppender(appenderName);
+        Appender appender = getRootAppenders().getAppender(appenderName);
         if (appender == null) {
             throw new NoSuchElementException("Appender '" + appenderName + "' does not exist");
         }
@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.node;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonWriter;
+
+import org.apache.log4j.Layout;
+import org.apache.log4j.spi.LoggingEvent;
+import org.knime.core.node.NodeLogger.KNIMELogMessage;
+import org.knime.core.node.workflow.NodeID;
+
+/**
+ * {@link Layout} that writes each log event as a single line JSON object, which makes the log file easy to process
+ * by log analysis tools. Besides the time, level, logger, thread and message the object contains the id and name of
+ * the node and the workflow directory the event belongs to, if available. Fields without value are omitted.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ * @since 3.5
+ */
+public class NodeLoggerJSONLayout extends Layout {
+
+    private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+
+    /**{@inheritDoc}*/
+    @Override
+    public String format(final LoggingEvent event) {
+        final JsonObjectBuilder json = Json.createObjectBuilder();
+        // SimpleDateFormat is not thread-safe and layouts are shared between appenders
+        json.add("time", new SimpleDateFormat(DATE_FORMAT).format(new Date(event.getTimeStamp())));
+        json.add("level", event.getLevel().toString());
+        json.add("logger", event.getLoggerName());
+        addIfNotNull(json, "thread", event.getThreadName());
+        final Object msg = event.getMessage();
+        if (msg instanceof KNIMELogMessage) {
+            final KNIMELogMessage kmsg = (KNIMELogMessage)msg;
+            final NodeID nodeID = kmsg.getNodeID();
+            if (nodeID != null) {
+                json.add("nodeId", nodeID.toString());
+            }
+            addIfNotNull(json, "nodeName", kmsg.getNodeName());
+            final File workflowDir = kmsg.getWorkflowDir();
+            if (workflowDir != null) {
+                json.add("workflow", workflowDir.getPath());
+            }
+        }
+        addIfNotNull(json, "message", event.getRenderedMessage());
+        final String[] throwable = event.getThrowableStrRep();
+        if (throwable != null) {
+            json.add("throwable", String.join(LINE_SEP, throwable));
+        }
+        final StringWriter out = new StringWriter();
+        try (JsonWriter writer = Json.createWriter(out)) {
+            writer.writeObject(json.build());
+        }
+        out.write(LINE_SEP);
+        return out.toString();
+    }
+
+    private static void addIfNotNull(final JsonObjectBuilder json, final String name, final String value) {
+        if (value != null) {
+            json.add(name, value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return <code>false</code> since the throwable is part of the JSON object
+     */
+    @Override
+    public boolean ignoresThrowable() {
+        return false;
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    public void activateOptions() {
+        // no options
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.node;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.output.NullOutputStream;
+import org.knime.core.node.interactive.InteractiveNode;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectHolder;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.wizard.WizardNode;
+import org.knime.core.node.workflow.ExecutionEnvironment;
+import org.knime.core.node.workflow.FlowLoopContext;
+import org.knime.core.node.workflow.FlowObjectStack;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopStartNode;
+import org.knime.core.node.workflow.ScopeEndNode;
+import org.knime.core.node.workflow.ScopeStartNode;
+
+/**
+ * Keeps the result of the last execution of a {@link Node} across a reset. If the node is executed again with the
+ * same factory, model settings, flow variables and input tables the kept output tables are used instead of calling
+ * the node model. Only enabled if the system property {@link KNIMEConstants#PROPERTY_NODE_RESULT_CACHE} is set.
+ *
+ * <p>Input tables are compared by their {@linkplain BufferedDataTable#getFingerprint() fingerprint} (and spec), so
+ * that the result is also reused if the predecessor was re-executed and produced the same data. Results that
+ * reference tables of other nodes (e.g. input tables passed through) and input tables without fingerprint are
+ * compared by table identity instead.
+ *
+ * <p>Only nodes that declare to be {@linkplain DeterministicNodeModel deterministic} and whose inputs and outputs
+ * are all data tables qualify; nodes that are part of a loop, that keep internal tables or have views are never
+ * cached. The tables of the kept result are owned by the node and are
+ * disposed when the cache entry is replaced or the node is cleaned up.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ */
+final class NodeResultCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeResultCache.class);
+
+    /** Whether node results are cached at all, see {@link KNIMEConstants#PROPERTY_NODE_RESULT_CACHE}. */
+    static final boolean ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_NODE_RESULT_CACHE);
+
+    private final Key m_key;
+
+    /** Whether the output tables are independent of the input tables (and can be reused for different input
+     * tables with same content). */
+    private final boolean m_isSelfContained;
+
+    private final PortObject[] m_outData;
+
+    private final List<FlowVariable> m_outFlowVariables;
+
+    private final String m_warningMessage;
+
+    private NodeResultCache(final Key key, final boolean isSelfContained, final PortObject[] outData,
+        final List<FlowVariable> outFlowVariables, final String warningMessage) {
+        m_key = key;
+        m_isSelfContained = isSelfContained;
+        m_outData = outData;
+        m_outFlowVariables = outFlowVariables;
+        m_warningMessage = warningMessage;
+    }
+
+    /** @return the output objects of the cached execution, including the flow variable port. */
+    PortObject[] getOutData() {
+        return m_outData.clone();
+    }
+
+    /** @return the flow variables pushed by the node model during the cached execution, in push order. */
+    List<FlowVariable> getOutFlowVariables() {
+        List<FlowVariable> result = new ArrayList<FlowVariable>(m_outFlowVariables.size());
+        for (FlowVariable v : m_outFlowVariables) {
+            result.add(FlowObjectStack.cloneUnsetOwner(v));
+        }
+        return result;
+    }
+
+    /** @return the warning message set by the node model during the cached execution (or null). */
+    String getWarningMessage() {
+        return m_warningMessage;
+    }
+
+    /**
+     * @param key the key of the current execution, possibly null
+     * @return whether this entry holds the result for the given key
+     */
+    boolean matches(final Key key) {
+        return key != null && m_key.m_hash.equals(key.m_hash)
+            && (m_isSelfContained || Arrays.equals(m_key.m_inputTableIds, key.m_inputTableIds));
+    }
+
+    /**
+     * Adds the tables of the cached result (and the tables they reference) that are owned by the given node to the
+     * argument set.
+     *
+     * @param owner the node owning the cache
+     * @param result the set to add to
+     */
+    void collectTableAndReferencesOwnedBy(final Node owner, final Set<BufferedDataTable> result) {
+        for (PortObject o : m_outData) {
+            if (o instanceof BufferedDataTable) {
+                ((BufferedDataTable)o).collectTableAndReferencesOwnedBy(owner, result);
+            }
+        }
+    }
+
+    /**
+     * Disposes the tables of the cached result unless they are part of the argument array (they are then used as
+     * output of the node).
+     *
+     * @param owner the node owning the cache
+     * @param keep tables that must not be disposed (the current output of the node), possibly null
+     */
+    void dispose(final Node owner, final PortObject[] keep) {
+        Set<BufferedDataTable> disposableTables = new LinkedHashSet<BufferedDataTable>();
+        collectTableAndReferencesOwnedBy(owner, disposableTables);
+        if (keep != null) {
+            Set<BufferedDataTable> keepTables = new LinkedHashSet<BufferedDataTable>();
+            for (PortObject o : keep) {
+                if (o instanceof BufferedDataTable) {
+                    ((BufferedDataTable)o).collectTableAndReferencesOwnedBy(owner, keepTables);
+                }
+            }
+            disposableTables.removeAll(keepTables);
+        }
+        for (BufferedDataTable t : disposableTables) {
+            t.clearSingle(owner);
+        }
+    }
+
+    /**
+     * Computes the cache key of an execution of the node with the given input. The key is a hash of the node factory,
+     * the model settings, the available flow variables and the content of the input tables.
+     *
+     * @param node the node to be executed
+     * @param inData the input of the node, including the flow variable port
+     * @param exEnv the execution environment, possibly null
+     * @return the key or null if the node or its input does not qualify for caching
+     */
+    static Key createKey(final Node node, final PortObject[] inData, final ExecutionEnvironment exEnv) {
+        if (!ENABLED || (exEnv != null && exEnv.reExecute()) || !isCacheable(node)) {
+            return null;
+        }
+        if (node.getFlowObjectStack().peek(FlowLoopContext.class) != null) {
+            // the body of a loop gets different input in each iteration
+            return null;
+        }
+        boolean hasDataInput = false;
+        for (int i = 1; i < inData.length; i++) {
+            if (inData[i] instanceof BufferedDataTable) {
+                hasDataInput = true;
+            } else if (inData[i] != null) {
+                return null;
+            }
+        }
+        if (!hasDataInput) {
+            // source nodes read external resources, which can change between executions
+            return null;
+        }
+        NodeModel model = node.getNodeModel();
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            LOGGER.coding("No SHA-256 digest available, node results are not cached", e);
+            return null;
+        }
+        update(digest, node.getFactory().getClass().getName());
+        Integer[] inputTableIds = new Integer[inData.length - 1];
+        try {
+            NodeSettings modelSettings = new NodeSettings("model");
+            model.saveSettingsTo(modelSettings);
+            update(digest, modelSettings);
+            for (int i = 1; i < inData.length; i++) {
+                BufferedDataTable table = (BufferedDataTable)inData[i];
+                if (table == null) {
+                    update(digest, "<none>");
+                    continue;
+                }
+                inputTableIds[i - 1] = table.getBufferedTableId();
+                OptionalLong fingerprint = table.getFingerprint();
+                if (fingerprint.isPresent()) {
+                    update(digest, Long.toHexString(fingerprint.getAsLong()) + "/" + table.size());
+                    NodeSettings specSettings = new NodeSettings("spec");
+                    table.getDataTableSpec().save(specSettings);
+                    update(digest, specSettings);
+                } else {
+                    update(digest, "id:" + table.getBufferedTableId());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to hash settings or input of node " + node.getName() + ", result is not cached", e);
+            return null;
+        }
+        Map<String, FlowVariable> variables = new TreeMap<String, FlowVariable>(
+            model.getAvailableFlowVariables(FlowVariable.Type.values()));
+        for (FlowVariable v : variables.values()) {
+            update(digest, v.getName());
+            update(digest, v.getType().name());
+            update(digest, String.valueOf(v.getValueAsString()));
+        }
+        return new Key(new String(Hex.encodeHex(digest.digest())), inputTableIds);
+    }
+
+    /**
+     * Creates a cache entry for the result of the node's last execution.
+     *
+     * @param node the executed node
+     * @param key the key as returned by {@link #createKey(Node, PortObject[], ExecutionEnvironment)}, possibly null
+     * @param outData the output of the node, including the flow variable port
+     * @return the new entry or null if the result does not qualify for caching
+     */
+    static NodeResultCache create(final Node node, final Key key, final PortObject[] outData) {
+        if (key == null) {
+            return null;
+        }
+        boolean hasDataOutput = false;
+        boolean isSelfContained = true;
+        for (int i = 0; i < outData.length; i++) {
+            PortObject o = outData[i];
+            if (i == 0 && o instanceof FlowVariablePortObject) {
+                continue;
+            }
+            if (!(o instanceof BufferedDataTable)
+                || !ExecutionContext.containsSelfContainedCellsOnly(((BufferedDataTable)o).getDataTableSpec())) {
+                // blobs and file stores are bound to the file store handler of a single execution
+                return null;
+            }
+            hasDataOutput = true;
+            isSelfContained = isSelfContained && ((BufferedDataTable)o).isOwnedRecursivelyBy(node);
+        }
+        if (!hasDataOutput) {
+            // sinks (writers) are executed for their side effect
+            return null;
+        }
+        NodeModel model = node.getNodeModel();
+        List<FlowVariable> outFlowVariables = new ArrayList<FlowVariable>();
+        for (FlowVariable v : model.getOutgoingFlowObjectStack().getAvailableFlowVariables(
+            FlowVariable.Type.values()).values()) {
+            outFlowVariables.add(FlowObjectStack.cloneUnsetOwner(v));
+        }
+        // the map lists the top of the stack first
+        Collections.reverse(outFlowVariables);
+        return new NodeResultCache(key, isSelfContained, outData.clone(), outFlowVariables,
+            model.getWarningMessage());
+    }
+
+    /** Whether the kind of node qualifies for caching at all. */
+    private static boolean isCacheable(final Node node) {
+        NodeModel model = node.getNodeModel();
+        // other nodes may produce different results on the same input (random numbers, time, external resources)
+        return model instanceof DeterministicNodeModel
+            && !(model instanceof LoopStartNode || model instanceof LoopEndNode
+            || model instanceof ScopeStartNode || model instanceof ScopeEndNode
+            || model instanceof BufferedDataTableHolder || model instanceof PortObjectHolder
+            || model instanceof InteractiveNode || model instanceof WizardNode)
+            && node.getNrViews() == 0;
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)0);
+    }
+
+    private static void update(final MessageDigest digest, final NodeSettings settings) throws IOException {
+        settings.saveToXML(new DigestOutputStream(new NullOutputStream(), digest));
+    }
+
+    /** Identifies an execution of a node, see {@link NodeResultCache#createKey(Node, PortObject[],
+     * ExecutionEnvironment)}. */
+    static final class Key {
+
+        private final String m_hash;
+
+        /** Ids of the input tables, null elements for unconnected optional inputs. */
+        private final Integer[] m_inputTableIds;
+
+        private Key(final String hash, final Integer[] inputTableIds) {
+            m_hash = hash;
+            m_inputTableIds = inputTableIds;
+        }
+    }
+}
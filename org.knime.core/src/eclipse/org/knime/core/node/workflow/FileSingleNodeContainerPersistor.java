@@ -47,10 +47,8 @@ package org.knime.core.node.workflow;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,6 +56,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.filestore.internal.WorkflowFileStoreHandlerRepository;
@@ -101,6 +101,10 @@ public abstract class FileSingleNodeContainerPersistor implements SingleNodeCont
 
     private NodeSettingsRO m_nodeSettings;
 
+    /** Content of the settings file as read by {@link #prefetchNodeSettings(WorkflowPersistor, ExecutorService)},
+     * consumed (and cleared) in preload. */
+    private Future<NodeSettingsRO> m_prefetchedNodeSettings;
+
     private SingleNodeContainerSettings m_sncSettings;
 
     private boolean m_needsResetAfterLoad;
@@ -204,6 +208,24 @@ public abstract class FileSingleNodeContainerPersistor implements SingleNodeCont
         return m_flowObjects;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void prefetchNodeSettings(final WorkflowPersistor parentPersistor, final ExecutorService executor) {
+        final File settingsFile = getMetaPersistor().getNodeSettingsFile().getFile();
+        if (settingsFile.isFile()) { // otherwise fail in preload
+            m_prefetchedNodeSettings = executor.submit(() -> readNodeSettingsFile(settingsFile, parentPersistor));
+        }
+    }
+
+    /** Reads and parses the settings.xml, called in preload or from the prefetch executor. */
+    private static NodeSettingsRO readNodeSettingsFile(final File settingsFile,
+        final WorkflowPersistor parentPersistor) throws IOException {
+        InputStream in = new FileInputStream(settingsFile);
+        // parentPersitor is null for loaded subnode templates
+        in = parentPersistor == null ? in : parentPersistor.decipherInput(in);
+        return NodeSettings.loadFromXML(new BufferedInputStream(in));
+    }
+
     /** {@inheritDoc} */
     @Override
     public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final NodeSettingsRO parentSettings,
@@ -217,13 +239,16 @@ public abstract class FileSingleNodeContainerPersistor implements SingleNodeCont
         }
         NodeSettingsRO settings;
         try {
-            InputStream in = new FileInputStream(settingsFile);
-            // parentPersitor is null for loaded subnode templates
-            in = parentPersistor == null ? in : parentPersistor.decipherInput(in);
-            settings = NodeSettings.loadFromXML(new BufferedInputStream(in));
+            if (m_prefetchedNodeSettings != null) {
+                settings = FileWorkflowPersistor.getPrefetchedSettings(m_prefetchedNodeSettings);
+            } else {
+                settings = readNodeSettingsFile(settingsFile, parentPersistor);
+            }
         } catch (IOException ioe) {
             setDirtyAfterLoad();
             throw ioe;
+        } finally {
+            m_prefetchedNodeSettings = null;
         }
 
         boolean resetRequired = meta.load(settings, parentSettings, result);
@@ -609,9 +634,7 @@ public abstract class FileSingleNodeContainerPersistor implements SingleNodeCont
             FileSubNodeContainerPersistor.save(subnodeNC, settings, exec, nodeDirRef, saveHelper);
         }
         File nodeSettingsXMLFile = new File(nodeDir, settingsDotXML);
-        OutputStream os = new FileOutputStream(nodeSettingsXMLFile);
-        os = singleNC.getDirectNCParent().cipherOutput(os);
-        settings.saveToXML(os);
+        FileWorkflowPersistor.saveToXMLAtomically(settings, nodeSettingsXMLFile, singleNC.getDirectNCParent());
         if (saveHelper.isAutoSave() && sncAutoSaveDirRef == null) {
             sncAutoSaveDirRef = nodeDirRef;
             singleNC.setAutoSaveDirectory(sncAutoSaveDirRef);
@@ -53,6 +53,11 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -68,6 +73,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.filestore.internal.WorkflowFileStoreHandlerRepository;
@@ -198,6 +211,27 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
         }
     }
 
+    /** A node read from the workflow settings whose persistor is yet to be preloaded. */
+    private static final class NodeToLoad {
+        private final NodeSettingsRO m_nodeSetting;
+        private final int m_nodeIDSuffix;
+        private final NodeType m_nodeType;
+        private final NodeUIInformation m_nodeUIInfo;
+        private final ReferencedFile m_nodeFile;
+        private final FromFileNodeContainerPersistor m_persistor;
+
+        NodeToLoad(final NodeSettingsRO nodeSetting, final int nodeIDSuffix, final NodeType nodeType,
+            final NodeUIInformation nodeUIInfo, final ReferencedFile nodeFile,
+            final FromFileNodeContainerPersistor persistor) {
+            m_nodeSetting = nodeSetting;
+            m_nodeIDSuffix = nodeIDSuffix;
+            m_nodeType = nodeType;
+            m_nodeUIInfo = nodeUIInfo;
+            m_nodeFile = nodeFile;
+            m_persistor = persistor;
+        }
+    }
+
     static final LoadVersion VERSION_LATEST = LoadVersion.V3010;
 
     /** Format used to save author/edit infos. */
@@ -247,6 +281,10 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
 
     private static final NodeSettingsRO EMPTY_SETTINGS = new NodeSettings("<<empty>>");
 
+    /** Reads the settings files of the nodes in a workflow ahead of their (sequential) preload, see
+     * {@link KNIMEConstants#PROPERTY_WORKFLOW_LOAD_THREADS}. Null if disabled. */
+    private static final ExecutorService SETTINGS_PREFETCH_EXECUTOR = createSettingsPrefetchExecutor();
+
     /** The node logger for this class. */
     private final NodeLogger m_logger = NodeLogger.getLogger(getClass());
 
@@ -306,8 +344,63 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
 
     private NodeSettingsRO m_workflowSett;
 
+    /** Content of workflow.knime as read by {@link #prefetchNodeSettings(WorkflowPersistor, ExecutorService)},
+     * consumed (and cleared) in preload. */
+    private Future<NodeSettingsRO> m_prefetchedWorkflowSett;
+
     private final List<ReferencedFile> m_obsoleteNodeDirectories;
 
+    private static ExecutorService createSettingsPrefetchExecutor() {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        try {
+            threadCount = Integer.getInteger(KNIMEConstants.PROPERTY_WORKFLOW_LOAD_THREADS, threadCount);
+        } catch (SecurityException se) {
+            // use default
+        }
+        if (threadCount <= 1) {
+            return null;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger m_threadCounter = new AtomicInteger();
+
+                /** {@inheritDoc} */
+                @Override
+                public Thread newThread(final Runnable r) {
+                    Thread t = new Thread(r, "KNIME-Workflow-Loader-" + m_threadCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /** Waits for a settings file submitted via
+     * {@link FromFileNodeContainerPersistor#prefetchNodeSettings(WorkflowPersistor, ExecutorService)}.
+     * @param future The pending read.
+     * @return The parsed settings.
+     * @throws IOException If reading failed (the original exception) or the thread was interrupted.
+     */
+    static NodeSettingsRO getPrefetchedSettings(final Future<NodeSettingsRO> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading settings file", ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
     /** Parse the version string, return {@link LoadVersion#FUTURE} if it can't be parsed. */
     static LoadVersion parseVersion(final String versionString) {
         boolean isBeforeV2 = versionString.equals("0.9.0");
@@ -588,6 +681,30 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
         m_isDirtyAfterLoad = true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void prefetchNodeSettings(final WorkflowPersistor parentPersistor, final ExecutorService executor) {
+        final ReferencedFile knimeFile = getWorkflowKNIMEFile();
+        if (knimeFile != null && knimeFile.getFile().isFile()) { // otherwise fail in preload
+            final File nodeFile = knimeFile.getFile();
+            m_prefetchedWorkflowSett = executor.submit(() -> readWorkflowSettingsFile(nodeFile, parentPersistor));
+        }
+    }
+
+    /** Reads and parses the workflow.knime (or template.knime), called in preload or from the prefetch executor. */
+    private static NodeSettingsRO readWorkflowSettingsFile(final File nodeFile,
+        final WorkflowPersistor parentPersistor) throws IOException {
+        InputStream in = new FileInputStream(nodeFile);
+        if (parentPersistor != null) { // real metanode, not a project
+            // the workflow.knime (or template.knime) file is not encrypted
+            // with this metanode's cipher but possibly with a parent
+            // cipher
+            in = parentPersistor.decipherInput(in);
+        }
+        in = new BufferedInputStream(in);
+        return NodeSettings.loadFromXML(in);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void preLoadNodeContainer(final WorkflowPersistor parentPersistor, final NodeSettingsRO parentSettings,
@@ -610,18 +727,16 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
         m_mustWarnOnDataLoadError = loadIfMustWarnOnDataLoadError(parentRef.getFile());
         NodeSettingsRO subWFSettings;
         try {
-            InputStream in = new FileInputStream(nodeFile);
-            if (m_parentPersistor != null) { // real metanode, not a project
-                // the workflow.knime (or template.knime) file is not encrypted
-                // with this metanode's cipher but possibly with a parent
-                // cipher
-                in = m_parentPersistor.decipherInput(in);
-            }
-            in = new BufferedInputStream(in);
-            subWFSettings = NodeSettings.loadFromXML(in);
+            if (m_prefetchedWorkflowSett != null) {
+                subWFSettings = getPrefetchedSettings(m_prefetchedWorkflowSett);
+            } else {
+                subWFSettings = readWorkflowSettingsFile(nodeFile, m_parentPersistor);
+            }
         } catch (IOException ioe) {
             setDirtyAfterLoad();
             throw ioe;
+        } finally {
+            m_prefetchedWorkflowSett = null;
         }
         m_workflowSett = subWFSettings;
 
@@ -943,6 +1058,7 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
             new HashMap<Integer, NodeFactoryUnknownException>();
         exec.setMessage("node information");
         final ReferencedFile workflowDirRef = workflowKNIMEFile.getParent();
+        final List<NodeToLoad> nodesToLoad = new ArrayList<NodeToLoad>(nodes.keySet().size());
         /* Load nodes */
         for (String nodeKey : nodes.keySet()) {
             exec.checkCanceled();
@@ -1033,6 +1149,22 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
                 default:
                     throw new IllegalStateException("Unknown node type: " + nodeType);
             }
+            nodesToLoad.add(new NodeToLoad(nodeSetting, nodeIDSuffix, nodeType, nodeUIInfo, nodeFile, persistor));
+        }
+        if (SETTINGS_PREFETCH_EXECUTOR != null && nodesToLoad.size() > 1) {
+            // read the node files concurrently, the preload itself (and all error handling) is done in order below
+            for (NodeToLoad nodeToLoad : nodesToLoad) {
+                nodeToLoad.m_persistor.prefetchNodeSettings(this, SETTINGS_PREFETCH_EXECUTOR);
+            }
+        }
+        for (NodeToLoad nodeToLoad : nodesToLoad) {
+            exec.checkCanceled();
+            final NodeSettingsRO nodeSetting = nodeToLoad.m_nodeSetting;
+            int nodeIDSuffix = nodeToLoad.m_nodeIDSuffix;
+            final NodeType nodeType = nodeToLoad.m_nodeType;
+            final NodeUIInformation nodeUIInfo = nodeToLoad.m_nodeUIInfo;
+            final ReferencedFile nodeFile = nodeToLoad.m_nodeFile;
+            final FromFileNodeContainerPersistor persistor = nodeToLoad.m_persistor;
             try {
                 LoadResult childResult = new LoadResult(nodeType.toString() + " with ID suffix " + nodeIDSuffix);
                 persistor.preLoadNodeContainer(this, nodeSetting, childResult);
@@ -2057,12 +2189,13 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
 
             File workflowFile = new File(workflowDir, fName);
             String toBeDeletedFileName = Role.Template.equals(r) ? TEMPLATE_FILE : WORKFLOW_FILE;
-            new File(workflowDir, toBeDeletedFileName).delete();
-            new File(workflowDir, WorkflowCipher.getCipherFileName(toBeDeletedFileName)).delete();
-
-            OutputStream os = new FileOutputStream(workflowFile);
-            os = wm.getDirectNCParent().cipherOutput(os);
-            preFilledSettings.saveToXML(os);
+            for (String obsoleteFileName : new String[]{toBeDeletedFileName,
+                WorkflowCipher.getCipherFileName(toBeDeletedFileName)}) {
+                if (!obsoleteFileName.equals(fName)) { // replaced below
+                    new File(workflowDir, obsoleteFileName).delete();
+                }
+            }
+            saveToXMLAtomically(preFilledSettings, workflowFile, wm.getDirectNCParent());
             if (saveHelper.isSaveData()) {
                 File saveWithDataFile = new File(workflowDir, SAVED_WITH_DATA_FILE);
                 BufferedWriter o = new BufferedWriter(new FileWriter(saveWithDataFile));
@@ -2096,6 +2229,39 @@ public class FileWorkflowPersistor implements WorkflowPersistor, TemplateNodeCon
         }
     }
 
+    /**
+     * Writes the settings to a temporary file next to the target file, which then replaces the target (atomically if
+     * supported by the file system). A failing or interrupted save hence doesn't leave a truncated settings.xml or
+     * workflow.knime behind. The temporary file is synced to disk before the move, otherwise a crash of the OS
+     * shortly after the save could leave an empty file (the rename may be persisted before the content).
+     *
+     * @param settings To save.
+     * @param file The target file.
+     * @param cipherParent The parent that possibly encrypts the output (locked metanodes).
+     * @throws IOException If writing or replacing the file fails.
+     */
+    static void saveToXMLAtomically(final NodeSettings settings, final File file,
+        final NodeContainerParent cipherParent) throws IOException {
+        File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            try (OutputStream os = cipherParent.cipherOutput(new FileOutputStream(tempFile))) {
+                settings.saveToXML(os);
+            }
+            // sync once the (possibly encrypting) stream is closed and flushed
+            try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
     /** Add version field. */
     static void saveHeader(final NodeSettings settings) {
         settings.addString(WorkflowLoadHelper.CFG_CREATED_BY, KNIMEConstants.VERSION);
@@ -45,6 +45,7 @@
 package org.knime.core.node.workflow;
 
 import org.knime.core.data.filestore.internal.ILoopStartWriteFileStoreHandler;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.util.ConvenienceMethods;
 
 
@@ -59,6 +60,8 @@ public class FlowLoopContext extends FlowScopeContext {
     private int m_iterationIndex = 0;
     private ILoopStartWriteFileStoreHandler m_fileStoreHandler;
     private NodeID m_tailNode;
+    private PortObjectSpec[] m_bodyConfiguredHeadOutSpecs;
+    private boolean m_bodyConfigureSkipped;
 
     public NodeID getHeadNode() {
         return super.getOwner();
@@ -107,9 +110,32 @@ public class FlowLoopContext extends FlowScopeContext {
         clone.m_tailNode = null;
         clone.m_iterationIndex = 0;
         clone.m_fileStoreHandler = null;
+        clone.m_bodyConfiguredHeadOutSpecs = null;
+        clone.m_bodyConfigureSkipped = false;
         return clone;
     }
 
+    /** @return output specs of the loop start node the loop body was last configured with (or null) */
+    PortObjectSpec[] getBodyConfiguredHeadOutSpecs() {
+        return m_bodyConfiguredHeadOutSpecs;
+    }
+
+    /** @param specs output specs of the loop start node the loop body was last configured with */
+    void setBodyConfiguredHeadOutSpecs(final PortObjectSpec[] specs) {
+        m_bodyConfiguredHeadOutSpecs = specs;
+    }
+
+    /** @return true if reset and configure of the loop body was skipped for the current iteration, so that the
+     * output specs of the loop start node need to be checked once it has executed. */
+    boolean isBodyConfigureSkipped() {
+        return m_bodyConfigureSkipped;
+    }
+
+    /** @param skipped see {@link #isBodyConfigureSkipped()} */
+    void setBodyConfigureSkipped(final boolean skipped) {
+        m_bodyConfigureSkipped = skipped;
+    }
+
     /** @param fileStoreHandler the fileStoreHandler to set */
     void setFileStoreHandler(final ILoopStartWriteFileStoreHandler fileStoreHandler) {
         m_fileStoreHandler = fileStoreHandler;
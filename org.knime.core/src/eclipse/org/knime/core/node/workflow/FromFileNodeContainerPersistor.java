@@ -49,6 +49,7 @@ package org.knime.core.node.workflow;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeAndBundleInformation;
@@ -66,6 +67,18 @@ interface FromFileNodeContainerPersistor extends NodeContainerPersistor {
                               final NodeSettingsRO parentSettings, LoadResult loadResult)
                               throws InvalidSettingsException, IOException;
 
+    /** Called by the parent workflow persistor right before
+     * {@link #preLoadNodeContainer(WorkflowPersistor, NodeSettingsRO, LoadResult)} to read and parse the settings
+     * file of this node in the given executor, overlapping the file I/O of all nodes in a workflow. The subsequent
+     * preload call then waits for and consumes that result. The default implementation does nothing, i.e. the
+     * file is read during preload.
+     * @param parentPersistor the persistor that will also be passed to the preload method.
+     * @param executor the executor to read the file in (bounded, not to be used for other tasks).
+     */
+    default void prefetchNodeSettings(final WorkflowPersistor parentPersistor, final ExecutorService executor) {
+        // read during preload
+    }
+
     /** Called on single node persistors if their factory can't be loaded (extension not installed). They will
      * check their up- and downstream nodes and guess their port types from. (Port types are defined in the node
      * code, which is missing here).
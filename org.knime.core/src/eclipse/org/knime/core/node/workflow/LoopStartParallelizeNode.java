@@ -74,4 +74,33 @@ public interface LoopStartParallelizeNode extends LoopStartNode {
      * @param pccm matching @see{ParallelizedChunkContentMaster}
      */
     public void setChunkMaster(final ParallelizedChunkContentMaster pccm);
+
+    /** Whether the loop is to be parallelized in the current execution. Loop start nodes that run iterations in
+     * parallel only on request (a setting) return <code>false</code> otherwise and are then run as ordinary
+     * (sequential) loop.
+     * @return true by default.
+     * @since 3.5
+     */
+    public default boolean isParallelizationEnabled() {
+        return true;
+    }
+
+    /** The number of remote chunks that are executed at the same time, the others are queued and started as soon
+     * as a running chunk finishes.
+     * @return {@link Integer#MAX_VALUE} by default (all chunks are started at once).
+     * @since 3.5
+     */
+    public default int getMaxConcurrentChunks() {
+        return Integer.MAX_VALUE;
+    }
+
+    /** Whether the node runs the remaining iterations itself (one after the other) if the loop can't be
+     * parallelized, e.g. because the loop end node doesn't collect parallel chunks. The chunk master is then not
+     * set. Otherwise the node fails in that case.
+     * @return false by default.
+     * @since 3.5
+     */
+    public default boolean isSequentialFallbackSupported() {
+        return false;
+    }
 }
@@ -56,6 +56,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
@@ -76,6 +77,7 @@ import org.knime.core.node.DataAwareNodeDialogPane;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeAndBundleInformation;
 import org.knime.core.node.NodeConfigureHelper;
@@ -104,6 +106,8 @@ import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResul
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionResult;
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
 import org.knime.core.node.workflow.execresult.NodeExecutionResult;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 import org.w3c.dom.Element;
 
 /**
@@ -118,6 +122,13 @@ public class NativeNodeContainer extends SingleNodeContainer {
     /** my logger. */
     private static final NodeLogger LOGGER = NodeLogger.getLogger(NativeNodeContainer.class);
 
+    /** Number of native nodes currently in {@link #performExecuteNode(PortObject[])}. */
+    private static final Counter EXECUTING_NODES = Metrics.counter("node.executing");
+
+    private static final Counter NODE_EXECUTIONS = Metrics.counter("node.executions");
+
+    private static final Counter FAILED_NODE_EXECUTIONS = Metrics.counter("node.executions.failed");
+
     /** underlying node. */
     private final Node m_node;
 
@@ -131,6 +142,15 @@ public class NativeNodeContainer extends SingleNodeContainer {
      * bug 5207. This field is set when status changes to EXECUTED and set to null when reset. */
     private NodeAndBundleInformation m_nodeAndBundleInformation;
 
+    /** Set by the workflow manager if this node is re-executed in a loop without being configured again (see
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_LOOP_FAST_ITERATION}); the flow object stack then needs to
+     * be refreshed before execution. */
+    private boolean m_refreshFlowObjectStackBeforeExecute;
+
+    /** Set when a reset was queued because a lazily loaded port object could not be read, see
+     * {@link #resetIfDeferredOutputReadFailed()}. Avoids queuing the reset for each access to the output. */
+    private final AtomicBoolean m_isResetAfterFailedReadQueued = new AtomicBoolean();
+
     /**
      * Create new SingleNodeContainer based on existing Node.
      *
@@ -555,13 +575,20 @@ public class NativeNodeContainer extends SingleNodeContainer {
             setNodeMessage(new NodeMessage(NodeMessage.Type.WARNING, errorString));
             success = false;
         }
+        NodeExecutionProfile.Recorder profileRecorder = NodeExecutionProfile.start(inObjects);
         NodeContext.pushContext(this);
+        EXECUTING_NODES.increment();
         try {
             // execute node outside any synchronization!
             success = success && m_node.execute(inObjects, ev, ec);
         } finally {
+            EXECUTING_NODES.add(-1);
             NodeContext.removeLastContext();
         }
+        NODE_EXECUTIONS.increment();
+        if (!success) {
+            FAILED_NODE_EXECUTIONS.increment();
+        }
         if (success) {
             // output tables are made publicly available (for blobs)
             putOutputTablesIntoGlobalRepository(ec);
@@ -570,6 +597,15 @@ public class NativeNodeContainer extends SingleNodeContainer {
             // a solid state again will be done by WorkflowManager (in
             // doAfterExecute().
         }
+        PortObject[] outObjects = new PortObject[m_node.getNrOutPorts()];
+        for (int i = 0; i < outObjects.length; i++) {
+            outObjects[i] = m_node.getOutputObject(i);
+        }
+        long bytesWritten = 0L;
+        for (ContainerTable t : Node.getLocalTableRepositoryFromContext(ec).values()) {
+            bytesWritten += t.getBinFileSize();
+        }
+        getNodeTimer().setLastExecutionProfile(profileRecorder.stop(outObjects, bytesWritten));
         return success ? NodeContainerExecutionStatus.SUCCESS : NodeContainerExecutionStatus.FAILURE;
     }
 
@@ -581,6 +617,7 @@ public class NativeNodeContainer extends SingleNodeContainer {
     void performReset() {
         m_node.reset();
         m_nodeAndBundleInformation = null;
+        m_refreshFlowObjectStackBeforeExecute = false;
         cleanOutPorts(false);
     }
 
@@ -760,6 +797,30 @@ public class NativeNodeContainer extends SingleNodeContainer {
         return LoopStatus.NONE;
     }
 
+    /** @param refresh see {@link #isRefreshFlowObjectStackBeforeExecute()} */
+    void setRefreshFlowObjectStackBeforeExecute(final boolean refresh) {
+        m_refreshFlowObjectStackBeforeExecute = refresh;
+    }
+
+    /** @return true if the node is re-executed in a loop iteration without being configured, so that the incoming
+     * flow variables need to be re-read from the predecessors. */
+    boolean isRefreshFlowObjectStackBeforeExecute() {
+        return m_refreshFlowObjectStackBeforeExecute;
+    }
+
+    /** Resets the node model between two loop iterations whose configure is skipped (see
+     * {@link #setRefreshFlowObjectStackBeforeExecute(boolean)}), output ports and state are left untouched. */
+    void resetModelForLoopRestart() {
+        synchronized (m_nodeMutex) {
+            NodeContext.pushContext(this);
+            try {
+                m_node.reset();
+            } finally {
+                NodeContext.removeLastContext();
+            }
+        }
+    }
+
     /**
      * @see NodeModel#resetAndConfigureLoopBody()
      */
@@ -1010,6 +1071,7 @@ public class NativeNodeContainer extends SingleNodeContainer {
                 } catch (Exception e) {
                     LOGGER.error("Unable to read output data", e);
                 }
+                resetIfDeferredOutputReadFailed();
                 IFileStoreHandler fileStoreHandler = m_node.getFileStoreHandler();
                 if (fileStoreHandler instanceof IWriteFileStoreHandler) {
                     try {
@@ -1146,7 +1208,41 @@ public class NativeNodeContainer extends SingleNodeContainer {
      */
     @Override
     public PortObject getOutputObject(final int portIndex) {
-        return getNode().getOutputObject(portIndex);
+        PortObject portObject = getNode().getOutputObject(portIndex);
+        if (portObject == null) {
+            resetIfDeferredOutputReadFailed();
+        }
+        return portObject;
+    }
+
+    /** Counterpart of the reset that is done if the output data of an executed node can't be restored during load
+     * (with {@link org.knime.core.node.KNIMEConstants#PROPERTY_LAZY_PORT_OBJECT_LOADING} the data of some ports is
+     * only read on first access, after the load has finished). If that read failed (the node has set an error
+     * message already), the node and its successors are reset and configured. This is done asynchronously as the
+     * output is accessed in arbitrary threads, e.g. while a successor is executed or a port view is opened. */
+    private void resetIfDeferredOutputReadFailed() {
+        if (!getNode().isDeferredOutputReadFailed() || !m_isResetAfterFailedReadQueued.compareAndSet(false, true)) {
+            return;
+        }
+        KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    WorkflowManager parent = getParent();
+                    if (getNode().isDeferredOutputReadFailed() && parent.canResetNode(getID())) {
+                        parent.resetAndConfigureNode(getID());
+                    } else if (getNode().isDeferredOutputReadFailed()) {
+                        LOGGER.warn("Unable to reset node " + getNameWithID() + " after its output data could not "
+                            + "be read; successors are still in progress");
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Unable to reset node " + getNameWithID() + " after its output data could not "
+                        + "be read: " + e.getMessage(), e);
+                } finally {
+                    m_isResetAfterFailedReadQueued.set(false);
+                }
+            }
+        });
     }
 
     /**
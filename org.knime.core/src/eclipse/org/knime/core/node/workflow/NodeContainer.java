@@ -131,7 +131,8 @@ public abstract class NodeContainer implements NodeProgressListener, NodeContain
         }
     };
 
-    private InternalNodeContainerState m_state;
+    /** Current state, volatile as it's also read by queries not holding the workflow lock. */
+    private volatile InternalNodeContainerState m_state;
 
     private final NodeID m_id;
 
@@ -148,7 +149,8 @@ public abstract class NodeContainer implements NodeProgressListener, NodeContain
     /** execution environment. */
     private ExecutionEnvironment m_executionEnv = null;
 
-    private NodeMessage m_nodeMessage = NodeMessage.NONE;
+    /** Current message, volatile as it's also read by queries not holding the workflow lock. */
+    private volatile NodeMessage m_nodeMessage = NodeMessage.NONE;
 
     /**
      * Object that represents locks set on the node, i.e.
@@ -1350,6 +1352,16 @@ public abstract class NodeContainer implements NodeProgressListener, NodeContain
         return m_nodeTimer;
     }
 
+    /**
+     * @return the resource usage (time, memory, rows, disk) of the last execution of this node or null if it was not
+     *         executed in this session. Only recorded for native nodes.
+     * @see NodeExecutionProfile
+     * @since 3.5
+     */
+    public NodeExecutionProfile getLastExecutionProfile() {
+        return m_nodeTimer.getLastExecutionProfile();
+    }
+
     /** Is this node a to be locally executed workflow. In contrast to remotely
      * executed workflows, the nodes in the encapsulated workflow will be
      * executed independently (each represented by an own job), whereas remote
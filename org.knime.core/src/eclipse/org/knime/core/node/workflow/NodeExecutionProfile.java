@@ -0,0 +1,347 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.node.workflow;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+import javax.management.JMException;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.port.PortObject;
+
+/**
+ * Resource usage of a single node execution: wall and CPU time, allocated memory, rows per port and bytes written to
+ * disk. Recorded for native nodes and available via {@link NodeContainer#getLastExecutionProfile()}; the profiles of
+ * all nodes in a workflow can be exported as JSON or CSV (see {@link #writeJSON(WorkflowManager, Writer)} and
+ * {@link #writeCSV(WorkflowManager, Writer)}).
+ *
+ * <p>CPU time and allocated bytes are measured on the thread executing the node. Work a node delegates to other
+ * threads (e.g. the asynchronous table writer or a thread pool) is not included; the time the executing thread waits
+ * for it is part of the {@linkplain #getBlockedTime() blocked time}.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ * @since 3.5
+ */
+public final class NodeExecutionProfile {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static final boolean IS_CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isThreadCpuTimeSupported();
+
+    /** Allocated bytes per thread are not part of the {@link ThreadMXBean} interface; they are queried as attribute
+     * and operation of the platform's threading MBean (if provided by the JVM), see
+     * {@link #getAllocatedBytes(long)}. */
+    private static final boolean IS_ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+    private static final String[] CSV_HEADER = new String[]{"Node ID", "Name", "Wall time (ms)", "CPU time (ms)",
+        "Blocked time (ms)", "Allocated bytes", "Rows in", "Rows out", "Bytes written"};
+
+    private final long m_wallTime;
+
+    private final long m_cpuTime;
+
+    private final long m_allocatedBytes;
+
+    private final long[] m_inRows;
+
+    private final long[] m_outRows;
+
+    private final long m_bytesWritten;
+
+    private NodeExecutionProfile(final long wallTime, final long cpuTime, final long allocatedBytes,
+        final long[] inRows, final long[] outRows, final long bytesWritten) {
+        m_wallTime = wallTime;
+        m_cpuTime = cpuTime;
+        m_allocatedBytes = allocatedBytes;
+        m_inRows = inRows;
+        m_outRows = outRows;
+        m_bytesWritten = bytesWritten;
+    }
+
+    /** @return the wall clock time of the execution in milliseconds. */
+    public long getWallTime() {
+        return m_wallTime;
+    }
+
+    /** @return the CPU time of the executing thread in milliseconds or -1 if not supported by the JVM. */
+    public long getCpuTime() {
+        return m_cpuTime;
+    }
+
+    /**
+     * The time the executing thread didn't use the CPU, i.e. was blocked on I/O, locks or other threads.
+     *
+     * @return the wall time minus the CPU time in milliseconds or -1 if the CPU time is not known.
+     */
+    public long getBlockedTime() {
+        return m_cpuTime < 0 ? -1L : Math.max(0L, m_wallTime - m_cpuTime);
+    }
+
+    /** @return the bytes allocated by the executing thread or -1 if not supported by the JVM. */
+    public long getAllocatedBytes() {
+        return m_allocatedBytes;
+    }
+
+    /**
+     * @return the row count of each data input (flow variable port excluded), -1 for ports that don't carry a data
+     *         table or are not connected.
+     */
+    public long[] getInRows() {
+        return m_inRows.clone();
+    }
+
+    /**
+     * @return the row count of each data output (flow variable port excluded), -1 for ports that don't carry a data
+     *         table.
+     */
+    public long[] getOutRows() {
+        return m_outRows.clone();
+    }
+
+    /** @return the size of the table files the node wrote to the temp directory (in bytes). */
+    public long getBytesWritten() {
+        return m_bytesWritten;
+    }
+
+    /**
+     * Starts recording a node execution on the current thread.
+     *
+     * @param inObjects the input of the node, including the flow variable port
+     * @return the recorder to be stopped on the same thread after the execution
+     */
+    static Recorder start(final PortObject[] inObjects) {
+        return new Recorder(inObjects);
+    }
+
+    /** Records a single execution, see {@link NodeExecutionProfile#start(PortObject[])}. */
+    static final class Recorder {
+
+        private final long m_threadId = Thread.currentThread().getId();
+
+        private final long[] m_inRows;
+
+        private final long m_startTime;
+
+        private final long m_startCpuTime;
+
+        private final long m_startAllocatedBytes;
+
+        private Recorder(final PortObject[] inObjects) {
+            m_inRows = getRowCounts(inObjects);
+            m_startAllocatedBytes = getAllocatedBytes(m_threadId);
+            m_startCpuTime = getCpuTime(m_threadId);
+            m_startTime = System.nanoTime();
+        }
+
+        /**
+         * @param outObjects the output of the node, including the flow variable port
+         * @param bytesWritten the size of the tables written by the node
+         * @return the profile of the execution
+         */
+        NodeExecutionProfile stop(final PortObject[] outObjects, final long bytesWritten) {
+            assert Thread.currentThread().getId() == m_threadId : "Recording stopped on another thread";
+            long wallTime = System.nanoTime() - m_startTime;
+            long cpuTime = getCpuTime(m_threadId);
+            long allocatedBytes = getAllocatedBytes(m_threadId);
+            return new NodeExecutionProfile(wallTime / 1000000L,
+                cpuTime < 0 || m_startCpuTime < 0 ? -1L : (cpuTime - m_startCpuTime) / 1000000L,
+                allocatedBytes < 0 || m_startAllocatedBytes < 0 ? -1L : allocatedBytes - m_startAllocatedBytes,
+                m_inRows, getRowCounts(outObjects), bytesWritten);
+        }
+    }
+
+    private static long[] getRowCounts(final PortObject[] objects) {
+        long[] result = new long[Math.max(0, objects.length - 1)];
+        for (int i = 1; i < objects.length; i++) {
+            result[i - 1] = objects[i] instanceof BufferedDataTable ? ((BufferedDataTable)objects[i]).size() : -1L;
+        }
+        return result;
+    }
+
+    private static long getCpuTime(final long threadId) {
+        if (IS_CPU_TIME_SUPPORTED && THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            return THREAD_MX_BEAN.getThreadCpuTime(threadId);
+        }
+        return -1L;
+    }
+
+    private static boolean isAllocatedBytesSupported() {
+        try {
+            return Boolean.TRUE.equals(ManagementFactory.getPlatformMBeanServer().getAttribute(
+                THREAD_MX_BEAN.getObjectName(), "ThreadAllocatedMemorySupported"));
+        } catch (JMException e) {
+            // attribute not provided by this JVM
+            return false;
+        }
+    }
+
+    private static long getAllocatedBytes(final long threadId) {
+        if (!IS_ALLOCATED_BYTES_SUPPORTED) {
+            return -1L;
+        }
+        try {
+            // returns -1 if the measurement is disabled
+            Object allocatedBytes = ManagementFactory.getPlatformMBeanServer().invoke(THREAD_MX_BEAN.getObjectName(),
+                "getThreadAllocatedBytes", new Object[]{threadId}, new String[]{long.class.getName()});
+            return allocatedBytes instanceof Long ? (Long)allocatedBytes : -1L;
+        } catch (JMException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Writes the profiles of all nodes in the workflow (including the content of metanodes and wrapped metanodes)
+     * as JSON array. Nodes that were not executed in this session are skipped.
+     *
+     * @param wfm the workflow to export
+     * @param writer to write to, not closed
+     */
+    public static void writeJSON(final WorkflowManager wfm, final Writer writer) {
+        JsonArrayBuilder nodes = Json.createArrayBuilder();
+        for (NodeContainer nc : collectProfiledNodes(wfm)) {
+            NodeExecutionProfile profile = nc.getLastExecutionProfile();
+            JsonObjectBuilder node = Json.createObjectBuilder();
+            node.add("id", nc.getID().toString());
+            node.add("name", nc.getName());
+            node.add("wallTime", profile.m_wallTime);
+            node.add("cpuTime", profile.m_cpuTime);
+            node.add("blockedTime", profile.getBlockedTime());
+            node.add("allocatedBytes", profile.m_allocatedBytes);
+            node.add("inRows", toJSON(profile.m_inRows));
+            node.add("outRows", toJSON(profile.m_outRows));
+            node.add("bytesWritten", profile.m_bytesWritten);
+            nodes.add(node);
+        }
+        Map<String, Boolean> cfg = Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, Boolean.TRUE);
+        JsonWriter jw = Json.createWriterFactory(cfg).createWriter(writer);
+        jw.writeArray(nodes.build());
+    }
+
+    /**
+     * Writes the profiles of all nodes in the workflow (including the content of metanodes and wrapped metanodes)
+     * as CSV, one line per node. The row counts of multiple ports are separated by semicolon. Nodes that were not
+     * executed in this session are skipped.
+     *
+     * @param wfm the workflow to export
+     * @param writer to write to, not closed
+     * @throws IOException if writing fails
+     */
+    public static void writeCSV(final WorkflowManager wfm, final Writer writer) throws IOException {
+        writeCSVLine(writer, CSV_HEADER);
+        for (NodeContainer nc : collectProfiledNodes(wfm)) {
+            NodeExecutionProfile profile = nc.getLastExecutionProfile();
+            writeCSVLine(writer, new String[]{nc.getID().toString(), nc.getName(),
+                Long.toString(profile.m_wallTime), Long.toString(profile.m_cpuTime),
+                Long.toString(profile.getBlockedTime()), Long.toString(profile.m_allocatedBytes),
+                toCSV(profile.m_inRows), toCSV(profile.m_outRows), Long.toString(profile.m_bytesWritten)});
+        }
+        writer.flush();
+    }
+
+    private static List<NodeContainer> collectProfiledNodes(final WorkflowManager wfm) {
+        List<NodeContainer> result = new ArrayList<NodeContainer>();
+        collectProfiledNodes(wfm.getNodeContainers(), result);
+        return result;
+    }
+
+    private static void collectProfiledNodes(final Collection<NodeContainer> ncs, final List<NodeContainer> result) {
+        for (NodeContainer nc : ncs) {
+            if (nc instanceof WorkflowManager) {
+                collectProfiledNodes(((WorkflowManager)nc).getNodeContainers(), result);
+            } else if (nc instanceof SubNodeContainer) {
+                collectProfiledNodes(((SubNodeContainer)nc).getWorkflowManager().getNodeContainers(), result);
+            } else if (nc.getLastExecutionProfile() != null) {
+                result.add(nc);
+            }
+        }
+    }
+
+    private static JsonArrayBuilder toJSON(final long[] values) {
+        JsonArrayBuilder result = Json.createArrayBuilder();
+        for (long v : values) {
+            result.add(v);
+        }
+        return result;
+    }
+
+    private static String toCSV(final long[] values) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            result.append(i > 0 ? ";" : "").append(values[i]);
+        }
+        return result.toString();
+    }
+
+    private static void writeCSVLine(final Writer writer, final String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String v = values[i];
+            if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0) {
+                writer.write('"' + v.replace("\"", "\"\"") + '"');
+            } else {
+                writer.write(v);
+            }
+        }
+        writer.write('\n');
+    }
+}
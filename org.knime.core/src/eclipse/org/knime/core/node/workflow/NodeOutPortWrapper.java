@@ -65,9 +65,10 @@ public class NodeOutPortWrapper extends NodePortAdaptor implements NodeOutPort {
 
     private final Set<NodeStateChangeListener>m_listener;
 
-    /** if connected, reference the outport this node is connected to.
+    /** if connected, reference the outport this node is connected to (volatile as port specs are queried
+     * without the workflow lock).
      */
-    private NodeOutPort m_underlyingPort;
+    private volatile NodeOutPort m_underlyingPort;
 
     /**
      * Creates a new output port with a fixed type and index (should be unique
@@ -121,6 +121,7 @@ public final class NodeTimer {
     private long m_executionDurationOverall;
     private int m_numberOfExecutionsSinceReset;
     private int m_numberOfExecutionsOverall;
+    private volatile NodeExecutionProfile m_lastExecutionProfile;
 
     /**
      * Container holding stats for the entire instance and all nodes that have been used/timed.
@@ -671,6 +672,19 @@ public final class NodeTimer {
         return m_numberOfExecutionsOverall;
     }
 
+    /**
+     * @return the resource usage of the last execution or null if the node was not executed in this session (or is
+     *         not a native node).
+     * @since 3.5
+     */
+    public NodeExecutionProfile getLastExecutionProfile() {
+        return m_lastExecutionProfile;
+    }
+
+    void setLastExecutionProfile(final NodeExecutionProfile profile) {
+        m_lastExecutionProfile = profile;
+    }
+
     private void initialize() {
         m_startTime = -1;
         m_lastExecutionDuration = -1;
@@ -55,6 +55,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.filestore.internal.WorkflowFileStoreHandlerRepository;
@@ -113,6 +114,14 @@ public class ObsoleteMetaNodeFileWorkflowPersistor extends
                 workflowKNIMEFile, loadHelper, version, false);
     }
 
+    /** Does nothing, the files of pre 2.0 metanodes are all read in
+     * {@link #preLoadNodeContainer(WorkflowPersistor, NodeSettingsRO, LoadResult)}. */
+    @Override
+    public void prefetchNodeSettings(final WorkflowPersistor parentPersistor,
+            final ExecutorService executor) {
+        // no-op
+    }
+
     /** {@inheritDoc} */
     @Override
     public void preLoadNodeContainer(final WorkflowPersistor parentPersistor,
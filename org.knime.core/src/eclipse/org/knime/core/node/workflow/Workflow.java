@@ -47,6 +47,7 @@
  */
 package org.knime.core.node.workflow;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -58,6 +59,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.MetaPortInfo;
@@ -90,23 +93,48 @@ class Workflow {
     private final Map<NodeID, Set<ConnectionContainer>> m_connectionsByDest
                                   = new TreeMap<NodeID, Set<ConnectionContainer>>();
 
+    /** Guards the node and connection maps and the caches derived from them. Structural changes are also done while
+     * holding the {@link WorkflowLock} of the workflow manager; the read lock allows queries to take a consistent look
+     * at the structure without acquiring the workflow lock (see the <code>...Snapshot</code> methods). Like the
+     * workflow lock it is shared with the workflows of contained metanodes, as the graph analysis crosses metanode
+     * borders and changes inside a metanode invalidate the caches of the parent workflow. */
+    private final ReentrantReadWriteLock m_structureLock;
+
     private WorkflowManager m_wfm;
     private NodeID m_id;
 
+    /** Reachability index: maps a node to the set of its successors as determined by
+     * {@link #completeSet(HashSet, NodeID, int)}. Entries are dropped incrementally, i.e. only for the nodes
+     * upstream of a structural change (see {@link #invalidateSuccessorCache(NodeID)}). Filled and cleared only while
+     * holding the read or write lock of {@link #m_structureLock}, respectively. */
+    private final Map<NodeID, Set<NodeID>> m_successorCache = new ConcurrentHashMap<NodeID, Set<NodeID>>();
+
+    /** Topological index: breadth first sorted list of all nodes in this workflow (including the WFM itself if
+     * connected), null if outdated. Volatile as it's read without lock; only assigned once fully built. */
+    private volatile LinkedHashMap<NodeID, Set<Integer>> m_bfsSortedNodesCache = null;
+
     /**
      * Constructor - initialize sets for metanode in/out connections.
      *
      * @param wfm WorkflowManager holding this workflow (note that this may not completely initalized!)
      * @param id of workflow
+     * @param parentWorkflow the workflow containing the metanode, whose structure lock is shared; null for projects
+     *        and workflows of wrapped metanodes
      *
      */
-    Workflow(final WorkflowManager wfm, final NodeID id) {
+    Workflow(final WorkflowManager wfm, final NodeID id, final Workflow parentWorkflow) {
         m_wfm = wfm;
         m_id = id;
+        m_structureLock = parentWorkflow != null ? parentWorkflow.m_structureLock : new ReentrantReadWriteLock();
         // add sets for this (meta-) node's in- and output connections
         m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
         m_connectionsBySource.put(id, new LinkedHashSet<ConnectionContainer>());
-        clearGraphAnnotationCache();
+        m_structureLock.writeLock().lock();
+        try {
+            clearGraphAnnotationCache(null);
+        } finally {
+            m_structureLock.writeLock().unlock();
+        }
     }
 
     /**
@@ -149,13 +177,18 @@ class Workflow {
      * @param id of NC
      * @param nc NodeContainer itself
      */
-    synchronized void putNode(final NodeID id, final NodeContainer nc) {
-        // create Sets of in and outgoing connections
-        m_connectionsBySource.put(id, new LinkedHashSet<ConnectionContainer>());
-        m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
-        // and then add node (avoid inconsistent node - connection setup)
-        m_nodes.put(id, nc);
-        clearGraphAnnotationCache();
+    void putNode(final NodeID id, final NodeContainer nc) {
+        m_structureLock.writeLock().lock();
+        try {
+            // create Sets of in and outgoing connections
+            m_connectionsBySource.put(id, new LinkedHashSet<ConnectionContainer>());
+            m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
+            // and then add node (avoid inconsistent node - connection setup)
+            m_nodes.put(id, nc);
+            clearGraphAnnotationCache(id);
+        } finally {
+            m_structureLock.writeLock().unlock();
+        }
     }
 
     /** Remove given node.
@@ -163,75 +196,165 @@ class Workflow {
      * @param id of NodeContainer to be removed.
      * @return removed NodeContainer
      */
-    synchronized NodeContainer removeNode(final NodeID id) {
-        // remove node
-        NodeContainer node = m_nodes.remove(id);
-        // and then clean up the connection lists  (avoid inconsistent node - connection setup)
-        m_connectionsBySource.remove(id);
-        m_connectionsByDest.remove(id);
-        clearGraphAnnotationCache();
-        // and return removed node container
-        return node;
+    NodeContainer removeNode(final NodeID id) {
+        m_structureLock.writeLock().lock();
+        try {
+            // clear caches while the (usually already removed) connections are still known
+            clearGraphAnnotationCache(id);
+            // remove node
+            NodeContainer node = m_nodes.remove(id);
+            // and then clean up the connection lists  (avoid inconsistent node - connection setup)
+            m_connectionsBySource.remove(id);
+            m_connectionsByDest.remove(id);
+            m_successorCache.remove(id);
+            // and return removed node container
+            return node;
+        } finally {
+            m_structureLock.writeLock().unlock();
+        }
     }
 
     /**
-     * @return collection of all NodeContainers that are part of this workflow.
+     * @return unmodifiable copy of all NodeContainers that are part of this workflow (sorted by ID), taken under
+     *   the structure lock so that it can be iterated without holding the workflow lock.
      */
-    synchronized Collection<NodeContainer> getNodeValues() {
-        Collection<NodeContainer> cnc = m_nodes.values();
-        return Collections.unmodifiableCollection(cnc);
+    Collection<NodeContainer> getNodeValues() {
+        m_structureLock.readLock().lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<NodeContainer>(m_nodes.values()));
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /**
-     * @return unmodifiable collection of all NodeIDs that are part of this workflow.
+     * @return unmodifiable copy of all NodeIDs that are part of this workflow (sorted), see {@link #getNodeValues()}.
      */
-    synchronized Set<NodeID> getNodeIDs() {
-        Set<NodeID> sn = m_nodes.keySet();
-        return Collections.unmodifiableSet(sn);
+    Set<NodeID> getNodeIDs() {
+        m_structureLock.readLock().lock();
+        try {
+            return Collections.unmodifiableSet(new LinkedHashSet<NodeID>(m_nodes.keySet()));
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /**
      * @return number of nodes
      */
-    synchronized int getNrNodes() {
-        return m_nodes.size();
+    int getNrNodes() {
+        m_structureLock.readLock().lock();
+        try {
+            return m_nodes.size();
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /**
      * @param id of node.
      * @return true of a node with this key already exists.
      */
-    synchronized boolean containsNodeKey(final NodeID id) {
-        return m_nodes.containsKey(id);
+    boolean containsNodeKey(final NodeID id) {
+        m_structureLock.readLock().lock();
+        try {
+            return m_nodes.containsKey(id);
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /** Return all connections having the same destination.
      *
      * @param id of destination node
-     * @return set as described above
+     * @return set as described above (live view, callers must hold the workflow lock; lock-free queries use
+     *   {@link #getConnectionsByDestSnapshot(NodeID)})
      */
-    synchronized Set<ConnectionContainer> getConnectionsByDest(final NodeID id) {
-        Set<ConnectionContainer> scc = m_connectionsByDest.get(id);
-        return scc == null ? null : Collections.unmodifiableSet(scc);
+    Set<ConnectionContainer> getConnectionsByDest(final NodeID id) {
+        m_structureLock.readLock().lock();
+        try {
+            Set<ConnectionContainer> scc = m_connectionsByDest.get(id);
+            return scc == null ? null : Collections.unmodifiableSet(scc);
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /** Return all connections having the same destination.
      *
      * @param id of destination node
-     * @return set as described above
+     * @return set as described above (live view, callers must hold the workflow lock; lock-free queries use
+     *   {@link #getConnectionsBySourceSnapshot(NodeID)})
      */
-    synchronized Set<ConnectionContainer> getConnectionsBySource(final NodeID id) {
-        Set<ConnectionContainer> scc = m_connectionsBySource.get(id);
-        return scc == null ? null : Collections.unmodifiableSet(scc);
+    Set<ConnectionContainer> getConnectionsBySource(final NodeID id) {
+        m_structureLock.readLock().lock();
+        try {
+            Set<ConnectionContainer> scc = m_connectionsBySource.get(id);
+            return scc == null ? null : Collections.unmodifiableSet(scc);
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /**
      * @return a collection of sets of ConnectionContainers, grouped by
-     *   source node ID.
+     *   source node ID (live view, callers must hold the workflow lock; see {@link #getConnectionsSnapshot()}).
+     */
+    Collection<Set<ConnectionContainer>> getConnectionsBySourceValues() {
+        m_structureLock.readLock().lock();
+        try {
+            Collection<Set<ConnectionContainer>> cscc = m_connectionsBySource.values();
+            return cscc == null ? null : Collections.unmodifiableCollection(cscc);
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
+    }
+
+    /** Copy of all connections having the given destination, see {@link #getNodeValues()}.
+     *
+     * @param id of destination node
+     * @return new set of connections or null if the node is unknown
      */
-    synchronized Collection<Set<ConnectionContainer>> getConnectionsBySourceValues() {
-        Collection<Set<ConnectionContainer>> cscc = m_connectionsBySource.values();
-        return cscc == null ? null : Collections.unmodifiableCollection(cscc);
+    Set<ConnectionContainer> getConnectionsByDestSnapshot(final NodeID id) {
+        m_structureLock.readLock().lock();
+        try {
+            Set<ConnectionContainer> scc = m_connectionsByDest.get(id);
+            return scc == null ? null : new LinkedHashSet<ConnectionContainer>(scc);
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
+    }
+
+    /** Copy of all connections having the given source, see {@link #getNodeValues()}.
+     *
+     * @param id of source node
+     * @return new set of connections or null if the node is unknown
+     */
+    Set<ConnectionContainer> getConnectionsBySourceSnapshot(final NodeID id) {
+        m_structureLock.readLock().lock();
+        try {
+            Set<ConnectionContainer> scc = m_connectionsBySource.get(id);
+            return scc == null ? null : new LinkedHashSet<ConnectionContainer>(scc);
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
+    }
+
+    /** Copy of all connections in this workflow (grouped by source), see {@link #getNodeValues()}.
+     *
+     * @return new set of all connections
+     */
+    Set<ConnectionContainer> getConnectionsSnapshot() {
+        m_structureLock.readLock().lock();
+        try {
+            Set<ConnectionContainer> result = new LinkedHashSet<ConnectionContainer>();
+            for (Set<ConnectionContainer> scc : m_connectionsBySource.values()) {
+                result.addAll(scc);
+            }
+            return result;
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
     }
 
     /** Remove a connection.
@@ -239,15 +362,20 @@ class Workflow {
      * @param cc the connection to be removed.
      * @throws IllegalArgumentException if connection does not exist.
      */
-    synchronized void removeConnection(final ConnectionContainer cc) throws IllegalArgumentException {
-        clearGraphAnnotationCache();
-        // 1) try to delete it from set of outgoing connections
-        if (!m_connectionsBySource.get(cc.getSource()).remove(cc)) {
-            throw new IllegalArgumentException("Connection does not exist!");
-        }
-        // 2) remove connection from set of ingoing connections
-        if (!m_connectionsByDest.get(cc.getDest()).remove(cc)) {
-            throw new IllegalArgumentException("Connection did not exist (it did exist as outcoming conn.)!");
+    void removeConnection(final ConnectionContainer cc) throws IllegalArgumentException {
+        m_structureLock.writeLock().lock();
+        try {
+            clearGraphAnnotationCache(cc.getSource());
+            // 1) try to delete it from set of outgoing connections
+            if (!m_connectionsBySource.get(cc.getSource()).remove(cc)) {
+                throw new IllegalArgumentException("Connection does not exist!");
+            }
+            // 2) remove connection from set of ingoing connections
+            if (!m_connectionsByDest.get(cc.getDest()).remove(cc)) {
+                throw new IllegalArgumentException("Connection did not exist (it did exist as outcoming conn.)!");
+            }
+        } finally {
+            m_structureLock.writeLock().unlock();
         }
     }
 
@@ -256,15 +384,20 @@ class Workflow {
     * @param cc the connection to be added.
     * @throws IllegalArgumentException if connection cannot be added.
     */
-    synchronized void addConnection(final ConnectionContainer cc) throws IllegalArgumentException {
-        clearGraphAnnotationCache();
-        // 1) try to insert it into set of outgoing connections
-        if (!m_connectionsBySource.get(cc.getSource()).add(cc)) {
-            throw new IllegalArgumentException("Connection already exists!");
-        }
-        // 2) insert connection into set of ingoing connections
-        if (!m_connectionsByDest.get(cc.getDest()).add(cc)) {
-            throw new IllegalArgumentException("Connection already exists (oddly enough only as incoming)!");
+    void addConnection(final ConnectionContainer cc) throws IllegalArgumentException {
+        m_structureLock.writeLock().lock();
+        try {
+            clearGraphAnnotationCache(cc.getSource());
+            // 1) try to insert it into set of outgoing connections
+            if (!m_connectionsBySource.get(cc.getSource()).add(cc)) {
+                throw new IllegalArgumentException("Connection already exists!");
+            }
+            // 2) insert connection into set of ingoing connections
+            if (!m_connectionsByDest.get(cc.getDest()).add(cc)) {
+                throw new IllegalArgumentException("Connection already exists (oddly enough only as incoming)!");
+            }
+        } finally {
+            m_structureLock.writeLock().unlock();
         }
     }
 
@@ -281,21 +414,26 @@ class Workflow {
      */
     LinkedHashMap<NodeID, Set<Integer>> getBreadthFirstListOfNodeAndSuccessors(
             final NodeID id, final boolean skipWFM) {
-        // assemble unsorted list of successors
-        HashSet<NodeID> inclusionList = new HashSet<NodeID>();
-        completeSet(inclusionList, id, -1);
-        // and then get all successors which are part of this list in a nice
-        // BFS order
-        LinkedHashMap<NodeID, Set<Integer>> bfsSortedNodes = new LinkedHashMap<NodeID, Set<Integer>>();
-        // put the origin - note that none of it's ports (if any) are of
-        // interest -  into the map
-        bfsSortedNodes.put(id, new HashSet<Integer>());
-        expandListBreadthFirst(bfsSortedNodes, inclusionList);
-        // if wanted (and contained): remove WFM itself
-        if (skipWFM && bfsSortedNodes.keySet().contains(this.getID())) {
-            bfsSortedNodes.remove(this.getID());
+        // the cached successors need to match the structure the list is expanded on
+        m_structureLock.readLock().lock();
+        try {
+            // assemble unsorted list of successors (cached, see m_successorCache)
+            Set<NodeID> inclusionList = getSuccessors(id);
+            // and then get all successors which are part of this list in a nice
+            // BFS order
+            LinkedHashMap<NodeID, Set<Integer>> bfsSortedNodes = new LinkedHashMap<NodeID, Set<Integer>>();
+            // put the origin - note that none of it's ports (if any) are of
+            // interest -  into the map
+            bfsSortedNodes.put(id, new HashSet<Integer>());
+            expandListBreadthFirst(bfsSortedNodes, inclusionList);
+            // if wanted (and contained): remove WFM itself
+            if (skipWFM && bfsSortedNodes.keySet().contains(this.getID())) {
+                bfsSortedNodes.remove(this.getID());
+            }
+            return bfsSortedNodes;
+        } finally {
+            m_structureLock.readLock().unlock();
         }
-        return bfsSortedNodes;
     }
 
     /** Return map of node ids connected to the given outport of the given node
@@ -349,6 +487,15 @@ class Workflow {
     LinkedHashMap<NodeID, Set<Integer>> createBreadthFirstSortedList(
             final Set<NodeID> ids,
             final boolean skipWFM) {
+        m_structureLock.readLock().lock();
+        try {
+            if (ids.size() == m_nodes.size() && m_nodes.keySet().containsAll(ids)) {
+                // the entire workflow - use topological index
+                return getBreadthFirstSortedListOfAllNodes(skipWFM);
+            }
+        } finally {
+            m_structureLock.readLock().unlock();
+        }
         // first create list of nodes without predecessor or only the WFM
         // itself (i.e. connected to outside "world" only.
         Set<NodeID> sources = getSourceNodes(ids);
@@ -368,6 +515,99 @@ class Workflow {
         return bfsSortedNodes;
     }
 
+    /** Return breadth first sorted list of all nodes in this workflow, as
+     * {@link #createBreadthFirstSortedList(Set, boolean)} would for all node IDs. The list is computed once
+     * and reused until the structure of the workflow changes.
+     *
+     * @param skipWFM if true, do not include WFM in the list
+     * @return (new) BF sorted list of node ids
+     */
+    private LinkedHashMap<NodeID, Set<Integer>> getBreadthFirstSortedListOfAllNodes(final boolean skipWFM) {
+        LinkedHashMap<NodeID, Set<Integer>> cache = m_bfsSortedNodesCache;
+        if (cache == null) {
+            // structural changes (which clear the cache) can't interleave with building it
+            m_structureLock.readLock().lock();
+            try {
+                Set<NodeID> ids = m_nodes.keySet();
+                cache = new LinkedHashMap<NodeID, Set<Integer>>();
+                for (NodeID thisNode : getSourceNodes(ids)) {
+                    cache.put(thisNode, new HashSet<Integer>());
+                }
+                expandListBreadthFirst(cache, ids);
+                m_bfsSortedNodesCache = cache;
+            } finally {
+                m_structureLock.readLock().unlock();
+            }
+        }
+        // hand out a copy, callers are free to modify the result
+        LinkedHashMap<NodeID, Set<Integer>> bfsSortedNodes = new LinkedHashMap<NodeID, Set<Integer>>();
+        for (Map.Entry<NodeID, Set<Integer>> e : cache.entrySet()) {
+            if (!(skipWFM && e.getKey().equals(this.getID()))) {
+                bfsSortedNodes.put(e.getKey(), new HashSet<Integer>(e.getValue()));
+            }
+        }
+        return bfsSortedNodes;
+    }
+
+    /** Return (cached) set of successors of the given node including the node itself,
+     * see {@link #completeSet(HashSet, NodeID, int)}.
+     *
+     * @param id of node
+     * @return unmodifiable set of successors
+     */
+    private Set<NodeID> getSuccessors(final NodeID id) {
+        Set<NodeID> successors = m_successorCache.get(id);
+        if (successors == null) {
+            // structural changes (which invalidate the entry) can't interleave with computing and storing it
+            m_structureLock.readLock().lock();
+            try {
+                HashSet<NodeID> nodes = new HashSet<NodeID>();
+                completeSet(nodes, id, -1);
+                successors = Collections.unmodifiableSet(nodes);
+                m_successorCache.put(id, successors);
+            } finally {
+                m_structureLock.readLock().unlock();
+            }
+        }
+        return successors;
+    }
+
+    /** Drop the cached successor sets of all nodes whose successors may have been affected by a change of the
+     * given node (that is, the node itself and everything upstream of it). The search is conservative and
+     * ignores the internal connectivity of metanodes.
+     *
+     * @param id of the changed node
+     */
+    private void invalidateSuccessorCache(final NodeID id) {
+        if (m_successorCache.isEmpty()) {
+            return;
+        }
+        m_successorCache.remove(id);
+        if (id.equals(this.getID())) {
+            // the search never continues past the WFM itself
+            return;
+        }
+        HashSet<NodeID> visited = new HashSet<NodeID>();
+        visited.add(id);
+        ArrayDeque<NodeID> queue = new ArrayDeque<NodeID>();
+        queue.add(id);
+        while (!queue.isEmpty()) {
+            Set<ConnectionContainer> incoming = m_connectionsByDest.get(queue.poll());
+            if (incoming == null) {
+                continue;
+            }
+            for (ConnectionContainer cc : incoming) {
+                NodeID prevID = cc.getSource();
+                if (visited.add(prevID)) {
+                    m_successorCache.remove(prevID);
+                    if (!prevID.equals(this.getID())) {
+                        queue.add(prevID);
+                    }
+                }
+            }
+        }
+    }
+
     /** Complete set of nodes depth-first starting with node id. If the given
      * node is already in the set, nothing happens. Note that this function
      * does not pursue connections leaving this workflow - we will only add
@@ -445,12 +685,11 @@ class Workflow {
         // infinite loops (i.e. starting with incoming connections again
         // but if encountered remember to node&ports at the end of the search:
         Set<Integer> parentOutgoingPorts = new HashSet<Integer>();
+        // keys of the map in insertion order (we constantly add to the map in this loop)
+        ArrayList<NodeID> keys = new ArrayList<NodeID>(bfsSortedNodes.keySet());
         // keep adding nodes until we can't find new ones anymore
-        for (int i = 0; i < bfsSortedNodes.size(); i++) {
-            // Not a very nice way to iterate over the keys of a map...
-            //   (but since we constantly add to it in this loop?!)
-            Object[] ani = bfsSortedNodes.keySet().toArray();
-            NodeID currNode = (NodeID)(ani[i]);
+        for (int i = 0; i < keys.size(); i++) {
+            NodeID currNode = keys.get(i);
             Set<Integer> currInPorts = bfsSortedNodes.get(currNode);
             Set<Integer> currOutPorts = new HashSet<Integer>();
             NodeContainer currNC = getNode(currNode);
@@ -498,6 +737,7 @@ class Workflow {
                                 // if all predecessors are already in the BFS list
                                 // (or not to be considered): add it!
                                 bfsSortedNodes.put(succNode, incomingPorts);
+                                keys.add(succNode);
                             }
                         }
                     }
@@ -576,9 +816,6 @@ class Workflow {
      * @return set of outport indices
      */
     Set<Integer> connectedOutPorts(final int inPortIx) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
         HashSet<Integer> outSet = new HashSet<Integer>();
         for (ConnectionContainer cc : m_connectionsBySource.get(this.getID())) {
             if (cc.getSourcePort() == inPortIx) {
@@ -586,21 +823,19 @@ class Workflow {
                     assert ConnectionContainer.ConnectionType.WFMTHROUGH.equals(cc.getType());
                     outSet.add(cc.getDestPort());
                 } else {
-                    for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-                        if (nga.getID().equals(cc.getDest())) {
-                            if (nga.getOutportIndex() == -1) {
-                                // the simple one, just add all metanode outports this node connects to:
+                    for (NodeGraphAnnotation nga : getCachedGraphAnnotations(cc.getDest())) {
+                        if (nga.getOutportIndex() == -1) {
+                            // the simple one, just add all metanode outports this node connects to:
+                            outSet.addAll(nga.getConnectedOutportIndices());
+                        } else {
+                            // more complex, a metanode. We need to first figure out which ports we
+                            // are connected to before potentially adding the outport lists.
+                            NodeContainer nc = getNode(nga.getID());
+                            assert nc instanceof WorkflowManager;
+                            Set<Integer> outPorts
+                                        = ((WorkflowManager)nc).getWorkflow().connectedOutPorts(cc.getDestPort());
+                            if (outPorts.contains(nga.getOutportIndex())) {
                                 outSet.addAll(nga.getConnectedOutportIndices());
-                            } else {
-                                // more complex, a metanode. We need to first figure out which ports we
-                                // are connected to before potentially adding the outport lists.
-                                NodeContainer nc = getNode(nga.getID());
-                                assert nc instanceof WorkflowManager;
-                                Set<Integer> outPorts
-                                            = ((WorkflowManager)nc).getWorkflow().connectedOutPorts(cc.getDestPort());
-                                if (outPorts.contains(nga.getOutportIndex())) {
-                                    outSet.addAll(nga.getConnectedOutportIndices());
-                                }
                             }
                         }
                     }
@@ -705,6 +940,8 @@ class Workflow {
             final NodeID endID) {
         // prepare the result list
         ArrayList<NodeAndInports> tempOutput = new ArrayList<NodeAndInports>();
+        // and an index into it to avoid searching the list over and over again
+        HashMap<NodeID, NodeAndInports> naiIndex = new HashMap<NodeID, NodeAndInports>();
         // find everything that is connected to an output port of the
         // "startNode" (which can be the WFM itself or a LoopStartNode or
         // any other "start" node) with a port index contained in the set
@@ -721,18 +958,14 @@ class Workflow {
                         assert cc.getType().equals(ConnectionContainer.ConnectionType.WFMOUT);
                     }
                 } else {
-                    int ix = 0;
-                    for (ix = 0; ix < tempOutput.size(); ix++) {
-                        if (tempOutput.get(ix).m_nodeId.equals(cc.getDest())) {
-                            break;
-                        }
-                    }
-                    if (ix >= tempOutput.size()) {
+                    NodeAndInports nai = naiIndex.get(nextID);
+                    if (nai == null) {
                         // ...it's a node not yet in our list: add it
-                        tempOutput.add(new NodeAndInports(cc.getDest(), cc.getDestPort(), /*depth=*/0));
+                        nai = new NodeAndInports(nextID, cc.getDestPort(), /*depth=*/0);
+                        tempOutput.add(nai);
+                        naiIndex.put(nextID, nai);
                     } else {
                         // node is already in list. Add port if not already contained:
-                        NodeAndInports nai = tempOutput.get(ix);
                         if (!nai.getInports().contains(cc.getDestPort())) {
                             nai.addInport(cc.getDestPort());
                         } else {
@@ -774,20 +1007,16 @@ class Workflow {
                     if ((!destID.equals(this.getID())) && (!destID.equals(endID))) {
                         // only if we have not yet reached an outport or the "end" node
                         // try to find node in existing list:
-                        int ix = 0;
-                        for (ix = 0; ix < tempOutput.size(); ix++) {
-                            if (tempOutput.get(ix).m_nodeId.equals(destID)) {
-                                break;
-                            }
-                        }
-                        if (ix >= tempOutput.size()) {
+                        NodeAndInports nai = naiIndex.get(destID);
+                        if (nai == null) {
                             // ...it's a node not yet in our list: add it
-                            tempOutput.add(new NodeAndInports(destID, cc.getDestPort(), currDepth + 1));
+                            nai = new NodeAndInports(destID, cc.getDestPort(), currDepth + 1);
+                            tempOutput.add(nai);
+                            naiIndex.put(destID, nai);
                         } else {
-                            assert ix != currIndex;
+                            assert nai != tempOutput.get(currIndex);
                             // node is already in list, adjust depth to new
                             // maximum and add port if not already contained:
-                            NodeAndInports nai = tempOutput.get(ix);
                             if (!nai.getInports().contains(cc.getDestPort())) {
                                 nai.addInport(cc.getDestPort());
                             } else {
@@ -796,11 +1025,17 @@ class Workflow {
                             if (nai.getDepth() <= currDepth) {
                                 // fix depth if smaller or equal
                                 nai.setDepth(currDepth + 1);
-                                if (ix < currIndex) {
+                                // find node among the already "touched" ones (NodeAndInports#equals
+                                // only compares depth, hence compare identity)
+                                int ix = currIndex - 1;
+                                while (ix >= 0 && tempOutput.get(ix) != nai) {
+                                    ix--;
+                                }
+                                if (ix >= 0) {
                                     // move this node to end of list if it was
                                     // already "touched" so that depth of
                                     // successors will also be adjusted!
-                                    nai = tempOutput.remove(ix);
+                                    tempOutput.remove(ix);
                                     tempOutput.add(nai);
                                     // critical: we removed an element in our
                                     // list which resided before our pointer.
@@ -829,9 +1064,6 @@ class Workflow {
      * @return set of inport indices
      */
     Set<Integer> connectedInPorts(final int outPortIx) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
         HashSet<Integer> inSet = new HashSet<Integer>();
         for (ConnectionContainer cc : m_connectionsByDest.get(this.getID())) {
             if (cc.getDestPort() == outPortIx) {
@@ -839,11 +1071,9 @@ class Workflow {
                     assert ConnectionContainer.ConnectionType.WFMTHROUGH.equals(cc.getType());
                     inSet.add(cc.getSourcePort());
                 } else {
-                    for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-                        if (nga.getID().equals(cc.getSource())) {
-                            if ((nga.getOutportIndex() == -1) || (nga.getOutportIndex() == cc.getSourcePort())) {
-                                inSet.addAll(nga.getConnectedInportIndices());
-                            }
+                    for (NodeGraphAnnotation nga : getCachedGraphAnnotations(cc.getSource())) {
+                        if ((nga.getOutportIndex() == -1) || (nga.getOutportIndex() == cc.getSourcePort())) {
+                            inSet.addAll(nga.getConnectedInportIndices());
                         }
                     }
                 }
@@ -1087,12 +1317,11 @@ class Workflow {
     private void expandListBackwardsBreadthFirst(
             final LinkedHashMap<NodeID, Set<Integer>> sortedNodes,
             final Set<NodeID> inclusionList) {
+        // keys of the map in insertion order (we constantly add to the map in this loop)
+        ArrayList<NodeID> keys = new ArrayList<NodeID>(sortedNodes.keySet());
         // keep adding nodes until we can't find new ones anymore
-        for (int i = 0; i < sortedNodes.size(); i++) {
-            // Not a very nice way to iterate over the keys of a map...
-            //   (but since we constantly add to it in this loop?!)
-            Object[] ani = sortedNodes.keySet().toArray();
-            NodeID currNode = (NodeID)(ani[i]);
+        for (int i = 0; i < keys.size(); i++) {
+            NodeID currNode = keys.get(i);
             // avoid to close loop and start with WFM again:
             if (currNode.equals(this.getID())) {
                 continue;
@@ -1131,6 +1360,7 @@ class Workflow {
                         // if all successors are already in the BFS list (or
                         // not to be considered): add it!
                         sortedNodes.put(prevNode, outgoingPorts);
+                        keys.add(prevNode);
                     }
                 }
             }
@@ -1378,18 +1608,13 @@ class Workflow {
        if (!snc.isModelCompatibleTo(LoopStartNode.class)) {
            throw new IllegalArgumentException("Not a LoopStartNode " + id);
        }
-       if (m_nodeAnnotationCache == null) {
-           this.updateGraphAnnotationCache();
-       }
-       for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-           if (nga.getID().equals(id)) {
-               assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
-               NodeID end = nga.peekEndNodeStack();
-               if (end != null) {
-                   return end;
-               } else {
-                   throw new IllegalLoopException("Could not find matching loop end node!");
-               }
+       for (NodeGraphAnnotation nga : getCachedGraphAnnotations(id)) {
+           assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
+           NodeID end = nga.peekEndNodeStack();
+           if (end != null) {
+               return end;
+           } else {
+               throw new IllegalLoopException("Could not find matching loop end node!");
            }
        }
        assert false : "Failed to find NodeGraphAnnotation for node from this very workflow.";
@@ -1412,26 +1637,21 @@ class Workflow {
        if (!snc.isModelCompatibleTo(LoopEndNode.class)) {
            throw new IllegalArgumentException("Not a LoopEndNode " + id);
        }
-       if (m_nodeAnnotationCache == null) {
-           this.updateGraphAnnotationCache();
-       }
-       for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-           if (nga.getID().equals(id)) {
-               assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
-               NodeID start = nga.peekStartNodeStack();
-               if (start != null) {
-                   NodeContainer ncls = getNode(start);
-                   if (!(ncls instanceof SingleNodeContainer)) {
-                       throw new IllegalLoopException(id + " is not connected to a SNC / LoopStartNode but " + start);
-                   }
-                   SingleNodeContainer sncls = (SingleNodeContainer)ncls;
-                   if (!sncls.isModelCompatibleTo(LoopStartNode.class)) {
-                       throw new IllegalLoopException(id + " is not connected to a LoopStartNode but " + start);
-                   }
-                   return start;
-               } else {
-                   throw new IllegalLoopException("Could not find matching loop start node!");
+       for (NodeGraphAnnotation nga : getCachedGraphAnnotations(id)) {
+           assert nga.getOutportIndex() == -1;  // must be SingleNodeContainer, ports don't matter.
+           NodeID start = nga.peekStartNodeStack();
+           if (start != null) {
+               NodeContainer ncls = getNode(start);
+               if (!(ncls instanceof SingleNodeContainer)) {
+                   throw new IllegalLoopException(id + " is not connected to a SNC / LoopStartNode but " + start);
+               }
+               SingleNodeContainer sncls = (SingleNodeContainer)ncls;
+               if (!sncls.isModelCompatibleTo(LoopStartNode.class)) {
+                   throw new IllegalLoopException(id + " is not connected to a LoopStartNode but " + start);
                }
+               return start;
+           } else {
+               throw new IllegalLoopException("Could not find matching loop start node!");
            }
        }
        assert false : "Failed to find NodeGraphAnnotation for node from this very workflow.";
@@ -1488,28 +1708,29 @@ class Workflow {
      * @since 2.8
      */
     public List<NodeContainer> getNodesInScope(final SingleNodeContainer anchor) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
-        NodeID scope = null;
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            if (nga.getID().equals(anchor.getID())) {
+        // the annotation list must not be cleared while iterating it
+        m_structureLock.readLock().lock();
+        try {
+            NodeID scope = null;
+            for (NodeGraphAnnotation nga : getCachedGraphAnnotations(anchor.getID())) {
                 scope = nga.peekStartNodeStack();
                 break;
             }
-        }
-        ArrayList<NodeContainer> result = new ArrayList<NodeContainer>();
-        if (scope == null) {
-            // no scope - return anchor only
-            result.add(anchor);
-        } else {
-            for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-                if (nga.startNodeStackContains(scope)) {
-                    result.add(m_nodes.get(nga.getID()));
+            ArrayList<NodeContainer> result = new ArrayList<NodeContainer>();
+            if (scope == null) {
+                // no scope - return anchor only
+                result.add(anchor);
+            } else {
+                for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
+                    if (nga.startNodeStackContains(scope)) {
+                        result.add(m_nodes.get(nga.getID()));
+                    }
                 }
             }
+            return result;
+        } finally {
+            m_structureLock.readLock().unlock();
         }
-        return result;
     }
 
     ///////////////////////////
@@ -1522,16 +1743,7 @@ class Workflow {
      * @since 2.8
      */
     public Set<NodeGraphAnnotation> getNodeGraphAnnotations(final NodeID id) {
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
-        HashSet<NodeGraphAnnotation> output = new HashSet<NodeGraphAnnotation>();
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            if (nga.getID().equals(id)) {
-                output.add(nga);
-            }
-        }
-        return output;
+        return new HashSet<NodeGraphAnnotation>(getCachedGraphAnnotations(id));
     }
 
     /**
@@ -1545,26 +1757,75 @@ class Workflow {
         if (!(m_nodes.get(id) instanceof SingleNodeContainer)) {
             throw new IllegalArgumentException(id + " is not a SingleNodeContainer!");
         }
-        if (m_nodeAnnotationCache == null) {
-            updateGraphAnnotationCache();
-        }
-        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
-            if (nga.getID().equals(id)) {
-                return nga;
-            }
+        for (NodeGraphAnnotation nga : getCachedGraphAnnotations(id)) {
+            return nga;
         }
         throw new IllegalArgumentException("No NodeGraphAnnotation found for " + id);
     }
 
-    /** hold graph based annotations for all nodes. */
+    /** hold graph based annotations for all nodes. Built while holding the read lock of {@link #m_structureLock}
+     * and the lock on {@link #m_nodeAnnotationBuildLock}, cleared while holding the write lock. */
     private ArrayList<NodeGraphAnnotation> m_nodeAnnotationCache = null;
 
-    /** clean cache - called internally whenever the structure (connections/nodes) are altered. */
-    private void clearGraphAnnotationCache() {
+    /** Makes concurrent readers build the graph annotations one at a time. Acquired from parent to child workflow
+     * only (the analysis of a workflow looks into its metanodes but never into its parent). */
+    private final Object m_nodeAnnotationBuildLock = new Object();
+
+    /** graph based annotations of {@link #m_nodeAnnotationCache} by node, null if cache is outdated. Volatile as it
+     * is checked without lock; assigned last, once the annotations are complete. */
+    private volatile Map<NodeID, List<NodeGraphAnnotation>> m_nodeAnnotationIndex = null;
+
+    /** Return graph annotations of the given node, triggers graph analysis if cache is outdated.
+     *
+     * @param id of node
+     * @return (unmodifiable) list of graph annotations for this node, empty if node is unknown.
+     */
+    private List<NodeGraphAnnotation> getCachedGraphAnnotations(final NodeID id) {
+        Map<NodeID, List<NodeGraphAnnotation>> index = m_nodeAnnotationIndex;
+        if (index == null) {
+            m_structureLock.readLock().lock();
+            try {
+                synchronized (m_nodeAnnotationBuildLock) {
+                    index = m_nodeAnnotationIndex;
+                    if (index == null) {
+                        updateGraphAnnotationCache();
+                        index = m_nodeAnnotationIndex;
+                    }
+                }
+            } finally {
+                m_structureLock.readLock().unlock();
+            }
+        }
+        List<NodeGraphAnnotation> result = index.get(id);
+        return result == null ? Collections.<NodeGraphAnnotation>emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /** clean caches - called internally whenever the structure (connections/nodes) are altered, in the same
+     * critical section (write lock of {@link #m_structureLock}) as the change.
+     *
+     * @param changedID id of the node whose connectivity was altered, used to only drop the cached
+     *        successors of affected nodes; null to drop all of them.
+     */
+    private void clearGraphAnnotationCache(final NodeID changedID) {
+        assert m_structureLock.isWriteLockedByCurrentThread();
         m_nodeAnnotationCache = null;
+        m_nodeAnnotationIndex = null;
+        m_bfsSortedNodesCache = null;
+        if (changedID == null) {
+            m_successorCache.clear();
+        } else {
+            invalidateSuccessorCache(changedID);
+        }
         // also clear cache in parent - changes here may affect the connectivity outside as well.
         if (m_wfm != null && m_wfm.getParent() != null && m_wfm.getParent().getWorkflow() != null) {
-            m_wfm.getParent().getWorkflow().clearGraphAnnotationCache();
+            Workflow parentWorkflow = m_wfm.getParent().getWorkflow();
+            // shared with metanodes, i.e. reentrant; only projects have their own (and ROOT never looks into them)
+            parentWorkflow.m_structureLock.writeLock().lock();
+            try {
+                parentWorkflow.clearGraphAnnotationCache(getID());
+            } finally {
+                parentWorkflow.m_structureLock.writeLock().unlock();
+            }
         }
     }
 
@@ -1575,7 +1836,7 @@ class Workflow {
      */
     private void updateGraphAnnotationCache() {
         LOGGER.debug("Triggering graph analysis on " + getID());
-        assert m_nodeAnnotationCache == null;
+        assert m_nodeAnnotationIndex == null;
         m_nodeAnnotationCache = new ArrayList<NodeGraphAnnotation>();
         // 1) add start nodes.
         // insert metanode itself with all connected inports as "outport" indices
@@ -1662,6 +1923,16 @@ class Workflow {
         // make sure nodes are inversely sorted by their final depth!
         Collections.sort(m_nodeAnnotationCache);
         Collections.reverse(m_nodeAnnotationCache);
+        // index annotations by node so that lookups don't need to scan the entire list:
+        HashMap<NodeID, List<NodeGraphAnnotation>> index = new HashMap<NodeID, List<NodeGraphAnnotation>>();
+        for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
+            List<NodeGraphAnnotation> ngas = index.get(nga.getID());
+            if (ngas == null) {
+                ngas = new ArrayList<NodeGraphAnnotation>(1);
+                index.put(nga.getID(), ngas);
+            }
+            ngas.add(nga);
+        }
         // now let's do all of this backwards, so that we also detect end nodes depending on
         // the same start node:
         for (NodeGraphAnnotation nga : m_nodeAnnotationCache) {
@@ -1676,20 +1947,19 @@ class Workflow {
                         nga.addConnectedOutport(cc.getDestPort());
                     } else {
                         NodeContainer destNC = getNode(destID);
-                        if (destNC instanceof SingleNodeContainer) {
+                        List<NodeGraphAnnotation> destNGAs = index.get(destID);
+                        if (destNGAs == null) {
+                            // not reached by the forward search
+                        } else if (destNC instanceof SingleNodeContainer) {
                             // just add the NGA of the successor
-                            for (NodeGraphAnnotation nga2 : m_nodeAnnotationCache) {
-                                if (nga2.getID().equals(destID)) {
-                                    connectedNGAs.add(nga2);
-                                }
-                            }
+                            connectedNGAs.addAll(destNGAs);
                         } else {
                             assert destNC instanceof WorkflowManager;
                             // add only NGAs that are available on outports which are connected this inport
                             Set<Integer> connectedOutPorts
                                     = ((WorkflowManager)destNC).getWorkflow().connectedOutPorts(cc.getDestPort());
-                            for (NodeGraphAnnotation nga2 : m_nodeAnnotationCache) {
-                                if (nga2.getID().equals(destID) && connectedOutPorts.contains(nga2.getOutportIndex())) {
+                            for (NodeGraphAnnotation nga2 : destNGAs) {
+                                if (connectedOutPorts.contains(nga2.getOutportIndex())) {
                                     connectedNGAs.add(nga2);
                                 }
                             }
@@ -1701,5 +1971,6 @@ class Workflow {
         }
         // and finally sort node again:
         Collections.reverse(m_nodeAnnotationCache);
+        m_nodeAnnotationIndex = index;
     }
 }
@@ -127,6 +127,19 @@ public final class WorkflowLock implements AutoCloseable {
         return this;
     }
 
+    /** Acquires the lock only if it is not held by another thread at the time of invocation. Used by read-only
+     * queries that prefer to fall back to the most recently published state rather than to wait for the lock.
+     * Must be followed by {@link #unlock()} if successful.
+     * @return true if the lock was acquired (and the hold count incremented).
+     */
+    boolean tryLock() {
+        if (!m_reentrantLock.tryLock()) {
+            return false;
+        }
+        m_lockHierarchyLevelThreadLocal.get().increment();
+        return true;
+    }
+
     /** Checks if this thread has a lock on any child of the workflow manager. If so a coding error is reported. */
     // see bug 6644
     private void hasNoChildLocked() {
@@ -92,6 +92,8 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -123,6 +125,7 @@ import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.IterationIndependentConfigureNodeModel;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeCreationContext;
@@ -245,6 +248,28 @@ public final class WorkflowManager extends NodeContainer
             }
         }, new ThreadPoolExecutor.DiscardPolicy());
 
+    /** Single thread running {@link #saveInBackground(File, WorkflowSaveHelper, ExecutionMonitor)} requests, in
+     * submission order. The thread is a daemon so that a pending (auto-)save doesn't keep the VM alive; a save that
+     * is aborted by the VM shutdown leaves the previously saved files intact as settings files are replaced
+     * atomically (see {@link FileWorkflowPersistor#saveToXMLAtomically(NodeSettings, File, NodeContainerParent)}). */
+    private static final ThreadPoolExecutor BACKGROUND_SAVER = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            /** {@inheritDoc} */
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, "KNIME-Workflow-Saver");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+    /** See {@link KNIMEConstants#PROPERTY_LOOP_FAST_ITERATION}. */
+    private static final boolean FAST_LOOP_ITERATION = Boolean.getBoolean(KNIMEConstants.PROPERTY_LOOP_FAST_ITERATION);
+
+    static {
+        BACKGROUND_SAVER.allowCoreThreadTimeOut(true);
+    }
+
     // Nodes and edges forming this workflow:
     private final Workflow m_workflow;
 
@@ -415,7 +440,7 @@ public final class WorkflowManager extends NodeContainer
         final Optional<NodeAnnotation> nodeAnno) {
         super(parent, id, nodeAnno.orElse(null));
         m_directNCParent = assertParentAssignments(directNCParent, parent);
-        m_workflow = new Workflow(this, id);
+        m_workflow = new Workflow(this, id, isProject || parent == null ? null : parent.getWorkflow());
         m_inPorts = new WorkflowInPort[inTypes.length];
         for (int i = 0; i < inTypes.length; i++) {
             m_inPorts[i] = new WorkflowInPort(i, inTypes[i]);
@@ -496,7 +521,7 @@ public final class WorkflowManager extends NodeContainer
                     + "\" can't be locked although it should have " + "been locked by the load routines");
             }
         }
-        m_workflow = new Workflow(this, id);
+        m_workflow = new Workflow(this, id, isProject || parent == null ? null : parent.getWorkflow());
         m_name = persistor.getName();
         m_editorInfo = persistor.getEditorUIInformation();
         m_templateInformation = persistor.getTemplateInformation();
@@ -1377,19 +1402,18 @@ public final class WorkflowManager extends NodeContainer
      * @return all outgoing connections for the passed node at the specified port
      */
     public Set<ConnectionContainer> getOutgoingConnectionsFor(final NodeID id, final int portIdx) {
-        try (WorkflowLock lock = lock()) {
-            Set<ConnectionContainer> outConnections = m_workflow.getConnectionsBySource(id);
-            Set<ConnectionContainer> outConsForPort = new HashSet<ConnectionContainer>();
-            if (outConnections == null) {
-                return outConsForPort;
-            }
-            for (ConnectionContainer cont : outConnections) {
-                if (cont.getSourcePort() == portIdx) {
-                    outConsForPort.add(cont);
-                }
-            }
+        // read-only query, works on a snapshot and doesn't need the workflow lock
+        Set<ConnectionContainer> outConnections = m_workflow.getConnectionsBySourceSnapshot(id);
+        Set<ConnectionContainer> outConsForPort = new HashSet<ConnectionContainer>();
+        if (outConnections == null) {
             return outConsForPort;
         }
+        for (ConnectionContainer cont : outConnections) {
+            if (cont.getSourcePort() == portIdx) {
+                outConsForPort.add(cont);
+            }
+        }
+        return outConsForPort;
     }
 
     /**
@@ -1400,10 +1424,14 @@ public final class WorkflowManager extends NodeContainer
      * @throws IllegalArgumentException If the node is unknown or null.
      */
     public Set<ConnectionContainer> getOutgoingConnectionsFor(final NodeID id) {
-        try (WorkflowLock lock = lock()) {
-            getNodeContainer(id); // for exception handling
-            return new LinkedHashSet<ConnectionContainer>(m_workflow.getConnectionsBySource(id));
+        // read-only query, works on a snapshot and doesn't need the workflow lock
+        getNodeContainer(id); // for exception handling (also rejects the ID of this workflow)
+        Set<ConnectionContainer> outConnections = m_workflow.getConnectionsBySourceSnapshot(id);
+        if (outConnections == null) {
+            // removed concurrently
+            throw new IllegalArgumentException("No such node ID: " + id);
         }
+        return outConnections;
     }
 
     /**
@@ -1414,13 +1442,12 @@ public final class WorkflowManager extends NodeContainer
      * @return incoming connection at that port of the given node or null if it doesn't exist
      */
     public ConnectionContainer getIncomingConnectionFor(final NodeID id, final int portIdx) {
-        try (WorkflowLock lock = lock()) {
-            Set<ConnectionContainer> inConns = m_workflow.getConnectionsByDest(id);
-            if (inConns != null) {
-                for (ConnectionContainer cont : inConns) {
-                    if (cont.getDestPort() == portIdx) {
-                        return cont;
-                    }
+        // read-only query, works on a snapshot and doesn't need the workflow lock
+        Set<ConnectionContainer> inConns = m_workflow.getConnectionsByDestSnapshot(id);
+        if (inConns != null) {
+            for (ConnectionContainer cont : inConns) {
+                if (cont.getDestPort() == portIdx) {
+                    return cont;
                 }
             }
         }
@@ -1435,10 +1462,14 @@ public final class WorkflowManager extends NodeContainer
      * @throws IllegalArgumentException If the node is unknown or null.
      */
     public Set<ConnectionContainer> getIncomingConnectionsFor(final NodeID id) {
-        try (WorkflowLock lock = lock()) {
-            getNodeContainer(id); // for exception handling
-            return new LinkedHashSet<ConnectionContainer>(m_workflow.getConnectionsByDest(id));
+        // read-only query, works on a snapshot and doesn't need the workflow lock
+        getNodeContainer(id); // for exception handling (also rejects the ID of this workflow)
+        Set<ConnectionContainer> inConnections = m_workflow.getConnectionsByDestSnapshot(id);
+        if (inConnections == null) {
+            // removed concurrently
+            throw new IllegalArgumentException("No such node ID: " + id);
         }
+        return inConnections;
     }
 
     /**
@@ -1448,9 +1479,7 @@ public final class WorkflowManager extends NodeContainer
      * @return the connection with the specified id
      */
     public ConnectionContainer getConnection(final ConnectionID id) {
-        try (WorkflowLock lock = lock()) {
-            return getIncomingConnectionFor(id.getDestinationNode(), id.getDestinationPort());
-        }
+        return getIncomingConnectionFor(id.getDestinationNode(), id.getDestinationPort());
     }
 
     /**
@@ -2970,6 +2999,14 @@ public final class WorkflowManager extends NodeContainer
                 }
                 if (nc instanceof NativeNodeContainer) {
                     NativeNodeContainer nnc = (NativeNodeContainer)nc;
+                    if (nnc.isRefreshFlowObjectStackBeforeExecute()) {
+                        // re-executed in a loop without configure: pick up the variables of the current iteration
+                        nnc.setRefreshFlowObjectStackBeforeExecute(false);
+                        FlowObjectStack[] sos = Arrays.stream(assemblePredecessorOutPorts(nnc.getID()))
+                            .map(p -> p != null ? p.getFlowObjectStack() : null).toArray(FlowObjectStack[]::new);
+                        flowObjectStack = createAndSetFlowObjectStackFor(nnc, sos);
+                        slc = flowObjectStack.peek(FlowLoopContext.class);
+                    }
                     if (nnc.isModelCompatibleTo(LoopEndNode.class)) {
                         // if this is an END to a loop, make sure it knows its head
                         if (slc == null) {
@@ -3035,34 +3072,47 @@ public final class WorkflowManager extends NodeContainer
                 if (success) {
                     Node node = nnc.getNode();
                     // process start of bundle of parallel chunks
-                    if (node.getNodeModel() instanceof LoopStartParallelizeNode && !node.isInactive()) {
+                    if (node.getNodeModel() instanceof LoopStartParallelizeNode && !node.isInactive()
+                        && ((LoopStartParallelizeNode)node.getNodeModel()).isParallelizationEnabled()) {
                         try {
                             parallelizeLoop(nc.getID());
                         } catch (Exception e) {
-                            if (!(e instanceof IllegalLoopException)) {
-                                // handle unexpected exceptions properly (i.e.
-                                // clean up loop) but report them as error!
-                                LOGGER.error("Error in parallelizeLoop: " + e, e);
+                            if (e instanceof IllegalLoopException
+                                && ((LoopStartParallelizeNode)node.getNodeModel()).isSequentialFallbackSupported()) {
+                                // e.g. the loop end doesn't collect parallel chunks - the start node runs the
+                                // remaining iterations itself
+                                LOGGER.debug("parallelizeLoop failed, running iterations sequentially: " + e, e);
+                                nc.setNodeMessage(new NodeMessage(NodeMessage.Type.WARNING,
+                                    "Iterations are run sequentially: " + e.getMessage()));
                             } else {
-                                // can happen during regular use
-                                // (e.g. wrong end node)
-                                LOGGER.debug("parallelizeLoop failed: " + e, e);
+                                if (!(e instanceof IllegalLoopException)) {
+                                    // handle unexpected exceptions properly (i.e.
+                                    // clean up loop) but report them as error!
+                                    LOGGER.error("Error in parallelizeLoop: " + e, e);
+                                } else {
+                                    // can happen during regular use
+                                    // (e.g. wrong end node)
+                                    LOGGER.debug("parallelizeLoop failed: " + e, e);
+                                }
+                                // make sure the start node is reset and
+                                // and appropriate message is set.
+                                latestNodeMessage = new NodeMessage(NodeMessage.Type.ERROR,
+                                    "Parallel Branch Start Failure: " + e.getMessage());
+                                LOGGER.error(latestNodeMessage.getMessage(), e);
+                                success = false;
+                                canConfigureSuccessors = false;
+                                disableNodeForExecution(nc.getID());
+                                resetAndConfigureNode(nc.getID());
                             }
-                            // make sure the start node is reset and
-                            // and appropriate message is set.
-                            latestNodeMessage = new NodeMessage(NodeMessage.Type.ERROR,
-                                "Parallel Branch Start Failure: " + e.getMessage());
-                            LOGGER.error(latestNodeMessage.getMessage(), e);
-                            success = false;
-                            canConfigureSuccessors = false;
-                            disableNodeForExecution(nc.getID());
-                            resetAndConfigureNode(nc.getID());
                         }
                     }
                     // process loop context for "real" nodes:
                     if (nnc.isModelCompatibleTo(LoopStartNode.class)) {
                         // if this was BEGIN, it's not anymore (until we do not restart it explicitly!)
                         node.setLoopEndNode(null);
+                        if (success) {
+                            reconfigureLoopBodyIfHeadSpecsChanged(nnc);
+                        }
                     }
                     if (nnc.isModelCompatibleTo(LoopEndNode.class)) {
                         // make sure entire loop body is executed. Trigger execution of rest if not.
@@ -3226,8 +3276,13 @@ public final class WorkflowManager extends NodeContainer
         FlowLoopContext flc = headOutgoingStack.peek(FlowLoopContext.class);
         assert !flc.isInactiveScope();
         flc.incrementIterationIndex();
+        final boolean resetAndConfigureLoopBody = headNNC.resetAndConfigureLoopBody();
+        final boolean fastIteration = resetAndConfigureLoopBody
+            && canIterateWithoutConfigure((NativeNodeContainer)tailNode, loopBodyNodes, flc);
+        // output specs of the head are checked once it has executed, see reconfigureLoopBodyIfHeadSpecsChanged
+        flc.setBodyConfigureSkipped(fastIteration);
         // (4-7) reset/configure loop body - or not...
-        if (headNNC.resetAndConfigureLoopBody()) {
+        if (resetAndConfigureLoopBody && !fastIteration) {
             // (4a) reset the nodes in the body (only those -
             //     make sure end of loop is NOT reset). Make sure reset()
             //     is performed in the correct order (last nodes first!)
@@ -3300,6 +3355,10 @@ public final class WorkflowManager extends NodeContainer
                 if (nc == null) {
                     throw new IllegalLoopException("Node in loop body not in same workflow as head&tail!");
                 }
+                if (fastIteration) {
+                    // configure is skipped but the models must not carry state into the next iteration
+                    ((NativeNodeContainer)nc).resetModelForLoopRestart();
+                }
                 if (nc instanceof SingleNodeContainer) {
                     ((SingleNodeContainer)nc).cleanOutPorts(true);
                 } else {
@@ -3324,6 +3383,13 @@ public final class WorkflowManager extends NodeContainer
                     ((WorkflowManager)nc).markForExecutionNodesInWFMConnectedToInPorts(nai.getInports(), true);
                 }
             }
+            if (fastIteration) {
+                // the body is configured from a previous iteration - but needs to see the new flow variables
+                for (NodeAndInports nai : loopBodyNodes) {
+                    ((NativeNodeContainer)m_workflow.getNode(nai.getID())).setRefreshFlowObjectStackBeforeExecute(true);
+                }
+                ((NativeNodeContainer)tailNode).setRefreshFlowObjectStackBeforeExecute(true);
+            }
             // and (7b) mark end of loop for re-execution
             //            assert tailNode.getState().equals(State.CONFIGURED);
             //            ((SingleNodeContainer)tailNode).markForExecution(true);
@@ -3337,6 +3403,108 @@ public final class WorkflowManager extends NodeContainer
         queueIfQueuable(headNode);
     }
 
+    /* Whether the next loop iteration can skip reset and configure of the loop body and only re-execute the body
+     * nodes, see KNIMEConstants#PROPERTY_LOOP_FAST_ITERATION. The output specs of the head node are not known before
+     * it has executed again, they are checked in reconfigureLoopBodyIfHeadSpecsChanged.
+     */
+    private boolean canIterateWithoutConfigure(final NativeNodeContainer tailNNC,
+        final List<NodeAndInports> loopBodyNodes, final FlowLoopContext flc) {
+        assert m_workflowLock.isHeldByCurrentThread();
+        if (!FAST_LOOP_ITERATION || flc.getBodyConfiguredHeadOutSpecs() == null) {
+            return false;
+        }
+        if (!isConfiguredIndependentOfFlowVariables(tailNNC)) {
+            return false;
+        }
+        for (NodeAndInports nai : loopBodyNodes) {
+            NodeContainer nc = m_workflow.getNode(nai.getID());
+            // metanodes, wrapped metanodes and nested scopes are reset/configured as usual
+            if (!(nc instanceof NativeNodeContainer)) {
+                return false;
+            }
+            NativeNodeContainer nnc = (NativeNodeContainer)nc;
+            if (!isConfiguredIndependentOfFlowVariables(nnc) || nnc.isModelCompatibleTo(ScopeStartNode.class)
+                || nnc.isModelCompatibleTo(ScopeEndNode.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* Called after a loop start node has executed successfully. Remembers its output specs as the ones the loop body
+     * is configured with (successors are configured at the end of doAfterExecution). If reset and configure of the
+     * body was skipped for this iteration but the specs differ from the ones of the previous iteration, the body is
+     * reset, configured with the new specs and marked for execution again.
+     */
+    private void reconfigureLoopBodyIfHeadSpecsChanged(final NativeNodeContainer headNNC) {
+        assert m_workflowLock.isHeldByCurrentThread();
+        FlowLoopContext flc = headNNC.getOutgoingFlowObjectStack().peek(FlowLoopContext.class);
+        if (flc == null || !headNNC.getID().equals(flc.getHeadNode())) {
+            return;
+        }
+        PortObjectSpec[] headOutSpecs = new PortObjectSpec[headNNC.getNrOutPorts()];
+        for (int i = 0; i < headOutSpecs.length; i++) {
+            headOutSpecs[i] = headNNC.getOutPort(i).getPortObjectSpec();
+        }
+        PortObjectSpec[] bodyConfiguredSpecs = flc.getBodyConfiguredHeadOutSpecs();
+        flc.setBodyConfiguredHeadOutSpecs(headOutSpecs);
+        if (!flc.isBodyConfigureSkipped()) {
+            return;
+        }
+        flc.setBodyConfigureSkipped(false);
+        if (isEqualSpecs(headOutSpecs, bodyConfiguredSpecs)) {
+            return;
+        }
+        ArrayList<NodeAndInports> loopBodyNodes;
+        try {
+            loopBodyNodes = m_workflow.findAllNodesConnectedToLoopBody(headNNC.getID(), flc.getTailNode());
+        } catch (IllegalLoopException ile) {
+            // not expected, the loop has been restarted with this body - the loop end will fail
+            LOGGER.coding("Unable to reconfigure loop body of " + headNNC.getNameWithID() + ": " + ile.getMessage(),
+                ile);
+            return;
+        }
+        LOGGER.debug("Output specs of " + headNNC.getNameWithID() + " changed, reconfiguring loop body");
+        // reset in reverse order (last nodes first), as in restartLoop
+        ListIterator<NodeAndInports> li = loopBodyNodes.listIterator(loopBodyNodes.size());
+        while (li.hasPrevious()) {
+            NodeContainer nc = m_workflow.getNode(li.previous().getID());
+            if (nc instanceof SingleNodeContainer && nc.isResetable()) {
+                invokeResetOnSingleNodeContainer((SingleNodeContainer)nc);
+            }
+        }
+        configureNodeAndPortSuccessors(headNNC.getID(), null, false, true, false);
+        for (NodeAndInports nai : loopBodyNodes) {
+            NodeContainer nc = m_workflow.getNode(nai.getID());
+            if (nc instanceof SingleNodeContainer
+                && (nc.getInternalState().equals(IDLE) || nc.getInternalState().equals(CONFIGURED))) {
+                ((SingleNodeContainer)nc).markForExecution(true);
+            }
+        }
+    }
+
+    /* Whether two arrays of port object specs are equal. Spec classes that do not implement equals compare by
+     * identity, i.e. they are considered changed, which is the safe choice (the loop body is reconfigured).
+     */
+    private static boolean isEqualSpecs(final PortObjectSpec[] specs1, final PortObjectSpec[] specs2) {
+        if (specs1 == null || specs2 == null || specs1.length != specs2.length) {
+            return false;
+        }
+        for (int i = 0; i < specs1.length; i++) {
+            if (specs1[i] != specs2[i] && (specs1[i] == null || !specs1[i].equals(specs2[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* The node model declares that its configure does not depend on flow variables or the loop iteration and no
+     * node setting is overwritten by a flow variable (which would need to be applied in configure). */
+    private static boolean isConfiguredIndependentOfFlowVariables(final NativeNodeContainer nnc) {
+        return nnc.isModelCompatibleTo(IterationIndependentConfigureNodeModel.class)
+            && nnc.getSingleNodeContainerSettings().getVariablesSettings() == null;
+    }
+
     /* Parallelize this "loop": create appropriate number of parallel
      * branches executing the matching chunks.
      */
@@ -3397,12 +3565,13 @@ public final class WorkflowManager extends NodeContainer
             }
             ParallelizedChunkContentMaster pccm =
                 new ParallelizedChunkContentMaster(subwfm, endNode, startNode.getNrRemoteChunks());
+            pccm.setMaxConcurrentChunks(startNode.getMaxConcurrentChunks());
             for (int i = 0; i < startNode.getNrRemoteChunks(); i++) {
                 ParallelizedChunkContent copiedNodes =
                     duplicateLoopBodyInSubWFMandAttach(subwfm, extInConnections, startID, endID, loopNodes, i);
-                copiedNodes.executeChunk();
                 pccm.addParallelChunk(i, copiedNodes);
             }
+            pccm.executeChunks();
             // make sure head knows his chunk master (for potential cleanup)
             startNode.setChunkMaster(pccm);
         }
@@ -6286,13 +6455,7 @@ public final class WorkflowManager extends NodeContainer
      * @return collection of ConnectionContainer in this WFM
      */
     public Collection<ConnectionContainer> getConnectionContainers() {
-        Set<ConnectionContainer> result = new LinkedHashSet<ConnectionContainer>();
-        for (Set<ConnectionContainer> s : m_workflow.getConnectionsBySourceValues()) {
-            if (s != null) {
-                result.addAll(s);
-            }
-        }
-        return result;
+        return m_workflow.getConnectionsSnapshot();
     }
 
     /**
@@ -6350,18 +6513,17 @@ public final class WorkflowManager extends NodeContainer
     /** {@inheritDoc} */
     @Override
     public boolean containsExecutedNode() {
-        try (WorkflowLock lock = lock()) {
-            for (NodeContainer nc : m_workflow.getNodeValues()) {
-                if (nc instanceof WorkflowManager) {
-                    if (((WorkflowManager)nc).containsExecutedNode()) {
-                        return true;
-                    }
-                } else if (nc.getInternalState().equals(EXECUTED)) {
+        // read-only query, works on a snapshot and doesn't need the workflow lock
+        for (NodeContainer nc : m_workflow.getNodeValues()) {
+            if (nc instanceof WorkflowManager) {
+                if (((WorkflowManager)nc).containsExecutedNode()) {
                     return true;
                 }
+            } else if (nc.getInternalState().equals(EXECUTED)) {
+                return true;
             }
-            return false;
         }
+        return false;
     }
 
     /**
@@ -6391,25 +6553,25 @@ public final class WorkflowManager extends NodeContainer
         final List<Type> asList = Arrays.asList(types);
         CheckUtils.checkArgument(asList.size() > 0 && !asList.contains(null),
             "Type list must not be empty, nor contain null");
-        try (WorkflowLock lock = lock()) {
-            ArrayList<Pair<String, NodeMessage>> result = new ArrayList<>();
-            for (NodeContainer nc : m_workflow.getNodeValues()) {
-                if (nc instanceof NativeNodeContainer) {
-                    if (asList.contains(nc.getNodeMessage().getMessageType())) {
-                        result.add(Pair.create(nc.getNameWithID(), nc.getNodeMessage()));
-                    }
-                } else if (nc instanceof SubNodeContainer) {
-                    List<Pair<String, NodeMessage>> subResult =
-                        ((SubNodeContainer)nc).getWorkflowManager().getNodeMessages(types);
-                    result.addAll(subResult);
-                } else {
-                    assert nc instanceof WorkflowManager;
-                    List<Pair<String, NodeMessage>> subResult = ((WorkflowManager)nc).getNodeMessages(types);
-                    result.addAll(subResult);
+        // read-only query, works on a snapshot and doesn't need the workflow lock
+        ArrayList<Pair<String, NodeMessage>> result = new ArrayList<>();
+        for (NodeContainer nc : m_workflow.getNodeValues()) {
+            if (nc instanceof NativeNodeContainer) {
+                NodeMessage nodeMessage = nc.getNodeMessage();
+                if (asList.contains(nodeMessage.getMessageType())) {
+                    result.add(Pair.create(nc.getNameWithID(), nodeMessage));
                 }
+            } else if (nc instanceof SubNodeContainer) {
+                List<Pair<String, NodeMessage>> subResult =
+                    ((SubNodeContainer)nc).getWorkflowManager().getNodeMessages(types);
+                result.addAll(subResult);
+            } else {
+                assert nc instanceof WorkflowManager;
+                List<Pair<String, NodeMessage>> subResult = ((WorkflowManager)nc).getNodeMessages(types);
+                result.addAll(subResult);
             }
-            return result;
         }
+        return result;
     }
 
     /**
@@ -8236,6 +8398,27 @@ public final class WorkflowManager extends NodeContainer
         }
     }
 
+    /**
+     * Same as {@link #save(File, WorkflowSaveHelper, ExecutionMonitor)} but run in a background thread so that the
+     * caller (e.g. the UI thread doing an auto-save) isn't blocked. Background saves of all workflows are run one
+     * after another in submission order. As with the synchronous save only nodes whose directory is marked dirty are
+     * written, everything else is left untouched.
+     *
+     * @param directory The directory to save in
+     * @param saveHelper ...
+     * @param exec The execution monitor
+     * @return A future that completes when the save is done, carrying the exception if the save failed
+     *         ({@link IOException}, {@link CanceledExecutionException} or {@link LockFailedException}).
+     * @since 3.5
+     */
+    public Future<Void> saveInBackground(final File directory, final WorkflowSaveHelper saveHelper,
+        final ExecutionMonitor exec) {
+        return BACKGROUND_SAVER.submit(() -> {
+            save(directory, saveHelper, exec);
+            return null;
+        });
+    }
+
     /**
      * Delete directories of removed nodes. This is part of the save routine to commit the changes. Called from the
      * saving persistor class. The argument list is cleared when this method returns.
@@ -8465,6 +8648,30 @@ public final class WorkflowManager extends NodeContainer
         }
     }
 
+    /**
+     * Non-blocking variant of {@link #getNodeContainerState()}, meant for clients polling the state (e.g. UI or
+     * monitoring code). If the workflow lock is held by another thread (e.g. while a large branch is reset or
+     * configured) the state that was published when the lock was last released is returned, which may be outdated.
+     * Code that relies on the up-to-date state (saving, execution control) must use
+     * {@link #getNodeContainerState()}, which waits for the lock.
+     *
+     * @return the current or, if the lock is contended, the most recently published state.
+     * @since 3.5
+     */
+    public NodeContainerState getNodeContainerStateNonBlocking() {
+        if (m_workflowLock.isHeldByCurrentThread()) {
+            return m_workflowLock.getWFMInternalState();
+        }
+        if (m_workflowLock.tryLock()) {
+            try {
+                return m_workflowLock.getWFMInternalState();
+            } finally {
+                m_workflowLock.unlock();
+            }
+        }
+        return getMostRecentInternalState();
+    }
+
     /**
      * Calls {@link NodeContainer#getInternalState()} - used by the lock instance to get the originally assigned
      * workflow state as {@link #getInternalState()} is overridden in this class.
@@ -48,7 +48,10 @@
  */
 package org.knime.core.node.workflow.virtual.parchunk;
 
+import java.util.Map;
+
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.WorkflowManager;
 
@@ -174,4 +177,14 @@ public final class ParallelizedChunkContent {
                 m_virtualOutputID, VirtualParallelizedChunkPortObjectOutNodeModel.class);
         return vpoonm.getOutObjects();
     }
+
+    /**
+     * @return the flow variables available at the end node of this chunk.
+     * @since 3.5
+     */
+    public Map<String, FlowVariable> getOutFlowVariables() {
+        VirtualParallelizedChunkPortObjectOutNodeModel vpoonm = m_manager.castNodeModel(
+                m_virtualOutputID, VirtualParallelizedChunkPortObjectOutNodeModel.class);
+        return vpoonm.getOutFlowVariables();
+    }
 }
@@ -48,11 +48,18 @@
  */
 package org.knime.core.node.workflow.virtual.parchunk;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
 import org.knime.core.node.workflow.LoopEndParallelizeNode;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeStateChangeListener;
 import org.knime.core.node.workflow.NodeStateEvent;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.ThreadUtils;
 
 /**
  * Represents all parallel chunks ({@link ParallelizedChunkContent}) together and also encapsulating metanode.
@@ -61,6 +68,20 @@ import org.knime.core.node.workflow.WorkflowManager;
  */
 public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
 
+    /** Starts pending chunks on behalf of {@link #stateChanged(NodeStateEvent)}. State changes are reported by a
+     * thread holding the lock of the workflow the chunks live in (and of its parents), starting a chunk takes the
+     * lock of the chunk's workflow - so the start is handed off instead of nesting the locks in the notifying
+     * thread. */
+    private static final Executor CHUNK_STARTER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        /** {@inheritDoc} */
+        @Override
+        public Thread newThread(final Runnable r) {
+            Thread t = new Thread(r, "KNIME-Parallel-Chunk-Starter");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
     /** Individual chunks. */
     private ParallelizedChunkContent[] m_chunks;
 
@@ -70,6 +91,16 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
     /** end node waiting for chunks. */
     private LoopEndParallelizeNode m_endNode;
 
+    /** max number of chunks executing at the same time, see {@link #setMaxConcurrentChunks(int)}. */
+    private int m_maxConcurrentChunks = Integer.MAX_VALUE;
+
+    /** number of chunks whose execution was triggered, chunks are started in index order. */
+    private final AtomicInteger m_nrStartedChunks = new AtomicInteger();
+
+    /** 1 for chunks whose {@link ParallelizedChunkContent#executeChunk()} has returned, i.e. that are queued or
+     * executing - or failed if neither executing nor executed. */
+    private final AtomicIntegerArray m_triggeredChunks;
+
     /** Create new chunk object master - also knows Workflowmanager
      * the chunks are located in.
      *
@@ -82,6 +113,7 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
         m_manager = wfm;
         m_endNode = endNode;
         m_chunks = new ParallelizedChunkContent[chunkCount];
+        m_triggeredChunks = new AtomicIntegerArray(chunkCount);
         m_endNode.setParallelChunkMaster(this);
     }
 
@@ -113,18 +145,68 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
         return m_chunks[i];
     }
 
+    /** Limits the number of chunks that are executed at the same time. The remaining chunks are started (in index
+     * order) as soon as running chunks finish. Must be called before {@link #executeChunks()}.
+     * @param maxConcurrentChunks the maximum, values &lt; 1 are treated as 1.
+     * @since 3.5
+     */
+    public void setMaxConcurrentChunks(final int maxConcurrentChunks) {
+        m_maxConcurrentChunks = Math.max(1, maxConcurrentChunks);
+    }
+
     /**
-     * Start execution of all chunks.
+     * Start execution of all chunks (or as many as allowed by {@link #setMaxConcurrentChunks(int)}, the others
+     * follow as running chunks finish).
      */
     public void executeChunks() {
-        for (int i = 0; i < m_chunks.length; i++) {
+        final int nrStartedChunks = m_nrStartedChunks.get();
+        for (int i = 0; i < nrStartedChunks; i++) {
             ParallelizedChunkContent pcc = m_chunks[i];
             if (pcc != null) {
                 pcc.executeChunk();
+                m_triggeredChunks.set(i, 1);
             } else {
                 throw new NullPointerException("Chunk " + i + " not set!");
             }
         }
+        startPendingChunks();
+    }
+
+    /** Starts chunks not yet triggered as long as the max number of concurrent chunks isn't reached. Stops
+     * starting new chunks once a chunk has failed. */
+    private void startPendingChunks() {
+        while (true) {
+            final int next = m_nrStartedChunks.get();
+            if (next >= m_chunks.length || nrExecutingChunks() >= m_maxConcurrentChunks || nrFailedChunks() > 0) {
+                return;
+            }
+            if (m_nrStartedChunks.compareAndSet(next, next + 1)) {
+                ParallelizedChunkContent pcc = m_chunks[next];
+                if (pcc == null) {
+                    // cleaned up concurrently
+                    return;
+                }
+                pcc.executeChunk();
+                m_triggeredChunks.set(next, 1);
+            }
+        }
+    }
+
+    /** Prevents pending chunks from being started, they are counted as failed from now on. */
+    private void stopPendingChunks() {
+        m_nrStartedChunks.set(m_chunks.length);
+        for (int i = 0; i < m_chunks.length; i++) {
+            m_triggeredChunks.set(i, 1);
+        }
+    }
+
+    /**
+     * @return number of chunks that have not been started yet (only non-zero if the number of concurrent chunks is
+     * limited)
+     * @since 3.5
+     */
+    public int nrPendingChunks() {
+        return m_chunks.length - m_nrStartedChunks.get();
     }
 
     /**
@@ -132,7 +214,8 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     public int nrExecutedChunks() {
         int count = 0;
-        for (int i = 0; i < m_chunks.length; i++) {
+        final int nrStartedChunks = m_nrStartedChunks.get();
+        for (int i = 0; i < nrStartedChunks; i++) {
             ParallelizedChunkContent pcc = m_chunks[i];
             if (pcc.isExecuted()) {
                 count++;
@@ -142,13 +225,14 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
     }
 
     /**
-     * @return number of executing chunks
+     * @return number of executing chunks (including chunks that are about to be started)
      */
     public int nrExecutingChunks() {
         int count = 0;
-        for (int i = 0; i < m_chunks.length; i++) {
+        final int nrStartedChunks = m_nrStartedChunks.get();
+        for (int i = 0; i < nrStartedChunks; i++) {
             ParallelizedChunkContent pcc = m_chunks[i];
-            if (pcc.executionInProgress()) {
+            if (m_triggeredChunks.get(i) == 0 || pcc.executionInProgress()) {
                 count++;
             }
         }
@@ -160,9 +244,11 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     public int nrFailedChunks() {
         int count = 0;
-        for (int i = 0; i < m_chunks.length; i++) {
+        final int nrStartedChunks = m_nrStartedChunks.get();
+        for (int i = 0; i < nrStartedChunks; i++) {
             ParallelizedChunkContent pcc = m_chunks[i];
-            if ((!pcc.executionInProgress()) && (!pcc.isExecuted())) {
+            // chunks that are about to be started are not yet marked for execution but haven't failed either
+            if (m_triggeredChunks.get(i) == 1 && (!pcc.executionInProgress()) && (!pcc.isExecuted())) {
                 count++;
             }
         }
@@ -174,9 +260,10 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     public void cancelChunkExecution() {
         synchronized (m_chunks) {
+            stopPendingChunks();
             for (int i = 0; i < m_chunks.length; i++) {
                 ParallelizedChunkContent pbc = m_chunks[i];
-                if (pbc.executionInProgress()) {
+                if (pbc != null && pbc.executionInProgress()) {
                     pbc.cancelExecution();
                 }
             }
@@ -188,6 +275,7 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     public void cleanupChunks() {
         synchronized (m_chunks) {
+            stopPendingChunks();
             for (int i = 0; i < m_chunks.length; i++) {
                 ParallelizedChunkContent pbc = m_chunks[i];
                 if (pbc != null) {
@@ -213,6 +301,10 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
+        // a chunk may have finished -- start queued chunks (asynchronously, see CHUNK_STARTER)
+        if (nrPendingChunks() > 0) {
+            CHUNK_STARTER.execute(ThreadUtils.runnableWithContext(this::startPendingChunks, false));
+        }
         // notify end node about new status
         m_endNode.updateStatus();
     }
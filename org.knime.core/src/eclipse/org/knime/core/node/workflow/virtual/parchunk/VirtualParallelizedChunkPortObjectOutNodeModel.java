@@ -50,6 +50,8 @@ package org.knime.core.node.workflow.virtual.parchunk;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -61,6 +63,7 @@ import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.FlowVariable;
 
 
 /**
@@ -71,6 +74,7 @@ public final class VirtualParallelizedChunkPortObjectOutNodeModel extends NodeMo
 	
 	private PortObjectSpec[] m_outSpecs;
 	private PortObject[] m_outObjects;
+	private Map<String, FlowVariable> m_outFlowVariables = Collections.emptyMap();
 	
 	/**
 	 * @param inTypes 
@@ -96,6 +100,7 @@ public final class VirtualParallelizedChunkPortObjectOutNodeModel extends NodeMo
 	protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
 			throws Exception {
 		m_outObjects = inObjects;
+		m_outFlowVariables = getAvailableFlowVariables();
 		m_outSpecs = new PortObjectSpec[inObjects.length];
 		for (int i = 0; i < inObjects.length; i++) {
 		    if (inObjects[i] != null) {
@@ -114,6 +119,15 @@ public final class VirtualParallelizedChunkPortObjectOutNodeModel extends NodeMo
 		return m_outObjects;
 	}
 	
+	/**
+	 * @return the flow variables available at the end of the chunk (e.g. a
+	 *         score computed in the loop body), never null
+	 * @since 3.5
+	 */
+	public Map<String, FlowVariable> getOutFlowVariables() {
+		return m_outFlowVariables;
+	}
+
 	/**
 	 * @return the outSpecs
 	 */
@@ -126,7 +140,7 @@ public final class VirtualParallelizedChunkPortObjectOutNodeModel extends NodeMo
 	 */
 	@Override
 	protected void reset() {
-		// no internals
+		m_outFlowVariables = Collections.emptyMap();
 	}
 
 	/**
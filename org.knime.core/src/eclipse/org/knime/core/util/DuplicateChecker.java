@@ -64,6 +64,8 @@ import java.util.PriorityQueue;
 import java.util.Set;
 
 import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
 
 /**
  * This class checks for duplicates in an (almost) arbitrary number of strings.
@@ -84,10 +86,13 @@ public class DuplicateChecker {
     private static class Chunk {
         private final File m_file;
         private DataOutputStream m_out;
+        /** Stream of the current iterator, closed on dispose if the iteration didn't finish (duplicate found). */
+        private DataInputStream m_in;
         private long m_count = 0;
 
         public Chunk() throws IOException {
             m_file = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
+            TempFileManager.getInstance().register(m_file);
             m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file)));
         }
 
@@ -126,14 +131,11 @@ public class DuplicateChecker {
             if (m_out != null) {
                 throw new IllegalStateException("Bucket has not been closed yet");
             }
+            closeInput();
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(m_file)));
             return new Iterator<String>() {
-                private DataInputStream m_in;
                 private long m_read;
 
-                {
-                    m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(m_file)));
-                }
-
                 @Override
                 public boolean hasNext() {
                     boolean b = (m_read < m_count);
@@ -172,8 +174,29 @@ public class DuplicateChecker {
             return m_count;
         }
 
-        public boolean dispose() {
-            return m_file.delete();
+        /** Closes any open stream and queues the file for deletion. */
+        public void dispose() {
+            closeInput();
+            if (m_out != null) {
+                try {
+                    m_out.close();
+                } catch (IOException ex) {
+                    // ignore, file is deleted anyway
+                }
+                m_out = null;
+            }
+            TempFileManager.getInstance().delete(m_file);
+        }
+
+        private void closeInput() {
+            if (m_in != null) {
+                try {
+                    m_in.close();
+                } catch (IOException ex) {
+                    // ignore, the stream is not used anymore
+                }
+                m_in = null;
+            }
         }
     }
 
@@ -201,6 +224,9 @@ public class DuplicateChecker {
      * for details. */
     private static final Collection<Chunk> ALL_CHUNKS = new ArrayList<Chunk>();
 
+    /** Number of key chunks written to disk, i.e. of checkers exceeding the in-memory chunk size. */
+    private static final Counter CHUNKS_WRITTEN = Metrics.counter("duplicatechecker.chunksWritten");
+
     static {
         Runtime.getRuntime().addShutdownHook(new Thread() {
             /**
@@ -220,6 +246,7 @@ public class DuplicateChecker {
             }
             ALL_CHUNKS.clear();
         }
+        TempFileManager.getInstance().waitUntilFinished();
     }
 
     /**
@@ -385,6 +412,7 @@ public class DuplicateChecker {
         Chunk c = new Chunk();
         c.addKeys(m_currentChunk);
         c.close();
+        CHUNKS_WRITTEN.increment();
         m_storedChunks.add(c);
         m_currentChunk.clear();
     }
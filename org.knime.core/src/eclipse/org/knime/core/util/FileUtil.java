@@ -306,6 +306,29 @@ public final class FileUtil {
         }
     }
 
+    /**
+     * Creates the destination as hard link to the source file so that both share their content without copying it.
+     * If that is not possible, e.g. because the source is a directory, the destination already exists, or the two
+     * locations are on different file systems, the file is copied using {@link #copy(File, File)}. Only use this for
+     * files that are not modified afterwards as any modification is visible through both names.
+     *
+     * @param file The file to link or copy.
+     * @param destination The destination file, fully qualified (do not provide a directory).
+     * @throws IOException If copying fails for any reason.
+     * @since 3.5
+     */
+    public static void linkOrCopy(final File file, final File destination) throws IOException {
+        if (file.isFile() && !destination.exists()) {
+            try {
+                Files.createLink(destination.toPath(), file.toPath());
+                return;
+            } catch (IOException | UnsupportedOperationException | SecurityException e) {
+                // fall back to copy
+            }
+        }
+        copy(file, destination);
+    }
+
     /**
      * Deletes a given directory recursively. If the argument represents a file,
      * the file will be deleted. If it represents a symbolic link, it won't
@@ -0,0 +1,315 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * Processes the rows of a {@link RowInput} in chunks of consecutive rows, which are computed concurrently and
+ * processed (e.g. pushed to a row output) sequentially in input order. Used by nodes that derive a number of output
+ * rows from each input row, such as the ungroup and unpivot nodes.
+ *
+ * <p>The size of a chunk is determined by the {@link #getRowWeight(DataRow) weight} of its rows, usually the number
+ * of output rows a row expands to. A single row that exceeds the chunk weight forms a chunk on its own.
+ *
+ * @param <Out> The result of a chunk computation.
+ * @author KNIME.com, Zurich, Switzerland
+ * @since 3.5
+ */
+public abstract class OrderedChunkWorker<Out> extends MultiThreadWorker<List<DataRow>, Out> {
+
+    private final long m_chunkWeight;
+
+    private ExecutionMonitor m_exec;
+
+    /** Guards {@link #m_isAborted} and {@link #m_activeCalls}. */
+    private final Object m_abortLock = new Object();
+
+    /** Set once the run failed, no chunk is computed or processed afterwards. */
+    private boolean m_isAborted;
+
+    /** Number of chunks currently being computed or processed. */
+    private int m_activeCalls;
+
+    /**
+     * Creates a worker using as many concurrent computations as there are processors.
+     *
+     * @param chunkWeight the maximum accumulated weight of the rows of a chunk, must be &gt; 0
+     */
+    protected OrderedChunkWorker(final long chunkWeight) {
+        this(chunkWeight, 4 * Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new worker.
+     *
+     * @param chunkWeight the maximum accumulated weight of the rows of a chunk, must be &gt; 0
+     * @param maxQueueSize maximum number of finished but not yet processed chunks, see
+     *            {@link MultiThreadWorker#MultiThreadWorker(int, int)}
+     * @param maxActiveInstanceSize maximum number of concurrently computed chunks
+     */
+    protected OrderedChunkWorker(final long chunkWeight, final int maxQueueSize, final int maxActiveInstanceSize) {
+        super(maxQueueSize, maxActiveInstanceSize);
+        if (chunkWeight <= 0) {
+            throw new IllegalArgumentException("Chunk weight must be positive: " + chunkWeight);
+        }
+        m_chunkWeight = chunkWeight;
+    }
+
+    /**
+     * Returns the weight of a row, which is used to determine the chunks. The default implementation returns 1, i.e.
+     * a chunk contains up to <i>chunkWeight</i> rows.
+     *
+     * @param row the row
+     * @return its weight, at least 1
+     */
+    protected long getRowWeight(final DataRow row) {
+        return 1;
+    }
+
+    /**
+     * Computes the result of a chunk. This method is called concurrently for different chunks.
+     *
+     * @param chunk the rows of the chunk
+     * @param index the index of the chunk
+     * @return the result passed to {@link #processChunk(List, Object)}
+     * @throws Exception any exception aborts the execution and is rethrown by {@link #run(RowInput, ExecutionMonitor)}
+     */
+    protected abstract Out computeChunk(List<DataRow> chunk, long index) throws Exception;
+
+    /**
+     * Processes the result of a chunk. This method is called sequentially in the order of the input, after each call
+     * the execution is checked for cancellation.
+     *
+     * @param chunk the rows of the chunk
+     * @param result the result of {@link #computeChunk(List, long)} for the chunk
+     * @throws Exception any exception aborts the execution and is rethrown by {@link #run(RowInput, ExecutionMonitor)}
+     */
+    protected abstract void processChunk(List<DataRow> chunk, Out result) throws Exception;
+
+    /**
+     * Reads all rows of the argument input and processes them. Exceptions thrown by the computations, the processing
+     * or the input are rethrown unwrapped. If the run fails, the outstanding chunks are canceled and this method
+     * returns only after no chunk is computed or processed anymore.
+     *
+     * @param in the row input, will not be closed
+     * @param exec to check for cancellation
+     * @throws Exception the first exception thrown while reading, computing or processing a chunk
+     */
+    public void run(final RowInput in, final ExecutionMonitor exec) throws Exception {
+        m_exec = exec;
+        boolean isCompleted = false;
+        try {
+            run(() -> new ChunkIterator(in));
+            isCompleted = true;
+        } catch (CancellationException ce) {
+            exec.checkCanceled();
+            throw ce;
+        } catch (ExecutionException ee) {
+            Throwable cause = ee;
+            while ((cause instanceof ExecutionException || cause instanceof RowInputException)
+                && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw ee;
+        } finally {
+            if (!isCompleted) {
+                abortAndAwait();
+            }
+        }
+    }
+
+    /**
+     * Cancels the submitted chunks and waits until the ones currently computed or processed are done. Exceptions
+     * thrown by the input (or by {@link #getRowWeight(DataRow)}) escape {@link MultiThreadWorker#run(Iterable)}
+     * without canceling the chunks submitted before.
+     */
+    private void abortAndAwait() {
+        synchronized (m_abortLock) {
+            m_isAborted = true;
+        }
+        if (getSubmittedCount() > 0) {
+            // interrupts the running computations but also this thread, restore the state of the flag afterwards
+            boolean isInterrupted = Thread.currentThread().isInterrupted();
+            cancel(true);
+            isInterrupted |= Thread.interrupted();
+            synchronized (m_abortLock) {
+                while (m_activeCalls > 0) {
+                    try {
+                        m_abortLock.wait();
+                    } catch (InterruptedException ie) {
+                        isInterrupted = true;
+                    }
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Enters a chunk computation or processing, fails if the run was aborted. */
+    private void enterCall() {
+        synchronized (m_abortLock) {
+            if (m_isAborted) {
+                throw new CancellationException();
+            }
+            m_activeCalls++;
+        }
+    }
+
+    private void exitCall() {
+        synchronized (m_abortLock) {
+            m_activeCalls--;
+            m_abortLock.notifyAll();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final Out compute(final List<DataRow> chunk, final long index) throws Exception {
+        enterCall();
+        try {
+            return computeChunk(chunk, index);
+        } finally {
+            exitCall();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void processFinished(final ComputationTask task)
+        throws ExecutionException, CancellationException, InterruptedException {
+        final Out result = task.get();
+        enterCall();
+        try {
+            processChunk(task.getInput(), result);
+        } catch (InterruptedException | CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExecutionException(e);
+        } finally {
+            exitCall();
+        }
+        try {
+            m_exec.checkCanceled();
+        } catch (CanceledExecutionException cee) {
+            throw new CancellationException();
+        }
+    }
+
+    /** Wraps an exception of the {@link RowInput} read by the {@link ChunkIterator} */
+    @SuppressWarnings("serial")
+    private static final class RowInputException extends RuntimeException {
+        RowInputException(final Exception cause) {
+            super(cause);
+        }
+    }
+
+    /** Splits the input into chunks of consecutive rows. */
+    private final class ChunkIterator implements Iterator<List<DataRow>> {
+
+        private final RowInput m_in;
+
+        private DataRow m_next;
+
+        private boolean m_isDone;
+
+        ChunkIterator(final RowInput in) {
+            m_in = in;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (m_next == null && !m_isDone) {
+                try {
+                    m_next = m_in.poll();
+                } catch (Exception e) {
+                    throw new RowInputException(e);
+                }
+                m_isDone = m_next == null;
+            }
+            return m_next != null;
+        }
+
+        @Override
+        public List<DataRow> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<DataRow> chunk = new ArrayList<DataRow>();
+            long weight = 0;
+            while (hasNext()) {
+                final long rowWeight = getRowWeight(m_next);
+                if (!chunk.isEmpty() && weight + rowWeight > m_chunkWeight) {
+                    break;
+                }
+                chunk.add(m_next);
+                m_next = null;
+                weight += rowWeight;
+                if (weight >= m_chunkWeight) {
+                    break;
+                }
+            }
+            return chunk;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.metrics.Counter;
+import org.knime.core.util.metrics.Metrics;
+
+/**
+ * Keeps track of the temporary files and folders written by the framework (table and blob files of data containers
+ * and sorters, duplicate checker chunks, file store folders) and deletes them in the background.
+ *
+ * <p>Files are registered when they are created and accounted to the temp folder they are created in, which is the
+ * temp folder of the workflow they belong to (see {@link FileUtil#getWorkflowTempDir()}). If a quota is set (see
+ * {@link KNIMEConstants#PROPERTY_TEMP_FILES_QUOTA_IN_MB}) the registration of a new file fails once the files of that
+ * folder exceed it. The size of the tracked files is kept as a running total per folder; as files grow after they
+ * are registered, the sizes are measured again in the background about once per second.
+ *
+ * <p>Deletion is done by a small pool of threads
+ * (see {@link KNIMEConstants#PROPERTY_TEMP_FILES_DELETE_THREADS}), limited to a maximum number of deleted files per
+ * second (see {@link KNIMEConstants#PROPERTY_TEMP_FILES_DELETE_RATE}) so that disposing large blob or file store
+ * folders doesn't saturate the disc of concurrently running workflows. Files that can't be deleted, usually because
+ * a handle is still open on Windows, are retried a few times with increasing delay. Callers are expected to close
+ * their streams before deleting a file; there is no attempt to release handles by forcing a garbage collection.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ * @since 3.5
+ */
+public final class TempFileManager {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TempFileManager.class);
+
+    /** Default number of deletion threads, see {@link KNIMEConstants#PROPERTY_TEMP_FILES_DELETE_THREADS}. */
+    public static final int DEF_DELETE_THREADS = 2;
+
+    /** Default number of files deleted per second, see {@link KNIMEConstants#PROPERTY_TEMP_FILES_DELETE_RATE}. */
+    public static final int DEF_DELETE_RATE = 5000;
+
+    /** Delays in seconds before deleting a file again that could not be deleted. */
+    private static final long[] RETRY_DELAYS_IN_S = {1, 10, 60};
+
+    /** Delay in seconds between two measurements of the size of the tracked files (quota check). */
+    private static final long QUOTA_MEASURE_INTERVAL_IN_S = 1;
+
+    private static final TempFileManager INSTANCE = new TempFileManager();
+
+    private final Map<File, TempFolder> m_tempFolders = new ConcurrentHashMap<>();
+
+    private final ScheduledThreadPoolExecutor m_deleteExecutor;
+
+    private final long m_quotaInBytes;
+
+    private final long m_nanosPerDeletion;
+
+    private final Object m_rateLock = new Object();
+
+    /** Earliest time (System#nanoTime) of the next deletion, guarded by m_rateLock. */
+    private long m_nextDeletionNanos;
+
+    /** Number of queued deletions that are not yet attempted (retries are not counted), guarded by this. */
+    private int m_pendingDeletions;
+
+    /** Set while waiting for the deletions to finish (shutdown), lifts the rate limit. */
+    private volatile boolean m_isFlushing;
+
+    private final Counter m_deletedCounter = Metrics.counter("tempfiles.deleted");
+
+    private final Counter m_retriedCounter = Metrics.counter("tempfiles.deleteRetried");
+
+    private final Counter m_failedCounter = Metrics.counter("tempfiles.deleteFailed");
+
+    private TempFileManager() {
+        m_quotaInBytes = readProperty(KNIMEConstants.PROPERTY_TEMP_FILES_QUOTA_IN_MB, 0) * (1024L * 1024L);
+        final int rate = readProperty(KNIMEConstants.PROPERTY_TEMP_FILES_DELETE_RATE, DEF_DELETE_RATE);
+        m_nanosPerDeletion = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0L;
+        m_nextDeletionNanos = System.nanoTime();
+        final int threads = Math.max(1, readProperty(KNIMEConstants.PROPERTY_TEMP_FILES_DELETE_THREADS,
+            DEF_DELETE_THREADS));
+        final AtomicInteger threadCount = new AtomicInteger();
+        m_deleteExecutor = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread t = new Thread(r, "KNIME-Temp-File-Deleter-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        m_deleteExecutor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        m_deleteExecutor.allowCoreThreadTimeOut(true);
+        if (m_quotaInBytes > 0) {
+            m_deleteExecutor.scheduleWithFixedDelay(this::measureUsedBytes, QUOTA_MEASURE_INTERVAL_IN_S,
+                QUOTA_MEASURE_INTERVAL_IN_S, TimeUnit.SECONDS);
+        }
+        Metrics.registerGauge("tempfiles.tracked", this::getNrTrackedFiles);
+        Metrics.registerGauge("tempfiles.pendingDeletions", this::getNrPendingDeletions);
+    }
+
+    /** @return the singleton instance, not null. */
+    public static TempFileManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers a newly created temporary file or folder. It's accounted to its parent folder until it's passed to
+     * {@link #delete(File...)} or {@link #unregister(File)}.
+     *
+     * @param file the file or folder, not null
+     * @throws IOException if the files in the parent folder exceed the quota
+     *             (see {@link KNIMEConstants#PROPERTY_TEMP_FILES_QUOTA_IN_MB}), the file is not tracked then
+     */
+    public void register(final File file) throws IOException {
+        final File parent = getParentFolder(file);
+        if (m_quotaInBytes > 0) {
+            final TempFolder folder = m_tempFolders.get(parent);
+            checkQuota(parent, folder != null ? folder.m_usedBytes.get() : 0L);
+        }
+        final long size = sizeOf(file); // usually 0, the file or folder was just created
+        m_tempFolders.compute(parent, (dir, f) -> {
+            TempFolder result = f != null ? f : new TempFolder();
+            if (result.m_fileSizes.putIfAbsent(file, size) == null) {
+                result.m_usedBytes.addAndGet(size);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Stops tracking a file or folder, used if the caller deletes (or keeps) it itself.
+     *
+     * @param file the file or folder, not null
+     */
+    public void unregister(final File file) {
+        m_tempFolders.computeIfPresent(getParentFolder(file), (dir, f) -> {
+            Long size = f.m_fileSizes.remove(file);
+            if (size != null) {
+                f.m_usedBytes.addAndGet(-size);
+            }
+            return f.m_fileSizes.isEmpty() ? null : f;
+        });
+    }
+
+    /**
+     * Queues files or folders (deleted recursively) for deletion and returns immediately. Null arguments are ignored.
+     *
+     * @param files the files or folders to delete
+     */
+    public void delete(final File... files) {
+        for (File file : files) {
+            if (file == null) {
+                continue;
+            }
+            unregister(file);
+            synchronized (this) {
+                m_pendingDeletions++;
+            }
+            try {
+                m_deleteExecutor.execute(() -> runDeletion(file, 0));
+            } catch (RuntimeException e) {
+                deletionDone();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Blocks until all queued files have been attempted to be deleted. The rate limit doesn't apply from then on and
+     * failed deletions are no longer retried. This is meant to be called from shutdown hooks.
+     */
+    public void waitUntilFinished() {
+        m_isFlushing = true;
+        synchronized (this) {
+            while (m_pendingDeletions > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    // that should only be called from a shutdown hook, if someone interrupts us, so be it.
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runDeletion(final File file, final int attempt) {
+        final boolean isRetry = attempt > 0;
+        try {
+            final String type = file.isFile() ? "file" : "directory";
+            if (deleteRecursively(file) || !file.exists()) {
+                m_deletedCounter.increment();
+                LOGGER.debug(() -> "Deleted temporary " + type + " \"" + file.getAbsolutePath() + "\"");
+            } else if (attempt < RETRY_DELAYS_IN_S.length && !m_isFlushing) {
+                m_retriedCounter.increment();
+                m_deleteExecutor.schedule(() -> runDeletion(file, attempt + 1), RETRY_DELAYS_IN_S[attempt],
+                    TimeUnit.SECONDS);
+            } else {
+                m_failedCounter.increment();
+                LOGGER.warn("Failed to delete temporary " + type + " \"" + file.getAbsolutePath() + "\" after "
+                    + (attempt + 1) + " attempt(s)");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to delete temporary file \"" + file.getAbsolutePath() + "\": " + e.getMessage(), e);
+        } finally {
+            if (!isRetry) {
+                deletionDone();
+            }
+        }
+    }
+
+    private synchronized void deletionDone() {
+        m_pendingDeletions--;
+        if (m_pendingDeletions == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Deletes the argument file or directory recursively and returns true if this was successful. This method follows
+     * any symbolic link (in comparison to {@link FileUtil#deleteRecursively(File)}).
+     */
+    private boolean deleteRecursively(final File f) throws InterruptedException {
+        if (f.isFile()) {
+            acquireDeletionPermit();
+            return f.delete();
+        }
+        File[] files = f.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                acquireDeletionPermit();
+                if (!file.delete() && file.isDirectory()) {
+                    deleteRecursively(file);
+                }
+            }
+        }
+        acquireDeletionPermit();
+        return f.delete();
+    }
+
+    /** Blocks the calling thread so that no more than the configured number of files are deleted per second. */
+    private void acquireDeletionPermit() throws InterruptedException {
+        if (m_nanosPerDeletion <= 0 || m_isFlushing) {
+            return;
+        }
+        final long waitNanos;
+        synchronized (m_rateLock) {
+            final long now = System.nanoTime();
+            final long next = Math.max(now, m_nextDeletionNanos);
+            m_nextDeletionNanos = next + m_nanosPerDeletion;
+            waitNanos = next - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void checkQuota(final File parent, final long used) throws IOException {
+        if (used > m_quotaInBytes) {
+            throw new IOException("The temporary files in \"" + parent.getAbsolutePath()
+                + "\" exceed the quota (" + used / (1024 * 1024) + "MB used but at most "
+                + m_quotaInBytes / (1024 * 1024) + "MB are allowed). You can tweak the limit by changing the \""
+                + KNIMEConstants.PROPERTY_TEMP_FILES_QUOTA_IN_MB + "\" java property.");
+        }
+    }
+
+    /** Updates the sizes of the tracked files (which grow after they are registered) and the running totals, run
+     * periodically in the background if a quota is set. */
+    private void measureUsedBytes() {
+        for (TempFolder folder : m_tempFolders.values()) {
+            for (Map.Entry<File, Long> e : folder.m_fileSizes.entrySet()) {
+                final long oldSize = e.getValue();
+                final long newSize = sizeOf(e.getKey());
+                // fails if unregistered concurrently, which already subtracted the old size
+                if (newSize != oldSize && folder.m_fileSizes.replace(e.getKey(), oldSize, newSize)) {
+                    folder.m_usedBytes.addAndGet(newSize - oldSize);
+                }
+            }
+        }
+    }
+
+    /** @return size of the file or the files in the folder (recursively), 0 if it doesn't exist (anymore). */
+    private static long sizeOf(final File file) {
+        if (!file.isDirectory()) {
+            return file.length();
+        }
+        try (Stream<Path> paths = Files.walk(file.toPath())) {
+            return paths.mapToLong(p -> {
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(p, BasicFileAttributes.class);
+                    return attrs.isRegularFile() ? attrs.size() : 0L;
+                } catch (IOException e) {
+                    return 0L; // deleted concurrently
+                }
+            }).sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0L;
+        }
+    }
+
+    private static File getParentFolder(final File file) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        return parent != null ? parent : file.getAbsoluteFile();
+    }
+
+    private long getNrTrackedFiles() {
+        return m_tempFolders.values().stream().mapToLong(f -> f.m_fileSizes.size()).sum();
+    }
+
+    private synchronized long getNrPendingDeletions() {
+        return m_pendingDeletions;
+    }
+
+    private static int readProperty(final String key, final int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int result = Integer.parseInt(value.trim());
+            if (result < 0) {
+                throw new NumberFormatException(key + " < 0: " + result);
+            }
+            LOGGER.debug("Setting \"" + key + "\" to " + result);
+            return result;
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Unable to parse property \"" + key + "\", using default (" + defaultValue + ")", e);
+            return defaultValue;
+        }
+    }
+
+    /** The tracked files of one temp folder (usually a workflow's temp folder). */
+    private static final class TempFolder {
+
+        /** The tracked files and their size at the last measurement. */
+        private final Map<File, Long> m_fileSizes = new ConcurrentHashMap<>();
+
+        /** Running total of the sizes in {@link #m_fileSizes}. */
+        private final AtomicLong m_usedBytes = new AtomicLong();
+    }
+}
@@ -566,6 +566,17 @@ public class ThreadPool {
         return m_runningWorkers.size() - m_invisibleThreads.get();
     }
 
+    /**
+     * Returns the number of jobs submitted to this pool and its sub pools that have not finished yet, including the
+     * running and the queued jobs.
+     *
+     * @return the number of pending jobs
+     * @since 3.5
+     */
+    public int getPendingJobs() {
+        return m_pendingJobs.get();
+    }
+
     /**
      * Executes the runnable in the current thread. If the current thread is
      * taken out of this pool or any ancestor pool the number of invisible
@@ -803,11 +814,15 @@ public class ThreadPool {
     }
 
     /**
-     * Returns the size of the future queue (needed by the unit test).
+     * Returns the size of the future queue, i.e. the number of jobs waiting for a free thread. The queue is shared by
+     * a pool and all its sub pools.
      *
      * @return the queue size
+     * @since 3.5
      */
-    int getQueueSize() {
-        return m_queuedFutures.size();
+    public int getQueueSize() {
+        synchronized (m_queuedFutures) {
+            return m_queuedFutures.size();
+        }
     }
 }
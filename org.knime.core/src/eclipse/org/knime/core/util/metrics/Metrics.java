@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME GmbH, Konstanz, Germany
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME GMBH herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME): created
+ */
+package org.knime.core.util.metrics;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Registry of runtime metrics such as thread pool queue depth, number of open table buffers, backlog of the
+ * asynchronous table writers, temp directory usage or memory alerts. Each metric is a named <code>long</code> value
+ * that is either a {@link Counter} updated by the instrumented component or a gauge that is computed when polled.
+ *
+ * <p>The current values can be polled with {@link #snapshot()} or via JMX, where all metrics are exposed as read-only
+ * attributes of the MBean {@value #OBJECT_NAME}. Metric names are dot separated, starting with the component, e.g.
+ * <code>threadpool.global.queued</code>.
+ *
+ * @author KNIME.com, Zurich, Switzerland
+ * @since 3.5
+ */
+public final class Metrics {
+
+    /** Name of the MBean exposing all metrics as attributes. */
+    public static final String OBJECT_NAME = "org.knime.core:type=Metrics";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(Metrics.class);
+
+    private static final ConcurrentMap<String, LongSupplier> METRICS = new ConcurrentHashMap<>();
+
+    static {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL;
+        registerGauge("threadpool.global.max", pool::getMaxThreads);
+        registerGauge("threadpool.global.running", pool::getRunningThreads);
+        registerGauge("threadpool.global.queued", pool::getQueueSize);
+        registerGauge("threadpool.global.pending", pool::getPendingJobs);
+        registerGauge("tempdir.usableBytes", () -> new File(KNIMEConstants.getKNIMETempDir()).getUsableSpace());
+        registerGauge("tempdir.totalBytes", () -> new File(KNIMEConstants.getKNIMETempDir()).getTotalSpace());
+        registerMBean();
+    }
+
+    private Metrics() {
+    }
+
+    private static void registerMBean() {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsMBean(), name);
+            }
+        } catch (JMException | SecurityException e) {
+            LOGGER.debug("Unable to register metrics MBean \"" + OBJECT_NAME + "\": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the counter with the given name, registering a new one if it does not exist yet.
+     *
+     * @param name the name of the metric, not <code>null</code>
+     * @return the counter, never <code>null</code>
+     * @throws IllegalArgumentException if a gauge is registered under the given name
+     */
+    public static Counter counter(final String name) {
+        final LongSupplier metric = METRICS.computeIfAbsent(name, n -> new Counter());
+        if (!(metric instanceof Counter)) {
+            throw new IllegalArgumentException("Metric \"" + name + "\" is not a counter");
+        }
+        return (Counter)metric;
+    }
+
+    /**
+     * Registers a gauge, i.e. a metric whose value is computed by the argument supplier whenever the metrics are
+     * polled. The supplier must be fast, thread-safe and must not hold references to objects with a shorter lifetime
+     * than the application. A previously registered gauge with the same name is replaced.
+     *
+     * @param name the name of the metric, not <code>null</code>
+     * @param supplier computes the current value, not <code>null</code>
+     */
+    public static void registerGauge(final String name, final LongSupplier supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException("Supplier must not be null");
+        }
+        METRICS.put(name, supplier);
+    }
+
+    /**
+     * Removes the metric with the given name.
+     *
+     * @param name the name of the metric
+     */
+    public static void unregister(final String name) {
+        METRICS.remove(name);
+    }
+
+    /** @return the names of all registered metrics, sorted */
+    static SortedSet<String> names() {
+        return new TreeSet<>(METRICS.keySet());
+    }
+
+    /**
+     * Returns the current value of a single metric.
+     *
+     * @param name the name of the metric
+     * @return the value or <code>null</code> if no such metric exists or its value can't be determined
+     */
+    public static Long get(final String name) {
+        final LongSupplier metric = METRICS.get(name);
+        return metric == null ? null : evaluate(name, metric);
+    }
+
+    /**
+     * Returns the current values of all metrics, sorted by name. Metrics whose value can't be determined are omitted.
+     *
+     * @return a new, unmodifiable map of metric names to values
+     */
+    public static SortedMap<String, Long> snapshot() {
+        final SortedMap<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, LongSupplier> e : METRICS.entrySet()) {
+            final Long value = evaluate(e.getKey(), e.getValue());
+            if (value != null) {
+                result.put(e.getKey(), value);
+            }
+        }
+        return Collections.unmodifiableSortedMap(result);
+    }
+
+    private static Long evaluate(final String name, final LongSupplier metric) {
+        try {
+            return metric.getAsLong();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to determine value of metric \"" + name + "\": " + e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,2 @@
+/** Runtime metrics of the KNIME core (thread pools, tables, memory), also available as JMX MBean. */
+package org.knime.core.util.metrics;